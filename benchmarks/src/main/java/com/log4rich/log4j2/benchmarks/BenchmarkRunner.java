@@ -0,0 +1,44 @@
+package com.log4rich.log4j2.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for the benchmark suite.
+ *
+ * <p>Accepts the usual JMH command line (benchmark regex, {@code -f}, {@code -wi}, ...)
+ * and always adds the GC profiler, so every run reports allocation rates
+ * ({@code gc.alloc.rate.norm}) next to ns/op. Results are also written to
+ * {@code target/jmh-results.json} for comparison between releases.</p>
+ */
+public final class BenchmarkRunner {
+
+    /** Logger configured at INFO in log4Rich.config; used for enabled-level paths. */
+    static final String ENABLED_LOGGER = "bench.enabled";
+
+    /** Logger configured at INFO in log4Rich.config; used for disabled DEBUG paths. */
+    static final String DISABLED_LOGGER = "bench.disabled";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLine);
+        if (commandLine.getIncludes().isEmpty()) {
+            builder.include("com\\.log4rich\\.log4j2\\.benchmarks\\..*");
+        }
+        if (!commandLine.getResult().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON).result("target/jmh-results.json");
+        }
+        Options options = builder.addProfiler(GCProfiler.class).build();
+
+        new Runner(options).run();
+    }
+}
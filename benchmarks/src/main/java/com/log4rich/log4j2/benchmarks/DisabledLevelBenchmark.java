@@ -0,0 +1,64 @@
+package com.log4rich.log4j2.benchmarks;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the disabled-level paths of {@code Log4RichLogger}: the cost a
+ * caller pays for a DEBUG statement when the logger is configured at INFO.
+ *
+ * <p>{@code debugVarargs} passes an explicit array so it keeps measuring
+ * {@code debug(String, Object...)}; {@code debugThreeParams} measures the
+ * fixed-arity overload a three-argument call binds to. Every benchmark should report zero
+ * allocations under {@code -prof gc} once escape analysis has removed the
+ * caller's array; anything else means the disabled path is leaking work.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DisabledLevelBenchmark {
+
+    private Logger logger;
+
+    private String user;
+    private Integer items;
+    private Long elapsed;
+
+    @Setup
+    public void setup() {
+        logger = LogManager.getLogger(BenchmarkRunner.DISABLED_LOGGER);
+        user = "john";
+        items = 42;
+        elapsed = 1234L;
+    }
+
+    @Benchmark
+    public boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
+    }
+
+    @Benchmark
+    public void debugVarargs() {
+        logger.debug("User {} bought {} items in {} ms", new Object[] {user, items, elapsed});
+    }
+
+    @Benchmark
+    public void debugThreeParams() {
+        logger.debug("User {} bought {} items in {} ms", user, items, elapsed);
+    }
+}
@@ -0,0 +1,77 @@
+package com.log4rich.log4j2.benchmarks;
+
+import com.log4rich.log4j2.bridge.LoggingEngine;
+import org.apache.logging.log4j.Level;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every {@link LoggingEngine} entry point with the level enabled,
+ * so each call runs the full pipeline: formatting, context and log4Rich
+ * delegation. Only {@code log()} checks the level itself; the specialised
+ * entry points rely on the caller's cached-level check.
+ *
+ * <p>Parameters are read from non-final state fields so the JIT cannot
+ * constant-fold the formatting work away. Output goes to the file appender
+ * configured in {@code log4Rich.config} on the benchmark classpath.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LoggingEngineBenchmark {
+
+    private com.log4rich.core.Logger log4RichLogger;
+
+    private String user;
+    private Integer items;
+    private Long elapsed;
+    private Throwable failure;
+
+    @Setup
+    public void setup() {
+        log4RichLogger = com.log4rich.Log4Rich.getLogger(BenchmarkRunner.ENABLED_LOGGER);
+        user = "john";
+        items = 42;
+        elapsed = 1234L;
+        failure = new IllegalStateException("benchmark failure");
+    }
+
+    @Benchmark
+    public void log() {
+        LoggingEngine.log(log4RichLogger, Level.INFO, null,
+                "User {} bought {} items in {} ms", null, user, items, elapsed);
+    }
+
+    @Benchmark
+    public void logSimple() {
+        LoggingEngine.logSimple(log4RichLogger, Level.INFO, "Request completed");
+    }
+
+    @Benchmark
+    public void logSingleParam() {
+        LoggingEngine.logSingleParam(log4RichLogger, Level.INFO, "User {} logged in", user);
+    }
+
+    @Benchmark
+    public void logTwoParams() {
+        LoggingEngine.logTwoParams(log4RichLogger, Level.INFO, "User {} bought {} items", user, items);
+    }
+
+    @Benchmark
+    public void logWithException() {
+        LoggingEngine.logWithException(log4RichLogger, Level.INFO, "Request failed", failure);
+    }
+}
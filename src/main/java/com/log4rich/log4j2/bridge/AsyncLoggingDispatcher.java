@@ -0,0 +1,504 @@
+package com.log4rich.log4j2.bridge;
+
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.message.ReusableMessage;
+import org.apache.logging.log4j.status.StatusLogger;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Opt-in asynchronous logging mode for {@link LoggingEngine}.
+ *
+ * <p>Calling threads only capture the level, pattern, raw parameters,
+ * throwable and an MDC/NDC snapshot into a preallocated ring buffer slot.
+ * A single background consumer formats each message and calls
+ * {@code com.log4rich.core.Logger.log}, so request threads no longer pay for
+ * formatting or log4Rich I/O.</p>
+ *
+ * <p>Enable with {@code -Dlog4rich.bridge.async.enabled=true} (ring size via
+ * {@code log4rich.bridge.async.bufferSize}, default 8192, rounded up to a power
+ * of two), or programmatically with {@link #start(int)}. When the ring is full
+ * the event is logged synchronously on the calling thread rather than dropped
+ * or blocked. Events are drained on {@link #stop(long)},
+ * {@code LogManager.shutdown()} and JVM shutdown.</p>
+ *
+ * <p>Trade-offs, as with any async logger: parameters are formatted later, so
+ * mutable parameter objects should not be changed after the call; and log4Rich
+ * sees the consumer thread, so {@code %thread} and caller location reflect it.
+ * Message suppliers are evaluated on the calling thread.</p>
+ */
+public final class AsyncLoggingDispatcher {
+
+    /** Default ring buffer size. */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /** Default time allowed for draining queued events on shutdown. */
+    public static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    private static final String THREAD_NAME = "log4rich-bridge-async";
+
+    // How the consumer formats a slot
+    private static final int PARAMS_NONE = 0;
+    private static final int PARAMS_ONE = 1;
+    private static final int PARAMS_TWO = 2;
+    private static final int PARAMS_ARRAY = 3;
+    private static final int PARAMS_FIXED = 4;
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 200;
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private static volatile AsyncLoggingDispatcher active;
+
+    static {
+        if (BridgeProperties.getBoolean("async.enabled", false)) {
+            start(BridgeProperties.getInt("async.bufferSize", DEFAULT_BUFFER_SIZE));
+        }
+    }
+
+    private final AsyncLogEvent[] ring;
+    private final int mask;
+
+    // Next sequence to hand to a producer
+    private final AtomicLong claimSequence = new AtomicLong();
+
+    // Next sequence the consumer will process; slots below it are free
+    private final AtomicLong consumeSequence = new AtomicLong();
+
+    private final ConsumerThread consumer;
+    private final Thread shutdownHook;
+    private volatile boolean running = true;
+
+    // Event being rendered; only touched by the consumer thread
+    private AsyncLogEvent current;
+
+    private AsyncLoggingDispatcher(int bufferSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, bufferSize) - 1) << 1;
+        this.ring = new AsyncLogEvent[capacity];
+        for (int i = 0; i < capacity; i++) {
+            ring[i] = new AsyncLogEvent();
+        }
+        this.mask = capacity - 1;
+
+        this.consumer = new ConsumerThread(this);
+        this.consumer.setDaemon(true);
+        this.shutdownHook = new Thread(() -> shutdown(DEFAULT_SHUTDOWN_TIMEOUT_MILLIS),
+            THREAD_NAME + "-shutdown");
+    }
+
+    // ========== Lifecycle ==========
+
+    /**
+     * Starts async mode with the default ring buffer size.
+     */
+    public static void start() {
+        start(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Starts async mode. Does nothing if it is already running.
+     *
+     * @param bufferSize ring buffer slots, rounded up to a power of two
+     */
+    public static synchronized void start(int bufferSize) {
+        if (active != null) {
+            return;
+        }
+        AsyncLoggingDispatcher dispatcher = new AsyncLoggingDispatcher(bufferSize);
+        dispatcher.consumer.start();
+        try {
+            Runtime.getRuntime().addShutdownHook(dispatcher.shutdownHook);
+        } catch (IllegalStateException e) {
+            // JVM already shutting down; stop() will still drain
+        }
+        active = dispatcher;
+    }
+
+    /**
+     * Stops async mode, draining queued events first. Subsequent events are
+     * logged synchronously.
+     *
+     * @param timeoutMillis maximum time to wait for the consumer to drain
+     */
+    public static synchronized void stop(long timeoutMillis) {
+        AsyncLoggingDispatcher dispatcher = active;
+        if (dispatcher == null) {
+            return;
+        }
+        active = null;
+        try {
+            Runtime.getRuntime().removeShutdownHook(dispatcher.shutdownHook);
+        } catch (IllegalStateException e) {
+            // Called during JVM shutdown
+        }
+        dispatcher.shutdown(timeoutMillis);
+    }
+
+    /**
+     * Checks whether async mode is running.
+     */
+    public static boolean isRunning() {
+        return active != null;
+    }
+
+    /**
+     * Number of events published but not yet rendered.
+     */
+    public static long pendingEvents() {
+        AsyncLoggingDispatcher dispatcher = active;
+        return dispatcher != null
+            ? dispatcher.claimSequence.get() - dispatcher.consumeSequence.get()
+            : 0;
+    }
+
+    /**
+     * The running dispatcher, or null when logging synchronously.
+     */
+    static AsyncLoggingDispatcher active() {
+        return active;
+    }
+
+    /**
+     * The event currently being rendered, when called from the consumer
+     * thread; null otherwise. Used by {@link ThreadContextProvider} to hand
+     * log4Rich the caller's captured context instead of the consumer's.
+     * Resolved through the thread rather than {@link #active}, which is
+     * already cleared while {@link #stop(long)} drains the ring.
+     */
+    static AsyncLogEvent renderingEvent() {
+        Thread thread = Thread.currentThread();
+        if (!(thread instanceof ConsumerThread)) {
+            return null;
+        }
+        return ((ConsumerThread) thread).dispatcher.current;
+    }
+
+    private void shutdown(long timeoutMillis) {
+        running = false;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(Math.max(1, timeoutMillis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========== Producer side ==========
+
+    /**
+     * Publishes a plain message, optionally with a throwable.
+     */
+    boolean publishMessage(com.log4rich.core.Logger log4RichLogger,
+                           com.log4rich.core.LogLevel richLevel,
+                           String message,
+                           Throwable throwable) {
+        AsyncLogEvent event = claim();
+        if (event == null) {
+            return false;
+        }
+        event.set(log4RichLogger, richLevel, null, message, throwable, PARAMS_NONE, null, null, null);
+        event.publish();
+        return true;
+    }
+
+    /**
+     * Publishes a single-parameter message.
+     */
+    boolean publishParams(com.log4rich.core.Logger log4RichLogger,
+                          com.log4rich.core.LogLevel richLevel,
+                          String message,
+                          Object param) {
+        AsyncLogEvent event = claim();
+        if (event == null) {
+            return false;
+        }
+        event.set(log4RichLogger, richLevel, null, message, null, PARAMS_ONE, snapshot(param), null, null);
+        event.publish();
+        return true;
+    }
+
+    /**
+     * Publishes a two-parameter message.
+     */
+    boolean publishParams(com.log4rich.core.Logger log4RichLogger,
+                          com.log4rich.core.LogLevel richLevel,
+                          String message,
+                          Object param1,
+                          Object param2) {
+        AsyncLogEvent event = claim();
+        if (event == null) {
+            return false;
+        }
+        event.set(log4RichLogger, richLevel, null, message, null, PARAMS_TWO, snapshot(param1), snapshot(param2), null);
+        event.publish();
+        return true;
+    }
+
+    /**
+     * Publishes a fixed-arity call of up to ten parameters. The parameters are
+     * copied into the slot's own array, so the caller's recycled array can be
+     * released on return and nothing is allocated.
+     */
+    boolean publishParams(com.log4rich.core.Logger log4RichLogger,
+                          com.log4rich.core.LogLevel richLevel,
+                          Marker marker,
+                          StackTraceElement location,
+                          String message,
+                          Object[] params,
+                          int count) {
+        AsyncLogEvent event = claim();
+        if (event == null) {
+            return false;
+        }
+        event.set(log4RichLogger, richLevel, marker, message, null, PARAMS_FIXED, null, null, null);
+        event.location = location;
+        for (int i = 0; i < count; i++) {
+            event.fixedParams[i] = snapshot(params[i]);
+        }
+        event.fixedCount = count;
+        event.publish();
+        return true;
+    }
+
+    /**
+     * Publishes a general event: any message type, marker, caller location, throwable and parameters.
+     */
+    boolean publish(com.log4rich.core.Logger log4RichLogger,
+                    com.log4rich.core.LogLevel richLevel,
+                    Marker marker,
+                    StackTraceElement location,
+                    Object message,
+                    Throwable throwable,
+                    Object[] params) {
+        // Suppliers capture caller state; resolve them before leaving this thread
+        if (message instanceof Supplier) {
+            message = MessageExtractor.extractMessage(message);
+        } else if (message instanceof ReusableMessage) {
+            // Recycled once the logging call returns; keep its text instead
+            message = ((ReusableMessage) message).getFormattedMessage();
+        } else if (message instanceof CharSequence && !(message instanceof String)) {
+            // A StringBuilder may be changed by the caller once we return
+            message = message.toString();
+        }
+        AsyncLogEvent event = claim();
+        if (event == null) {
+            return false;
+        }
+        event.set(log4RichLogger, richLevel, marker, message, throwable, PARAMS_ARRAY, null, null, snapshot(params));
+        event.location = location;
+        event.publish();
+        return true;
+    }
+
+    /**
+     * A parameter safe to format later: a mutable CharSequence, such as a
+     * recycled {@code Unbox.box} builder, is replaced by its text.
+     */
+    private static Object snapshot(Object param) {
+        return param instanceof CharSequence && !(param instanceof String) ? param.toString() : param;
+    }
+
+    /**
+     * The parameters with any mutable CharSequence replaced by its text; the
+     * array is copied first, as it may be the caller's own.
+     */
+    private static Object[] snapshot(Object[] params) {
+        if (params == null) {
+            return null;
+        }
+        Object[] copy = params;
+        for (int i = 0; i < params.length; i++) {
+            Object text = snapshot(params[i]);
+            if (text != params[i]) {
+                if (copy == params) {
+                    copy = params.clone();
+                }
+                copy[i] = text;
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Claims the next free slot and captures the caller's context into it,
+     * or returns null if the ring is full, the dispatcher is stopping, or the
+     * caller is the consumer itself (re-entrant logging from toString()).
+     */
+    private AsyncLogEvent claim() {
+        if (!running || Thread.currentThread() == consumer) {
+            return null;
+        }
+        long sequence;
+        do {
+            sequence = claimSequence.get();
+            if (sequence - consumeSequence.get() >= ring.length) {
+                return null;
+            }
+        } while (!claimSequence.compareAndSet(sequence, sequence + 1));
+
+        AsyncLogEvent event = ring[(int) sequence & mask];
+        event.sequenceToPublish = sequence;
+        if (!running) {
+            // Stopped after the check above: the consumer may already have
+            // exited, so publish the slot empty and log on this thread
+            event.publish();
+            return null;
+        }
+        event.contextMap = ContextBridge.getImmutableContext();
+        event.contextStack = ContextBridge.getImmutableStack();
+        event.classLoader = Thread.currentThread().getContextClassLoader();
+        return event;
+    }
+
+    // ========== Consumer side ==========
+
+    private void consume() {
+        long next = 0;
+        int idle = 0;
+        while (true) {
+            AsyncLogEvent event = ring[(int) next & mask];
+            if (event.published == next) {
+                if (event.log4RichLogger != null) {
+                    render(event);
+                }
+                event.clear();
+                consumeSequence.lazySet(++next);
+                idle = 0;
+            } else if (!running && claimSequence.get() == next) {
+                return;
+            } else if (++idle <= SPIN_TRIES) {
+                // busy spin briefly for bursty traffic
+            } else if (idle <= SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+        }
+    }
+
+    private void render(AsyncLogEvent event) {
+        current = event;
+        try {
+            String finalMessage;
+            switch (event.paramMode) {
+                case PARAMS_ONE:
+                    finalMessage = MessageExtractor.formatSingleParameter((String) event.message, event.param1);
+                    break;
+                case PARAMS_TWO:
+                    finalMessage = MessageExtractor.formatTwoParameters((String) event.message, event.param1, event.param2);
+                    break;
+                case PARAMS_FIXED:
+                    finalMessage = LoggingEngine.formatParams(event.location, event.marker,
+                        (String) event.message, event.fixedParams, event.fixedCount);
+                    break;
+                case PARAMS_ARRAY:
+                    finalMessage = LoggingEngine.formatMessage(event.location, event.marker, event.message, event.params);
+                    break;
+                default:
+                    finalMessage = (String) event.message;
+                    break;
+            }
+            LoggingEngine.emit(event.log4RichLogger, event.richLevel, finalMessage, event.throwable);
+        } catch (Throwable t) {
+            StatusLogger.getLogger().error("Async logging failed to render an event", t);
+        } finally {
+            current = null;
+        }
+    }
+
+    /**
+     * The consumer thread, which knows the dispatcher it drains.
+     */
+    private static final class ConsumerThread extends Thread {
+        final AsyncLoggingDispatcher dispatcher;
+
+        ConsumerThread(AsyncLoggingDispatcher dispatcher) {
+            super(THREAD_NAME);
+            this.dispatcher = dispatcher;
+        }
+
+        @Override
+        public void run() {
+            dispatcher.consume();
+        }
+    }
+
+    /**
+     * Preallocated, mutable ring buffer slot. Fields are written by the
+     * claiming producer and made visible by the volatile {@link #published}
+     * write in {@link #publish()}.
+     */
+    static final class AsyncLogEvent {
+
+        volatile long published = -1;
+        long sequenceToPublish;
+
+        com.log4rich.core.Logger log4RichLogger;
+        com.log4rich.core.LogLevel richLevel;
+        Marker marker;
+        StackTraceElement location;
+        Object message;
+        Throwable throwable;
+        int paramMode;
+        Object param1;
+        Object param2;
+        Object[] params;
+        // Slot-owned parameters of a fixed-arity call; the first fixedCount are set
+        final Object[] fixedParams = new Object[MessageExtractor.MAX_FIXED_PARAMS];
+        int fixedCount;
+        Map<String, String> contextMap;
+        List<String> contextStack;
+        // Caller's context class loader, for ThrowableRenderer packaging
+        ClassLoader classLoader;
+
+        void set(com.log4rich.core.Logger log4RichLogger,
+                 com.log4rich.core.LogLevel richLevel,
+                 Marker marker,
+                 Object message,
+                 Throwable throwable,
+                 int paramMode,
+                 Object param1,
+                 Object param2,
+                 Object[] params) {
+            this.log4RichLogger = log4RichLogger;
+            this.richLevel = richLevel;
+            this.marker = marker;
+            this.message = message;
+            this.throwable = throwable;
+            this.paramMode = paramMode;
+            this.param1 = param1;
+            this.param2 = param2;
+            this.params = params;
+        }
+
+        void publish() {
+            published = sequenceToPublish;
+        }
+
+        /**
+         * Drops references so rendered events do not keep caller objects alive.
+         */
+        void clear() {
+            log4RichLogger = null;
+            richLevel = null;
+            marker = null;
+            location = null;
+            message = null;
+            throwable = null;
+            param1 = null;
+            param2 = null;
+            params = null;
+            Arrays.fill(fixedParams, 0, fixedCount, null);
+            fixedCount = 0;
+            contextMap = null;
+            contextStack = null;
+            classLoader = null;
+        }
+    }
+}
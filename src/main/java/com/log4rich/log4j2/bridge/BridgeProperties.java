@@ -0,0 +1,49 @@
+package com.log4rich.log4j2.bridge;
+
+/**
+ * Reads bridge settings from system properties.
+ * All keys live under the {@code log4rich.bridge.} prefix, alongside log4Rich's
+ * own {@code log4rich.*} settings, e.g. {@code -Dlog4rich.bridge.async.enabled=true}.
+ * Malformed values fall back to the supplied default.
+ */
+final class BridgeProperties {
+
+    static final String PREFIX = "log4rich.bridge.";
+
+    private BridgeProperties() {
+    }
+
+    static String getString(String name, String defaultValue) {
+        String value = System.getProperty(PREFIX + name);
+        return value != null && !value.trim().isEmpty() ? value.trim() : defaultValue;
+    }
+
+    static boolean getBoolean(String name, boolean defaultValue) {
+        String value = getString(name, null);
+        return value != null ? Boolean.parseBoolean(value) : defaultValue;
+    }
+
+    static int getInt(String name, int defaultValue) {
+        String value = getString(name, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    static double getDouble(String name, double defaultValue) {
+        String value = getString(name, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -1,14 +1,16 @@
 package com.log4rich.log4j2.bridge;
 
+import org.apache.logging.log4j.spi.ReadOnlyThreadContextMap;
 import org.apache.logging.log4j.spi.ThreadContextMap2;
 
 import java.util.ArrayList;
 import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
 /**
  * Bridges log4j2 ThreadContext to log4Rich context system.
@@ -19,19 +21,23 @@ import java.util.concurrent.ConcurrentHashMap;
  * Use the {@link #INSTANCE} singleton for SPI access. Static helper methods
  * are provided for NDC operations and bulk context access that don't overlap
  * with the interface.</p>
+ *
+ * <p>The MDC is held as an immutable {@link ContextMap} that is replaced on
+ * every write. Only the owning thread writes it, so no concurrent map is
+ * needed, and the current instance doubles as a free snapshot for readers.</p>
  */
-public class ContextBridge implements ThreadContextMap2 {
+public class ContextBridge implements ThreadContextMap2, ReadOnlyThreadContextMap {
 
     /** Singleton instance for SPI access. */
     public static final ContextBridge INSTANCE = new ContextBridge();
 
-    // Thread-local storage for context data (MDC equivalent)
-    private static final ThreadLocal<Map<String, String>> CONTEXT_MAP =
-        ThreadLocal.withInitial(ConcurrentHashMap::new);
+    // Thread-local storage for context data (MDC equivalent), copy-on-write
+    private static final ThreadLocal<ContextMap> CONTEXT_MAP =
+        ThreadLocal.withInitial(() -> ContextMap.EMPTY);
 
     // Thread-local storage for nested diagnostic context (NDC)
-    private static final ThreadLocal<Deque<String>> CONTEXT_STACK =
-        ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadLocal<StackState> CONTEXT_STACK =
+        ThreadLocal.withInitial(StackState::new);
 
     /**
      * Applies current thread context to log4Rich.
@@ -49,24 +55,21 @@ public class ContextBridge implements ThreadContextMap2 {
      * Gets the current thread's context map.
      */
     public static Map<String, String> getContext() {
-        return new ConcurrentHashMap<>(CONTEXT_MAP.get());
+        return new HashMap<>(CONTEXT_MAP.get());
     }
 
     /**
      * Gets an immutable copy of the current context.
      */
     public static Map<String, String> getImmutableContext() {
-        Map<String, String> context = CONTEXT_MAP.get();
-        return context.isEmpty()
-            ? Collections.emptyMap()
-            : Collections.unmodifiableMap(new ConcurrentHashMap<>(context));
+        return CONTEXT_MAP.get();
     }
 
     /**
      * Clears the current thread's context map.
      */
     public static void clearContext() {
-        CONTEXT_MAP.get().clear();
+        CONTEXT_MAP.remove();
     }
 
     /**
@@ -84,7 +87,9 @@ public class ContextBridge implements ThreadContextMap2 {
      */
     public static void push(String value) {
         if (value != null) {
-            CONTEXT_STACK.get().push(value);
+            StackState state = CONTEXT_STACK.get();
+            state.stack.push(value);
+            state.snapshot = null;
         }
     }
 
@@ -92,52 +97,66 @@ public class ContextBridge implements ThreadContextMap2 {
      * Pops a value from the NDC stack.
      */
     public static String pop() {
-        Deque<String> stack = CONTEXT_STACK.get();
-        return stack.isEmpty() ? null : stack.pop();
+        StackState state = CONTEXT_STACK.get();
+        if (state.stack.isEmpty()) {
+            return null;
+        }
+        state.snapshot = null;
+        return state.stack.pop();
     }
 
     /**
      * Peeks at the top of the NDC stack without removing it.
      */
     public static String peek() {
-        Deque<String> stack = CONTEXT_STACK.get();
-        return stack.isEmpty() ? null : stack.peek();
+        return CONTEXT_STACK.get().stack.peek();
     }
 
     /**
      * Gets the depth of the NDC stack.
      */
     public static int getDepth() {
-        return CONTEXT_STACK.get().size();
+        return CONTEXT_STACK.get().stack.size();
     }
 
     /**
      * Clears the NDC stack.
      */
     public static void clearStack() {
-        CONTEXT_STACK.get().clear();
+        CONTEXT_STACK.remove();
     }
 
     /**
-     * Gets an immutable copy of the current NDC stack.
+     * Gets an immutable copy of the current NDC stack, top first.
+     * The copy is cached and shared until the stack next changes.
      */
     public static List<String> getImmutableStack() {
-        Deque<String> stack = CONTEXT_STACK.get();
-        return stack.isEmpty()
-            ? Collections.emptyList()
-            : Collections.unmodifiableList(new ArrayList<>(stack));
+        StackState state = CONTEXT_STACK.get();
+        List<String> snapshot = state.snapshot;
+        if (snapshot == null) {
+            snapshot = state.stack.isEmpty()
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(new ArrayList<>(state.stack));
+            state.snapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Checks whether the current thread has any MDC or NDC entries.
+     */
+    public static boolean hasContext() {
+        return !CONTEXT_MAP.get().isEmpty() || !CONTEXT_STACK.get().stack.isEmpty();
     }
 
+
     // ========== ThreadContextMap interface (instance methods) ==========
 
     @Override
     public void put(final String key, final String value) {
         if (key != null) {
-            if (value == null) {
-                CONTEXT_MAP.get().remove(key);
-            } else {
-                CONTEXT_MAP.get().put(key, value);
-            }
+            ContextMap context = CONTEXT_MAP.get();
+            CONTEXT_MAP.set(value == null ? context.without(key) : context.with(key, value));
         }
     }
 
@@ -149,7 +168,7 @@ public class ContextBridge implements ThreadContextMap2 {
     @Override
     public void remove(final String key) {
         if (key != null) {
-            CONTEXT_MAP.get().remove(key);
+            CONTEXT_MAP.set(CONTEXT_MAP.get().without(key));
         }
     }
 
@@ -175,8 +194,8 @@ public class ContextBridge implements ThreadContextMap2 {
 
     @Override
     public Map<String, String> getImmutableMapOrNull() {
-        Map<String, String> context = CONTEXT_MAP.get();
-        return context.isEmpty() ? null : Collections.unmodifiableMap(new ConcurrentHashMap<>(context));
+        ContextMap context = CONTEXT_MAP.get();
+        return context.isEmpty() ? null : context;
     }
 
     // ========== ThreadContextMap2 interface ==========
@@ -184,18 +203,33 @@ public class ContextBridge implements ThreadContextMap2 {
     @Override
     public void putAll(Map<String, String> map) {
         if (map != null) {
-            for (Map.Entry<String, String> entry : map.entrySet()) {
-                put(entry.getKey(), entry.getValue());
-            }
+            CONTEXT_MAP.set(CONTEXT_MAP.get().withAll(map));
         }
     }
 
     @Override
     public void removeAll(Iterable<String> keys) {
         if (keys != null) {
-            for (String key : keys) {
-                remove(key);
-            }
+            CONTEXT_MAP.set(CONTEXT_MAP.get().withoutAll(keys));
         }
     }
+
+    // ========== ReadOnlyThreadContextMap interface ==========
+
+    /**
+     * Iterates the current thread's MDC in key order without copying or allocating.
+     */
+    @Override
+    public void forEach(BiConsumer<String, String> action) {
+        CONTEXT_MAP.get().forEach(action);
+    }
+
+    /**
+     * Per-thread NDC: the mutable stack plus its cached immutable copy,
+     * discarded on every change.
+     */
+    private static final class StackState {
+        final Deque<String> stack = new ArrayDeque<>();
+        List<String> snapshot = Collections.emptyList();
+    }
 }
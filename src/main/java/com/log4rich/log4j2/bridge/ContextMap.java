@@ -0,0 +1,218 @@
+package com.log4rich.log4j2.bridge;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Compact immutable String map backing the per-thread MDC.
+ *
+ * <p>Keys and values live in two parallel arrays sorted by key, so a context of
+ * a handful of entries costs two small arrays rather than a hash table, and
+ * lookups are a binary search. Every write returns a new instance
+ * (copy-on-write); the current instance can therefore be handed to readers,
+ * other threads or async events as a snapshot without copying.</p>
+ *
+ * <p>Mutating {@link Map} methods throw {@link UnsupportedOperationException}.</p>
+ */
+final class ContextMap extends AbstractMap<String, String> {
+
+    /** The empty context, shared by every thread with no MDC entries. */
+    static final ContextMap EMPTY = new ContextMap(new String[0], new String[0]);
+
+    private final String[] keys;
+    private final String[] values;
+
+    private ContextMap(String[] keys, String[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Builds a context from an arbitrary map. Null keys and values are skipped.
+     */
+    static ContextMap of(Map<String, String> map) {
+        if (map == null || map.isEmpty()) {
+            return EMPTY;
+        }
+        if (map instanceof ContextMap) {
+            return (ContextMap) map;
+        }
+        String[] sortedKeys = new String[map.size()];
+        int count = 0;
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            if (entry.getKey() != null && entry.getValue() != null) {
+                sortedKeys[count++] = entry.getKey();
+            }
+        }
+        if (count == 0) {
+            return EMPTY;
+        }
+        sortedKeys = Arrays.copyOf(sortedKeys, count);
+        Arrays.sort(sortedKeys);
+        String[] sortedValues = new String[count];
+        for (int i = 0; i < count; i++) {
+            sortedValues[i] = map.get(sortedKeys[i]);
+        }
+        return new ContextMap(sortedKeys, sortedValues);
+    }
+
+    /**
+     * Returns a map with the key set to the value, or this map if nothing changes.
+     */
+    ContextMap with(String key, String value) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            if (value.equals(values[index])) {
+                return this;
+            }
+            String[] newValues = values.clone();
+            newValues[index] = value;
+            return new ContextMap(keys, newValues);
+        }
+
+        int insertAt = -(index + 1);
+        int size = keys.length;
+        String[] newKeys = new String[size + 1];
+        String[] newValues = new String[size + 1];
+        System.arraycopy(keys, 0, newKeys, 0, insertAt);
+        System.arraycopy(values, 0, newValues, 0, insertAt);
+        newKeys[insertAt] = key;
+        newValues[insertAt] = value;
+        System.arraycopy(keys, insertAt, newKeys, insertAt + 1, size - insertAt);
+        System.arraycopy(values, insertAt, newValues, insertAt + 1, size - insertAt);
+        return new ContextMap(newKeys, newValues);
+    }
+
+    /**
+     * Returns a map without the key, or this map if it is absent.
+     */
+    ContextMap without(String key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return this;
+        }
+        int size = keys.length;
+        if (size == 1) {
+            return EMPTY;
+        }
+        String[] newKeys = new String[size - 1];
+        String[] newValues = new String[size - 1];
+        System.arraycopy(keys, 0, newKeys, 0, index);
+        System.arraycopy(values, 0, newValues, 0, index);
+        System.arraycopy(keys, index + 1, newKeys, index, size - index - 1);
+        System.arraycopy(values, index + 1, newValues, index, size - index - 1);
+        return new ContextMap(newKeys, newValues);
+    }
+
+    /**
+     * Returns a map with all entries applied at once; null values remove keys.
+     */
+    ContextMap withAll(Map<String, String> map) {
+        if (map == null || map.isEmpty()) {
+            return this;
+        }
+        Map<String, String> merged = new HashMap<>(this);
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            if (entry.getKey() == null) {
+                continue;
+            }
+            if (entry.getValue() == null) {
+                merged.remove(entry.getKey());
+            } else {
+                merged.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return of(merged);
+    }
+
+    /**
+     * Returns a map without any of the given keys.
+     */
+    ContextMap withoutAll(Iterable<String> removed) {
+        ContextMap result = this;
+        for (String key : removed) {
+            if (key != null) {
+                result = result.without(key);
+            }
+        }
+        return result;
+    }
+
+    private int indexOf(Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+        return Arrays.binarySearch(keys, key);
+    }
+
+    // ========== Map ==========
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    @Override
+    public String get(Object key) {
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Iterates in key order without allocating.
+     */
+    @Override
+    public void forEach(BiConsumer<? super String, ? super String> action) {
+        for (int i = 0; i < keys.length; i++) {
+            action.accept(keys[i], values[i]);
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        return new AbstractSet<Map.Entry<String, String>>() {
+            @Override
+            public Iterator<Map.Entry<String, String>> iterator() {
+                return new Iterator<Map.Entry<String, String>>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < keys.length;
+                    }
+
+                    @Override
+                    public Map.Entry<String, String> next() {
+                        if (next >= keys.length) {
+                            throw new NoSuchElementException();
+                        }
+                        int i = next++;
+                        return new AbstractMap.SimpleImmutableEntry<>(keys[i], values[i]);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+}
@@ -0,0 +1,113 @@
+package com.log4rich.log4j2.bridge;
+
+import org.apache.logging.log4j.Level;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-logger cache of the effective log4Rich threshold, expressed as a
+ * log4j2 {@link Level#intLevel()}.
+ *
+ * <p>Once warm, a level check is one volatile read of the global
+ * configuration generation plus an integer comparison - no map lookup and no
+ * call into log4Rich. This keeps disabled DEBUG/TRACE statements in tight
+ * loops close to free.</p>
+ *
+ * <p>The cache is invalidated lazily: {@link #invalidateAll()} bumps the
+ * global generation, and every logger re-derives its threshold from log4Rich
+ * on its next check. The bridge does so on each reconfiguration it sees -
+ * {@code LoggerContext} (re)configuration and removal,
+ * {@code Log4RichLoggerContext.updateLoggers()} and {@code LogManager.shutdown()}.
+ * log4Rich does not notify the bridge of its own changes, so code that sets
+ * log4Rich levels or reloads its configuration directly must call
+ * {@link #invalidateAll()} (or {@code updateLoggers()}) afterwards; until then
+ * bridge loggers keep the threshold they last derived.</p>
+ */
+public final class LevelCache {
+
+    // Global configuration generation; bumped whenever log4Rich levels may have changed
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
+    // Standard levels from least to most specific
+    private static final Level[] PROBE_ORDER = {
+        Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR, Level.FATAL
+    };
+
+    private final com.log4rich.core.Logger log4RichLogger;
+
+    // Immutable so the threshold and its generation are always seen together
+    private Snapshot snapshot;
+
+    public LevelCache(com.log4rich.core.Logger log4RichLogger) {
+        this.log4RichLogger = log4RichLogger;
+        this.snapshot = load(GENERATION.get());
+    }
+
+    /**
+     * Invalidates the cached level of every logger. Call after changing
+     * log4Rich levels or reloading its configuration outside the bridge.
+     */
+    public static void invalidateAll() {
+        GENERATION.incrementAndGet();
+    }
+
+    /**
+     * Checks whether the given log4j2 level is enabled for this logger.
+     * A null level is treated as INFO, matching {@link LevelTranslator}.
+     */
+    public boolean isEnabled(Level level) {
+        Snapshot current = snapshot;
+        int generation = GENERATION.get();
+        if (current.generation != generation) {
+            current = refresh(generation);
+        }
+        return (level != null ? level.intLevel() : Level.INFO.intLevel()) <= current.threshold;
+    }
+
+    /**
+     * Gets the threshold as a log4j2 intLevel; levels at or below it are enabled.
+     */
+    public int getThreshold() {
+        Snapshot current = snapshot;
+        int generation = GENERATION.get();
+        if (current.generation != generation) {
+            current = refresh(generation);
+        }
+        return current.threshold;
+    }
+
+    private Snapshot refresh(int generation) {
+        Snapshot current = load(generation);
+        snapshot = current;
+        return current;
+    }
+
+    /**
+     * Derives the threshold from log4Rich itself, probing the standard levels
+     * from least to most specific, so inherited and root levels are honoured
+     * exactly as {@code isLevelEnabled} sees them.
+     */
+    private Snapshot load(int generation) {
+        int threshold = -1;
+        for (Level standard : PROBE_ORDER) {
+            if (log4RichLogger.isLevelEnabled(LevelTranslator.translate(standard))) {
+                threshold = standard.intLevel();
+                break;
+            }
+        }
+        if (threshold == Level.TRACE.intLevel()
+                && log4RichLogger.getLevel() == com.log4rich.core.LogLevel.ALL) {
+            threshold = Level.ALL.intLevel();
+        }
+        return new Snapshot(generation, threshold);
+    }
+
+    private static final class Snapshot {
+        final int generation;
+        final int threshold;
+
+        Snapshot(int generation, int threshold) {
+            this.generation = generation;
+            this.threshold = threshold;
+        }
+    }
+}
@@ -1,58 +1,83 @@
 package com.log4rich.log4j2.bridge;
 
 import org.apache.logging.log4j.Level;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Translates log4j2 levels to log4Rich levels.
- * Thread-safe with caching for performance.
+ * Thread-safe and allocation-free: both directions are plain array lookups
+ * built once at class initialisation.
  */
 public class LevelTranslator {
-    
-    private static final Map<Level, com.log4rich.core.LogLevel> LEVEL_CACHE = new ConcurrentHashMap<>();
-    
+
+    // Forward table indexed by log4j2 intLevel, covering OFF (0) through TRACE (600)
+    private static final com.log4rich.core.LogLevel[] BY_INT_LEVEL =
+        new com.log4rich.core.LogLevel[Level.TRACE.intLevel() + 1];
+
+    // Reverse table indexed by log4Rich LogLevel ordinal
+    private static final Level[] BY_ORDINAL =
+        new Level[com.log4rich.core.LogLevel.values().length];
+
     static {
-        // Pre-populate cache with standard levels
-        LEVEL_CACHE.put(Level.TRACE, com.log4rich.core.LogLevel.TRACE);
-        LEVEL_CACHE.put(Level.DEBUG, com.log4rich.core.LogLevel.DEBUG);
-        LEVEL_CACHE.put(Level.INFO, com.log4rich.core.LogLevel.INFO);
-        LEVEL_CACHE.put(Level.WARN, com.log4rich.core.LogLevel.WARN);
-        LEVEL_CACHE.put(Level.ERROR, com.log4rich.core.LogLevel.ERROR);
-        LEVEL_CACHE.put(Level.FATAL, com.log4rich.core.LogLevel.FATAL);
-        LEVEL_CACHE.put(Level.ALL, com.log4rich.core.LogLevel.ALL);
-        LEVEL_CACHE.put(Level.OFF, com.log4rich.core.LogLevel.OFF);
+        // A custom level maps to the nearest standard level that is at least as
+        // verbose, so it is enabled exactly when log4j2 would enable it:
+        // e.g. 450 (between INFO and DEBUG) behaves like DEBUG.
+        for (int intLevel = 0; intLevel < BY_INT_LEVEL.length; intLevel++) {
+            com.log4rich.core.LogLevel richLevel;
+            if (intLevel <= Level.OFF.intLevel()) {
+                richLevel = com.log4rich.core.LogLevel.OFF;
+            } else if (intLevel <= Level.FATAL.intLevel()) {
+                richLevel = com.log4rich.core.LogLevel.FATAL;
+            } else if (intLevel <= Level.ERROR.intLevel()) {
+                richLevel = com.log4rich.core.LogLevel.ERROR;
+            } else if (intLevel <= Level.WARN.intLevel()) {
+                richLevel = com.log4rich.core.LogLevel.WARN;
+            } else if (intLevel <= Level.INFO.intLevel()) {
+                richLevel = com.log4rich.core.LogLevel.INFO;
+            } else if (intLevel <= Level.DEBUG.intLevel()) {
+                richLevel = com.log4rich.core.LogLevel.DEBUG;
+            } else {
+                richLevel = com.log4rich.core.LogLevel.TRACE;
+            }
+            BY_INT_LEVEL[intLevel] = richLevel;
+        }
+
+        for (com.log4rich.core.LogLevel richLevel : com.log4rich.core.LogLevel.values()) {
+            Level level;
+            switch (richLevel) {
+                case TRACE: level = Level.TRACE; break;
+                case DEBUG: level = Level.DEBUG; break;
+                case INFO: level = Level.INFO; break;
+                case WARN: level = Level.WARN; break;
+                case ERROR: level = Level.ERROR; break;
+                case FATAL: level = Level.FATAL; break;
+                case ALL: level = Level.ALL; break;
+                case OFF: level = Level.OFF; break;
+                default: level = Level.INFO; break;
+            }
+            BY_ORDINAL[richLevel.ordinal()] = level;
+        }
     }
-    
+
     /**
      * Translates a log4j2 level to the corresponding log4Rich level.
-     * Uses caching for performance with custom levels.
+     * Standard and custom levels alike resolve through a single array index.
      */
     public static com.log4rich.core.LogLevel translate(Level log4j2Level) {
         if (log4j2Level == null) {
             return com.log4rich.core.LogLevel.INFO; // Default fallback
         }
-        
-        return LEVEL_CACHE.computeIfAbsent(log4j2Level, level -> {
-            // Handle custom levels by mapping based on integer value
-            int intLevel = level.intLevel();
-            
-            if (intLevel >= Level.FATAL.intLevel()) {
-                return com.log4rich.core.LogLevel.FATAL;
-            } else if (intLevel >= Level.ERROR.intLevel()) {
-                return com.log4rich.core.LogLevel.ERROR;
-            } else if (intLevel >= Level.WARN.intLevel()) {
-                return com.log4rich.core.LogLevel.WARN;
-            } else if (intLevel >= Level.INFO.intLevel()) {
-                return com.log4rich.core.LogLevel.INFO;
-            } else if (intLevel >= Level.DEBUG.intLevel()) {
-                return com.log4rich.core.LogLevel.DEBUG;
-            } else {
-                return com.log4rich.core.LogLevel.TRACE;
-            }
-        });
+
+        int intLevel = log4j2Level.intLevel();
+        if (intLevel >= 0 && intLevel < BY_INT_LEVEL.length) {
+            return BY_INT_LEVEL[intLevel];
+        }
+        if (intLevel == Level.ALL.intLevel()) {
+            return com.log4rich.core.LogLevel.ALL;
+        }
+        // Custom levels more verbose than TRACE, or nonsensical negative values
+        return intLevel < 0 ? com.log4rich.core.LogLevel.OFF : com.log4rich.core.LogLevel.TRACE;
     }
-    
+
     /**
      * Reverse translation from log4Rich to log4j2 levels.
      * Alias for fromLog4Rich for backwards compatibility.
@@ -68,17 +93,6 @@ public class LevelTranslator {
         if (log4RichLevel == null) {
             return Level.INFO;
         }
-        
-        switch (log4RichLevel.toString().toUpperCase()) {
-            case "TRACE": return Level.TRACE;
-            case "DEBUG": return Level.DEBUG;
-            case "INFO": return Level.INFO;
-            case "WARN": return Level.WARN;
-            case "ERROR": return Level.ERROR;
-            case "FATAL": return Level.FATAL;
-            case "ALL": return Level.ALL;
-            case "OFF": return Level.OFF;
-            default: return Level.INFO;
-        }
+        return BY_ORDINAL[log4RichLevel.ordinal()];
     }
-}
\ No newline at end of file
+}
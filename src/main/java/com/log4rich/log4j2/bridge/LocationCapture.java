@@ -0,0 +1,74 @@
+package com.log4rich.log4j2.bridge;
+
+import org.apache.logging.log4j.util.StackLocatorUtil;
+
+/**
+ * Opt-in caller location capture for bridge log events.
+ *
+ * <p>When enabled ({@code -Dlog4rich.bridge.location.enabled=true} or
+ * {@link #setEnabled(boolean)}), the bridge resolves the application call
+ * site by walking past the logger's fully qualified class name - the one
+ * passed to {@code logIfEnabled}/{@code logMessage}, so wrappers such as
+ * {@code ExtendedLoggerWrapper} subclasses report their caller rather than
+ * themselves. The location is rendered as a {@code "[Class.method(File:line)] "}
+ * prefix, because log4Rich's logger API takes no location argument.</p>
+ *
+ * <p>On Java 9+ the walk stops at the first application frame, so the cost
+ * is one short stack walk per event; on Java 10+ resolved locations are also
+ * cached per call site, on the calling class. When disabled, nothing is
+ * walked at all.</p>
+ */
+public final class LocationCapture {
+
+    private static volatile boolean enabled = BridgeProperties.getBoolean("location.enabled", false);
+
+    private LocationCapture() {
+    }
+
+    /**
+     * Checks whether location capture is enabled.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables location capture at runtime.
+     */
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    /**
+     * Finds the caller of the logger identified by {@code fqcn}, or null if it
+     * is not on the stack.
+     */
+    public static StackTraceElement locate(String fqcn) {
+        return StackLocatorUtil.calcLocation(fqcn);
+    }
+
+    /**
+     * Appends the {@code "[Class.method(File:line)] "} prefix; nothing for null.
+     */
+    static void appendLocation(StringBuilder buffer, StackTraceElement location) {
+        if (location == null) {
+            return;
+        }
+        buffer.append('[')
+              .append(location.getClassName())
+              .append('.')
+              .append(location.getMethodName())
+              .append('(');
+        if (location.isNativeMethod()) {
+            buffer.append("Native Method");
+        } else if (location.getFileName() == null) {
+            buffer.append("Unknown Source");
+        } else {
+            buffer.append(location.getFileName());
+            if (location.getLineNumber() >= 0) {
+                buffer.append(':').append(location.getLineNumber());
+            }
+        }
+        buffer.append(")] ");
+    }
+}
@@ -2,63 +2,156 @@ package com.log4rich.log4j2.bridge;
 
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.MessageTemplate;
+import org.apache.logging.log4j.spi.Log4RichLogger;
 
 /**
  * Central logging engine - ALL log4j2 logging methods funnel through here.
  * This is the single point of truth for logging logic, ensuring consistency
  * and making debugging/maintenance much easier.
+ *
+ * <p>When {@link AsyncLoggingDispatcher} is running, entry points only do the
+ * level and marker checks on the calling thread and hand the raw event to the
+ * ring buffer; formatting and log4Rich I/O happen on the consumer thread.</p>
+ *
+ * <p>Only the {@code log} methods check the level and marker themselves.
+ * {@link #logEnabled} and the specialised entry points ({@code logSimple},
+ * {@code logParams}, {@code logTemplate}, ...) expect the caller to have done
+ * so, as {@code Log4RichLogger} does through {@link #isEnabled(LevelCache, Level)},
+ * and go straight to sampling, rate limiting and formatting.</p>
  */
 public class LoggingEngine {
-    
+
+    // Logger class callers invoke directly; location capture walks past it
+    private static final String DEFAULT_FQCN = Log4RichLogger.class.getName();
+
     /**
      * THE central logging method - all 180+ log4j2 methods funnel through here.
      * This method handles the complete logging pipeline:
      * 1. Level checking (performance optimization)
      * 2. Marker filtering
-     * 3. Message extraction and formatting
+     * 3. Message extraction and formatting (with marker prefix)
      * 4. Context application
      * 5. Final log4Rich delegation
      */
-    public static void log(com.log4rich.core.Logger log4RichLogger, 
-                          Level level, 
-                          Marker marker, 
-                          Object message, 
-                          Throwable throwable, 
+    public static void log(com.log4rich.core.Logger log4RichLogger,
+                          Level level,
+                          Marker marker,
+                          Object message,
+                          Throwable throwable,
+                          Object... params) {
+        log(DEFAULT_FQCN, log4RichLogger, level, marker, message, throwable, params);
+    }
+
+    /**
+     * Central logging method for callers that know their logger's fully
+     * qualified class name, such as {@code logMessage(fqcn, ...)} from
+     * wrappers. The fqcn is used to find the call site when
+     * {@link LocationCapture} is enabled.
+     */
+    public static void log(String fqcn,
+                          com.log4rich.core.Logger log4RichLogger,
+                          Level level,
+                          Marker marker,
+                          Object message,
+                          Throwable throwable,
+                          Object... params) {
+        log(fqcn, null, log4RichLogger, level, marker, message, throwable, params);
+    }
+
+    /**
+     * Central logging method with a caller location already known, such as
+     * one captured by {@code LogBuilder.withLocation()}. A null location is
+     * looked up from the fqcn when {@link LocationCapture} is enabled.
+     */
+    public static void log(String fqcn,
+                          StackTraceElement location,
+                          com.log4rich.core.Logger log4RichLogger,
+                          Level level,
+                          Marker marker,
+                          Object message,
+                          Throwable throwable,
                           Object... params) {
-        
+
         // Step 1: Early return if logging is disabled (critical for performance)
         com.log4rich.core.LogLevel richLevel = LevelTranslator.translate(level);
         if (!log4RichLogger.isLevelEnabled(richLevel)) {
             return;
         }
-        
+
         // Step 2: Check marker-based filtering
         if (!MarkerHandler.shouldLog(marker, level)) {
             return;
         }
-        
-        // Step 3: Extract and format the final message
-        String finalMessage = MessageExtractor.extractMessage(message, params);
-        
-        // Step 4: Add marker information if present
-        if (marker != null) {
-            String markerPrefix = MarkerHandler.formatMarker(marker);
-            if (markerPrefix != null) {
-                finalMessage = markerPrefix + finalMessage;
-            }
+
+        dispatch(fqcn, location, log4RichLogger, richLevel, level, marker, message, throwable, params);
+    }
+
+    /**
+     * Central logging method for callers that have already checked the level
+     * and marker through {@link #isEnabled(LevelCache, Level, Marker)}.
+     */
+    public static void logEnabled(com.log4rich.core.Logger log4RichLogger,
+                                  Level level,
+                                  Marker marker,
+                                  Object message,
+                                  Throwable throwable,
+                                  Object... params) {
+        logEnabled(DEFAULT_FQCN, log4RichLogger, level, marker, message, throwable, params);
+    }
+
+    /**
+     * Pre-checked central logging method with the logger's fully qualified
+     * class name, for {@link LocationCapture}.
+     */
+    public static void logEnabled(String fqcn,
+                                  com.log4rich.core.Logger log4RichLogger,
+                                  Level level,
+                                  Marker marker,
+                                  Object message,
+                                  Throwable throwable,
+                                  Object... params) {
+        dispatch(fqcn, null, log4RichLogger, LevelTranslator.translate(level), level,
+            marker, message, throwable, params);
+    }
+
+    /**
+     * Steps after the level and marker checks, shared by the general entry points.
+     */
+    private static void dispatch(String fqcn,
+                                 StackTraceElement location,
+                                 com.log4rich.core.Logger log4RichLogger,
+                                 com.log4rich.core.LogLevel richLevel,
+                                 Level level,
+                                 Marker marker,
+                                 Object message,
+                                 Throwable throwable,
+                                 Object[] params) {
+
+        // Step 2b: Sampling and burst rate limiting, before any formatting work
+        if (dropped(log4RichLogger, richLevel, level, message, params != null && params.length > 0)) {
+            return;
         }
-        
-        // Step 5: Apply thread context
-        ContextBridge.applyThreadContext();
-        
-        // Step 6: Log to log4Rich (single delegation point)
-        if (throwable != null) {
-            log4RichLogger.log(richLevel, finalMessage, throwable);
-        } else {
-            log4RichLogger.log(richLevel, finalMessage);
+
+        // Caller location must be taken on the calling thread
+        if (location == null && LocationCapture.isEnabled()) {
+            location = LocationCapture.locate(fqcn);
+        }
+
+        // Async mode: capture and return, the consumer does steps 3-5
+        AsyncLoggingDispatcher async = AsyncLoggingDispatcher.active();
+        if (async != null && async.publish(log4RichLogger, richLevel, marker, location, message, throwable, params)) {
+            return;
         }
+
+        // Step 3: Extract and format the final message, location and marker prefixes included
+        String finalMessage = formatMessage(location, marker, message, params);
+
+        // Steps 4-5: Thread context and log4Rich delegation
+        emit(log4RichLogger, richLevel, finalMessage, throwable);
     }
-    
+
     /**
      * Optimized version for simple string messages (most common case).
      * Bypasses parameter formatting when no parameters are present.
@@ -66,16 +159,27 @@ public class LoggingEngine {
     public static void logSimple(com.log4rich.core.Logger log4RichLogger,
                                 Level level,
                                 String message) {
-        
+
         com.log4rich.core.LogLevel richLevel = LevelTranslator.translate(level);
-        if (!log4RichLogger.isLevelEnabled(richLevel)) {
+
+        // Location capture needs the full path's stack walk
+        if (LocationCapture.isEnabled()) {
+            dispatch(DEFAULT_FQCN, null, log4RichLogger, richLevel, level, null, message, null, null);
             return;
         }
-        
-        ContextBridge.applyThreadContext();
-        log4RichLogger.log(richLevel, message);
+
+        if (dropped(log4RichLogger, richLevel, level, message, false)) {
+            return;
+        }
+
+        AsyncLoggingDispatcher async = AsyncLoggingDispatcher.active();
+        if (async != null && async.publishMessage(log4RichLogger, richLevel, message, null)) {
+            return;
+        }
+
+        emit(log4RichLogger, richLevel, message, null);
     }
-    
+
     /**
      * Optimized version for single parameter messages (very common case).
      */
@@ -83,17 +187,28 @@ public class LoggingEngine {
                                      Level level,
                                      String message,
                                      Object param) {
-        
+
         com.log4rich.core.LogLevel richLevel = LevelTranslator.translate(level);
-        if (!log4RichLogger.isLevelEnabled(richLevel)) {
+
+        // Location capture needs the full path's stack walk
+        if (LocationCapture.isEnabled()) {
+            dispatch(DEFAULT_FQCN, null, log4RichLogger, richLevel, level, null, message, null, new Object[] {param});
             return;
         }
-        
+
+        if (dropped(log4RichLogger, richLevel, level, message, true)) {
+            return;
+        }
+
+        AsyncLoggingDispatcher async = AsyncLoggingDispatcher.active();
+        if (async != null && async.publishParams(log4RichLogger, richLevel, message, param)) {
+            return;
+        }
+
         String finalMessage = MessageExtractor.formatSingleParameter(message, param);
-        ContextBridge.applyThreadContext();
-        log4RichLogger.log(richLevel, finalMessage);
+        emit(log4RichLogger, richLevel, finalMessage, null);
     }
-    
+
     /**
      * Optimized version for two parameter messages (also very common).
      */
@@ -102,17 +217,404 @@ public class LoggingEngine {
                                    String message,
                                    Object param1,
                                    Object param2) {
-        
+
         com.log4rich.core.LogLevel richLevel = LevelTranslator.translate(level);
-        if (!log4RichLogger.isLevelEnabled(richLevel)) {
+
+        // Location capture needs the full path's stack walk
+        if (LocationCapture.isEnabled()) {
+            dispatch(DEFAULT_FQCN, null, log4RichLogger, richLevel, level, null, message, null,
+                new Object[] {param1, param2});
             return;
         }
-        
+
+        if (dropped(log4RichLogger, richLevel, level, message, true)) {
+            return;
+        }
+
+        AsyncLoggingDispatcher async = AsyncLoggingDispatcher.active();
+        if (async != null && async.publishParams(log4RichLogger, richLevel, message, param1, param2)) {
+            return;
+        }
+
         String finalMessage = MessageExtractor.formatTwoParameters(message, param1, param2);
-        ContextBridge.applyThreadContext();
-        log4RichLogger.log(richLevel, finalMessage);
+        emit(log4RichLogger, richLevel, finalMessage, null);
+    }
+
+    /**
+     * 1 parameter without a varargs array, for calls with a marker; see
+     * {@link #logParams(String, com.log4rich.core.Logger, Level, Marker, String, Object[], int)}.
+     */
+    public static void logParams(String fqcn,
+                                 com.log4rich.core.Logger log4RichLogger,
+                                 Level level,
+                                 Marker marker,
+                                 String message,
+                                 Object p0) {
+        Object[] params = MessageExtractor.acquireParams();
+        params[0] = p0;
+        logParams(fqcn, log4RichLogger, level, marker, message, params, 1);
+    }
+
+    /**
+     * 2 parameters without a varargs array, for calls with a marker; see
+     * {@link #logParams(String, com.log4rich.core.Logger, Level, Marker, String, Object[], int)}.
+     */
+    public static void logParams(String fqcn,
+                                 com.log4rich.core.Logger log4RichLogger,
+                                 Level level,
+                                 Marker marker,
+                                 String message,
+                                 Object p0,
+                                 Object p1) {
+        Object[] params = MessageExtractor.acquireParams();
+        params[0] = p0;
+        params[1] = p1;
+        logParams(fqcn, log4RichLogger, level, marker, message, params, 2);
+    }
+
+    /**
+     * 3 parameters without a varargs array; see {@link #logParams(String,
+     * com.log4rich.core.Logger, Level, Marker, String, Object[], int)}.
+     */
+    public static void logParams(String fqcn,
+                                 com.log4rich.core.Logger log4RichLogger,
+                                 Level level,
+                                 Marker marker,
+                                 String message,
+                                 Object p0,
+                                 Object p1,
+                                 Object p2) {
+        Object[] params = MessageExtractor.acquireParams();
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        logParams(fqcn, log4RichLogger, level, marker, message, params, 3);
+    }
+
+    /**
+     * 4 parameters without a varargs array; see {@link #logParams(String,
+     * com.log4rich.core.Logger, Level, Marker, String, Object[], int)}.
+     */
+    public static void logParams(String fqcn,
+                                 com.log4rich.core.Logger log4RichLogger,
+                                 Level level,
+                                 Marker marker,
+                                 String message,
+                                 Object p0,
+                                 Object p1,
+                                 Object p2,
+                                 Object p3) {
+        Object[] params = MessageExtractor.acquireParams();
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        params[3] = p3;
+        logParams(fqcn, log4RichLogger, level, marker, message, params, 4);
+    }
+
+    /**
+     * 5 parameters without a varargs array; see {@link #logParams(String,
+     * com.log4rich.core.Logger, Level, Marker, String, Object[], int)}.
+     */
+    public static void logParams(String fqcn,
+                                 com.log4rich.core.Logger log4RichLogger,
+                                 Level level,
+                                 Marker marker,
+                                 String message,
+                                 Object p0,
+                                 Object p1,
+                                 Object p2,
+                                 Object p3,
+                                 Object p4) {
+        Object[] params = MessageExtractor.acquireParams();
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        params[3] = p3;
+        params[4] = p4;
+        logParams(fqcn, log4RichLogger, level, marker, message, params, 5);
+    }
+
+    /**
+     * 6 parameters without a varargs array; see {@link #logParams(String,
+     * com.log4rich.core.Logger, Level, Marker, String, Object[], int)}.
+     */
+    public static void logParams(String fqcn,
+                                 com.log4rich.core.Logger log4RichLogger,
+                                 Level level,
+                                 Marker marker,
+                                 String message,
+                                 Object p0,
+                                 Object p1,
+                                 Object p2,
+                                 Object p3,
+                                 Object p4,
+                                 Object p5) {
+        Object[] params = MessageExtractor.acquireParams();
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        params[3] = p3;
+        params[4] = p4;
+        params[5] = p5;
+        logParams(fqcn, log4RichLogger, level, marker, message, params, 6);
+    }
+
+    /**
+     * 7 parameters without a varargs array; see {@link #logParams(String,
+     * com.log4rich.core.Logger, Level, Marker, String, Object[], int)}.
+     */
+    public static void logParams(String fqcn,
+                                 com.log4rich.core.Logger log4RichLogger,
+                                 Level level,
+                                 Marker marker,
+                                 String message,
+                                 Object p0,
+                                 Object p1,
+                                 Object p2,
+                                 Object p3,
+                                 Object p4,
+                                 Object p5,
+                                 Object p6) {
+        Object[] params = MessageExtractor.acquireParams();
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        params[3] = p3;
+        params[4] = p4;
+        params[5] = p5;
+        params[6] = p6;
+        logParams(fqcn, log4RichLogger, level, marker, message, params, 7);
+    }
+
+    /**
+     * 8 parameters without a varargs array; see {@link #logParams(String,
+     * com.log4rich.core.Logger, Level, Marker, String, Object[], int)}.
+     */
+    public static void logParams(String fqcn,
+                                 com.log4rich.core.Logger log4RichLogger,
+                                 Level level,
+                                 Marker marker,
+                                 String message,
+                                 Object p0,
+                                 Object p1,
+                                 Object p2,
+                                 Object p3,
+                                 Object p4,
+                                 Object p5,
+                                 Object p6,
+                                 Object p7) {
+        Object[] params = MessageExtractor.acquireParams();
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        params[3] = p3;
+        params[4] = p4;
+        params[5] = p5;
+        params[6] = p6;
+        params[7] = p7;
+        logParams(fqcn, log4RichLogger, level, marker, message, params, 8);
+    }
+
+    /**
+     * 9 parameters without a varargs array; see {@link #logParams(String,
+     * com.log4rich.core.Logger, Level, Marker, String, Object[], int)}.
+     */
+    public static void logParams(String fqcn,
+                                 com.log4rich.core.Logger log4RichLogger,
+                                 Level level,
+                                 Marker marker,
+                                 String message,
+                                 Object p0,
+                                 Object p1,
+                                 Object p2,
+                                 Object p3,
+                                 Object p4,
+                                 Object p5,
+                                 Object p6,
+                                 Object p7,
+                                 Object p8) {
+        Object[] params = MessageExtractor.acquireParams();
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        params[3] = p3;
+        params[4] = p4;
+        params[5] = p5;
+        params[6] = p6;
+        params[7] = p7;
+        params[8] = p8;
+        logParams(fqcn, log4RichLogger, level, marker, message, params, 9);
     }
-    
+
+    /**
+     * 10 parameters without a varargs array; see {@link #logParams(String,
+     * com.log4rich.core.Logger, Level, Marker, String, Object[], int)}.
+     */
+    public static void logParams(String fqcn,
+                                 com.log4rich.core.Logger log4RichLogger,
+                                 Level level,
+                                 Marker marker,
+                                 String message,
+                                 Object p0,
+                                 Object p1,
+                                 Object p2,
+                                 Object p3,
+                                 Object p4,
+                                 Object p5,
+                                 Object p6,
+                                 Object p7,
+                                 Object p8,
+                                 Object p9) {
+        Object[] params = MessageExtractor.acquireParams();
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        params[3] = p3;
+        params[4] = p4;
+        params[5] = p5;
+        params[6] = p6;
+        params[7] = p7;
+        params[8] = p8;
+        params[9] = p9;
+        logParams(fqcn, log4RichLogger, level, marker, message, params, 10);
+    }
+
+    /**
+     * Shared fixed-arity path. The parameters sit in a recycled per-thread
+     * array, cleared before returning; in async mode they are copied into the
+     * ring slot's own array, so formatting still happens on the consumer.
+     */
+    private static void logParams(String fqcn,
+                                  com.log4rich.core.Logger log4RichLogger,
+                                  Level level,
+                                  Marker marker,
+                                  String message,
+                                  Object[] params,
+                                  int count) {
+        try {
+            com.log4rich.core.LogLevel richLevel = LevelTranslator.translate(level);
+            if (dropped(log4RichLogger, richLevel, level, message, true)) {
+                return;
+            }
+
+            StackTraceElement location = LocationCapture.isEnabled() ? LocationCapture.locate(fqcn) : null;
+
+            AsyncLoggingDispatcher async = AsyncLoggingDispatcher.active();
+            if (async != null && async.publishParams(log4RichLogger, richLevel, marker, location, message, params, count)) {
+                return;
+            }
+
+            emit(log4RichLogger, richLevel, formatParams(location, marker, message, params, count), null);
+        } finally {
+            MessageExtractor.releaseParams(params, count);
+        }
+    }
+
+    /**
+     * Logs a compiled {@link MessageTemplate}. The template's literal segments
+     * are precomputed, so the pattern is neither scanned nor looked up in the
+     * {@link ParsedPattern} cache. A trailing Throwable beyond the template's
+     * placeholders becomes the event throwable.
+     */
+    public static void logTemplate(String fqcn,
+                                   com.log4rich.core.Logger log4RichLogger,
+                                   Level level,
+                                   Marker marker,
+                                   MessageTemplate template,
+                                   Object... params) {
+        int count = params != null ? params.length : 0;
+        logTemplate(fqcn, log4RichLogger, level, marker, template, params, count, null);
+    }
+
+    /**
+     * Template with one parameter, without a varargs array.
+     */
+    public static void logTemplate(String fqcn,
+                                   com.log4rich.core.Logger log4RichLogger,
+                                   Level level,
+                                   Marker marker,
+                                   MessageTemplate template,
+                                   Object p0) {
+        Object[] params = MessageExtractor.acquireParams();
+        params[0] = p0;
+        try {
+            logTemplate(fqcn, log4RichLogger, level, marker, template, params, 1, null);
+        } finally {
+            MessageExtractor.releaseParams(params, 1);
+        }
+    }
+
+    /**
+     * Template with two parameters, without a varargs array.
+     */
+    public static void logTemplate(String fqcn,
+                                   com.log4rich.core.Logger log4RichLogger,
+                                   Level level,
+                                   Marker marker,
+                                   MessageTemplate template,
+                                   Object p0,
+                                   Object p1) {
+        Object[] params = MessageExtractor.acquireParams();
+        params[0] = p0;
+        params[1] = p1;
+        try {
+            logTemplate(fqcn, log4RichLogger, level, marker, template, params, 2, null);
+        } finally {
+            MessageExtractor.releaseParams(params, 2);
+        }
+    }
+
+    /**
+     * Template with an explicit throwable and no parameters.
+     */
+    public static void logTemplate(String fqcn,
+                                   com.log4rich.core.Logger log4RichLogger,
+                                   Level level,
+                                   Marker marker,
+                                   MessageTemplate template,
+                                   Throwable throwable) {
+        logTemplate(fqcn, log4RichLogger, level, marker, template, null, 0, throwable);
+    }
+
+    /**
+     * Shared template path. Like the fixed-arity path it formats on the
+     * calling thread, since the parameters may sit in a recycled array.
+     */
+    private static void logTemplate(String fqcn,
+                                    com.log4rich.core.Logger log4RichLogger,
+                                    Level level,
+                                    Marker marker,
+                                    MessageTemplate template,
+                                    Object[] params,
+                                    int count,
+                                    Throwable throwable) {
+        com.log4rich.core.LogLevel richLevel = LevelTranslator.translate(level);
+        if (dropped(log4RichLogger, richLevel, level, template, true)) {
+            return;
+        }
+        Throwable eventThrowable = throwable;
+        if (eventThrowable == null && template != null) {
+            eventThrowable = template.getThrowable(params, count);
+        }
+        StackTraceElement location = LocationCapture.isEnabled() ? LocationCapture.locate(fqcn) : null;
+        String finalMessage;
+        StringBuilder buffer = MessageExtractor.acquireBuffer();
+        try {
+            LocationCapture.appendLocation(buffer, location);
+            MarkerHandler.appendMarker(buffer, marker);
+            if (template != null) {
+                template.formatTo(buffer, params, count);
+            } else {
+                buffer.append("null");
+            }
+            finalMessage = buffer.toString();
+        } finally {
+            MessageExtractor.releaseBuffer(buffer);
+        }
+        emitFormatted(log4RichLogger, richLevel, finalMessage, eventThrowable);
+    }
+
     /**
      * Optimized version for exception logging without parameters.
      */
@@ -120,16 +622,200 @@ public class LoggingEngine {
                                        Level level,
                                        String message,
                                        Throwable throwable) {
-        
+
         com.log4rich.core.LogLevel richLevel = LevelTranslator.translate(level);
-        if (!log4RichLogger.isLevelEnabled(richLevel)) {
+
+        // Location capture needs the full path's stack walk
+        if (LocationCapture.isEnabled()) {
+            dispatch(DEFAULT_FQCN, null, log4RichLogger, richLevel, level, null, message, throwable, null);
+            return;
+        }
+
+        if (dropped(log4RichLogger, richLevel, level, message, false)) {
+            return;
+        }
+
+        AsyncLoggingDispatcher async = AsyncLoggingDispatcher.active();
+        if (async != null && async.publishMessage(log4RichLogger, richLevel, message, throwable)) {
+            return;
+        }
+
+        emit(log4RichLogger, richLevel, message, throwable);
+    }
+
+    /**
+     * Formats a message for log4Rich. With a location or marker, the prefixes
+     * and the message are written into one buffer, producing a single String.
+     */
+    static String formatMessage(StackTraceElement location, Marker marker, Object message, Object[] params) {
+        if (location == null && marker == null) {
+            return MessageExtractor.extractMessage(message, params);
+        }
+        StringBuilder buffer = MessageExtractor.acquireBuffer();
+        try {
+            LocationCapture.appendLocation(buffer, location);
+            MarkerHandler.appendMarker(buffer, marker);
+            MessageExtractor.appendMessage(buffer, message, params);
+            return buffer.toString();
+        } finally {
+            MessageExtractor.releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * Formats the first {@code count} parameters of a fixed-arity call into
+     * one String, after any location and marker prefixes.
+     */
+    static String formatParams(StackTraceElement location, Marker marker, String message, Object[] params, int count) {
+        StringBuilder buffer = MessageExtractor.acquireBuffer();
+        try {
+            LocationCapture.appendLocation(buffer, location);
+            MarkerHandler.appendMarker(buffer, marker);
+            MessageExtractor.appendFormatted(buffer, message, params, count);
+            return buffer.toString();
+        } finally {
+            MessageExtractor.releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * Applies the {@link Sampler} and then the {@link RateLimiter}, where
+     * active, to an event that passed the level and marker checks. Returns
+     * true if the event is to be dropped; otherwise logs any pending rate
+     * limit summary first. Sampled-out events take no rate limit tokens.
+     * {@code hasParams} tells a String pattern from a plain String message.
+     */
+    private static boolean dropped(com.log4rich.core.Logger log4RichLogger,
+                                   com.log4rich.core.LogLevel richLevel,
+                                   Level level,
+                                   Object message,
+                                   boolean hasParams) {
+        Sampler sampler = Sampler.active();
+        if (sampler != null && !sampler.sample(log4RichLogger, richLevel, level)) {
+            return true;
+        }
+        RateLimiter limiter = RateLimiter.active();
+        if (limiter == null) {
+            return false;
+        }
+        String pattern = limiter.isByPattern() ? patternOf(message, hasParams) : null;
+        long verdict = limiter.acquire(log4RichLogger, richLevel, pattern);
+        if (verdict < 0) {
+            return true;
+        }
+        if (verdict > 0) {
+            emitFormatted(log4RichLogger, richLevel, RateLimiter.summary(verdict, pattern));
+        }
+        return false;
+    }
+
+    /**
+     * The pattern identifying an event's call site for per-pattern limits.
+     * Plain text has none: a message built by concatenation differs on every
+     * call, so it is limited by the shared logger and level bucket.
+     */
+    private static String patternOf(Object message, boolean hasParams) {
+        if (message instanceof String) {
+            return hasParams ? (String) message : null;
+        } else if (message instanceof Message) {
+            Object[] parameters = ((Message) message).getParameters();
+            return parameters != null && parameters.length > 0 ? ((Message) message).getFormat() : null;
+        } else if (message instanceof MessageTemplate) {
+            return ((MessageTemplate) message).getPattern();
+        }
+        return null;
+    }
+
+    /**
+     * Logs a rate limit summary reported outside an event, by the
+     * {@link RateLimiter} flush.
+     */
+    static void emitSummary(com.log4rich.core.Logger log4RichLogger,
+                            com.log4rich.core.LogLevel richLevel,
+                            String summary) {
+        emitFormatted(log4RichLogger, richLevel, summary);
+    }
+
+    /**
+     * Emits a message formatted on the calling thread. In async mode the
+     * formatted String is published, so the consumer does no further work.
+     */
+    private static void emitFormatted(com.log4rich.core.Logger log4RichLogger,
+                                      com.log4rich.core.LogLevel richLevel,
+                                      String finalMessage) {
+        emitFormatted(log4RichLogger, richLevel, finalMessage, null);
+    }
+
+    private static void emitFormatted(com.log4rich.core.Logger log4RichLogger,
+                                      com.log4rich.core.LogLevel richLevel,
+                                      String finalMessage,
+                                      Throwable throwable) {
+        AsyncLoggingDispatcher async = AsyncLoggingDispatcher.active();
+        if (async != null && async.publishMessage(log4RichLogger, richLevel, finalMessage, throwable)) {
+            return;
+        }
+        emit(log4RichLogger, richLevel, finalMessage, throwable);
+    }
+
+    /**
+     * Final stage shared by the synchronous paths and the async consumer:
+     * applies thread context and delegates to log4Rich.
+     * The message must already be fully formatted. The opt-in stages that
+     * need the final text or the throwable - repeat suppression, stack trace
+     * elision and rendering - run here.
+     */
+    static void emit(com.log4rich.core.Logger log4RichLogger,
+                     com.log4rich.core.LogLevel richLevel,
+                     String finalMessage,
+                     Throwable throwable) {
+
+        // Collapse runs of identical events, when enabled
+        if (RepeatSuppressor.isEnabled() && RepeatSuppressor.isRepeat(log4RichLogger, richLevel, finalMessage, throwable)) {
             return;
         }
-        
+
+        // Replace recently logged stack traces with a reference, when enabled
+        if (throwable != null && ThrowableFingerprints.isEnabled()) {
+            long fingerprint = ThrowableFingerprints.fingerprint(throwable);
+            long count = ThrowableFingerprints.record(fingerprint, System.nanoTime());
+            StringBuilder buffer = MessageExtractor.acquireBuffer();
+            try {
+                buffer.append(finalMessage);
+                ThrowableFingerprints.appendReference(buffer, throwable, fingerprint, count);
+                finalMessage = buffer.toString();
+            } finally {
+                MessageExtractor.releaseBuffer(buffer);
+            }
+            if (count > 1) {
+                throwable = null;
+            }
+        }
+
+        // Filtered, depth-limited stack trace rendered into the message, when configured
+        ThrowableRenderer renderer = throwable != null ? ThrowableRenderer.active() : null;
+        if (renderer != null) {
+            StringBuilder buffer = MessageExtractor.acquireBuffer();
+            try {
+                buffer.append(finalMessage);
+                renderer.render(buffer, throwable);
+                finalMessage = buffer.toString();
+            } finally {
+                MessageExtractor.releaseBuffer(buffer);
+            }
+            throwable = null;
+        }
+
+        // Apply thread context
         ContextBridge.applyThreadContext();
-        log4RichLogger.log(richLevel, message, throwable);
+
+        // Log to log4Rich (single delegation point)
+        if (throwable != null) {
+            log4RichLogger.log(richLevel, finalMessage, throwable);
+        } else {
+            log4RichLogger.log(richLevel, finalMessage);
+        }
     }
-    
+
     /**
      * Check if logging is enabled for a specific level.
      * Used by isDebugEnabled(), isInfoEnabled(), etc.
@@ -138,19 +824,38 @@ public class LoggingEngine {
         com.log4rich.core.LogLevel richLevel = LevelTranslator.translate(level);
         return log4RichLogger.isLevelEnabled(richLevel);
     }
-    
+
     /**
      * Check if logging is enabled for a specific level with marker consideration.
      */
-    public static boolean isEnabled(com.log4rich.core.Logger log4RichLogger, 
-                                   Level level, 
+    public static boolean isEnabled(com.log4rich.core.Logger log4RichLogger,
+                                   Level level,
                                    Marker marker) {
         // First check basic level
         if (!isEnabled(log4RichLogger, level)) {
             return false;
         }
-        
+
         // Then check marker filtering
         return MarkerHandler.shouldLog(marker, level);
     }
-}
\ No newline at end of file
+
+    /**
+     * Check if logging is enabled using a logger's cached effective level.
+     * This is the fast path for isDebugEnabled() and disabled-level calls:
+     * a volatile read and an integer comparison once the cache is warm. Only
+     * an enabled level goes on to the marker filter, itself one volatile read
+     * when no marker rules are configured.
+     * Unmarked events are also subject to the marker filter's default level.
+     */
+    public static boolean isEnabled(LevelCache levelCache, Level level) {
+        return levelCache.isEnabled(level) && MarkerHandler.shouldLog(null, level);
+    }
+
+    /**
+     * Cached-level check with marker consideration.
+     */
+    public static boolean isEnabled(LevelCache levelCache, Level level, Marker marker) {
+        return levelCache.isEnabled(level) && MarkerHandler.shouldLog(marker, level);
+    }
+}
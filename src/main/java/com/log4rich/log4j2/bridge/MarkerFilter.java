@@ -0,0 +1,213 @@
+package com.log4rich.log4j2.bridge;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.status.StatusLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Marker-based accept/deny filtering applied by {@link MarkerHandler#shouldLog}.
+ *
+ * <p>Rules are written as comma-separated {@code NAME} or {@code NAME:LEVEL}
+ * entries and match a marker or any of its ancestors:</p>
+ * <ul>
+ *   <li><b>accept</b> {@code SQL:DEBUG} - events marked SQL pass at DEBUG
+ *       and more severe levels; a bare name accepts every level.</li>
+ *   <li><b>deny</b> {@code HEALTH:INFO} - events marked HEALTH are dropped at
+ *       INFO and more verbose levels; a bare name denies every level.
+ *       Deny wins over accept.</li>
+ *   <li><b>defaultLevel</b> - the threshold for events that match no accept
+ *       rule, unmarked events included.</li>
+ * </ul>
+ *
+ * <p>To enable only SQL and AUDIT at DEBUG, set log4Rich to DEBUG and:</p>
+ * <pre>
+ * -Dlog4rich.bridge.markers.accept=SQL:DEBUG,AUDIT:DEBUG
+ * -Dlog4rich.bridge.markers.defaultLevel=INFO
+ * </pre>
+ *
+ * <p>Rules are compiled into one intLevel threshold per marker the first time
+ * the marker is seen, so a check is a table lookup and an integer comparison.
+ * The table is rebuilt when the rules or any marker hierarchy change. With no
+ * rules configured every check returns true without a lookup.</p>
+ */
+public final class MarkerFilter {
+
+    // Threshold that lets every level through
+    private static final int PASS_ALL = Integer.MAX_VALUE;
+
+    // Threshold that blocks every level
+    private static final int BLOCK_ALL = -1;
+
+    private static final Level[] STANDARD_LEVELS = {
+        Level.OFF, Level.FATAL, Level.ERROR, Level.WARN, Level.INFO, Level.DEBUG, Level.TRACE, Level.ALL
+    };
+
+    private static volatile MarkerFilter current = fromProperties();
+
+    private final List<Rule> acceptRules;
+    private final List<Rule> denyRules;
+    private final int defaultThreshold;
+    private final boolean passAll;
+
+    // Compiled decisions for the marker hierarchy generation they were built against
+    private volatile DecisionTable table;
+
+    private MarkerFilter(List<Rule> acceptRules, List<Rule> denyRules, int defaultThreshold) {
+        this.acceptRules = acceptRules;
+        this.denyRules = denyRules;
+        this.defaultThreshold = defaultThreshold;
+        this.passAll = acceptRules.isEmpty() && denyRules.isEmpty() && defaultThreshold == PASS_ALL;
+        this.table = new DecisionTable(MarkerManager.getHierarchyGeneration());
+    }
+
+    /**
+     * Installs new filter rules, replacing the current ones.
+     *
+     * @param accept comma-separated accept rules, or null for none
+     * @param deny comma-separated deny rules, or null for none
+     * @param defaultLevel threshold for events matching no accept rule, or null for ALL
+     */
+    public static void configure(String accept, String deny, Level defaultLevel) {
+        current = new MarkerFilter(parseRules(accept, Level.ALL), parseRules(deny, Level.ALL),
+            defaultLevel != null ? defaultLevel.intLevel() : PASS_ALL);
+    }
+
+    /**
+     * Removes all rules so every marker passes.
+     */
+    public static void reset() {
+        configure(null, null, null);
+    }
+
+    /**
+     * Checks whether an event at the given level and marker passes the rules.
+     * A null marker is subject to the default level only.
+     */
+    public static boolean isEnabled(Marker marker, Level level) {
+        MarkerFilter filter = current;
+        if (filter.passAll) {
+            return true;
+        }
+        int intLevel = level != null ? level.intLevel() : Level.INFO.intLevel();
+        return intLevel <= filter.threshold(marker);
+    }
+
+    private int threshold(Marker marker) {
+        if (marker == null) {
+            return defaultThreshold;
+        }
+        DecisionTable decisions = table;
+        int generation = MarkerManager.getHierarchyGeneration();
+        if (decisions.generation != generation) {
+            decisions = new DecisionTable(generation);
+            table = decisions;
+        }
+        Integer threshold = decisions.thresholds.get(marker);
+        if (threshold == null) {
+            threshold = compile(marker);
+            decisions.thresholds.put(marker, threshold);
+        }
+        return threshold;
+    }
+
+    /**
+     * Folds every matching rule into a single threshold: the most permissive
+     * matching accept rule (or the default), capped by the strictest matching deny rule.
+     */
+    private int compile(Marker marker) {
+        int threshold = BLOCK_ALL;
+        boolean accepted = false;
+        for (Rule rule : acceptRules) {
+            if (marker.isInstanceOf(rule.markerName)) {
+                threshold = Math.max(threshold, rule.intLevel);
+                accepted = true;
+            }
+        }
+        if (!accepted) {
+            threshold = defaultThreshold;
+        }
+        for (Rule rule : denyRules) {
+            if (marker.isInstanceOf(rule.markerName)) {
+                // Deny NAME:LEVEL drops LEVEL and everything more verbose
+                threshold = Math.min(threshold, rule.intLevel == PASS_ALL ? BLOCK_ALL : rule.intLevel - 1);
+            }
+        }
+        return threshold;
+    }
+
+    private static MarkerFilter fromProperties() {
+        Level defaultLevel = parseLevel(BridgeProperties.getString("markers.defaultLevel", null));
+        return new MarkerFilter(
+            parseRules(BridgeProperties.getString("markers.accept", null), Level.ALL),
+            parseRules(BridgeProperties.getString("markers.deny", null), Level.ALL),
+            defaultLevel != null ? defaultLevel.intLevel() : PASS_ALL);
+    }
+
+    private static List<Rule> parseRules(String spec, Level defaultLevel) {
+        List<Rule> rules = new ArrayList<>();
+        if (spec == null) {
+            return rules;
+        }
+        for (String entry : spec.split(",")) {
+            entry = entry.trim();
+            if (entry.isEmpty()) {
+                continue;
+            }
+            int colon = entry.indexOf(':');
+            String name = colon >= 0 ? entry.substring(0, colon).trim() : entry;
+            Level level = defaultLevel;
+            if (colon >= 0) {
+                level = parseLevel(entry.substring(colon + 1));
+                if (level == null) {
+                    StatusLogger.getLogger().warn("Ignoring marker rule with unknown level: " + entry);
+                    continue;
+                }
+            }
+            if (!name.isEmpty()) {
+                rules.add(new Rule(name, level.intLevel()));
+            }
+        }
+        return rules;
+    }
+
+    /**
+     * Parses a standard level name without registering custom levels for typos.
+     */
+    static Level parseLevel(String name) {
+        if (name == null) {
+            return null;
+        }
+        name = name.trim();
+        for (Level level : STANDARD_LEVELS) {
+            if (level.name().equalsIgnoreCase(name)) {
+                return level;
+            }
+        }
+        return null;
+    }
+
+    private static final class Rule {
+        final String markerName;
+        final int intLevel;
+
+        Rule(String markerName, int intLevel) {
+            this.markerName = markerName;
+            this.intLevel = intLevel;
+        }
+    }
+
+    private static final class DecisionTable {
+        final int generation;
+        final Map<Marker, Integer> thresholds = new ConcurrentHashMap<>();
+
+        DecisionTable(int generation) {
+            this.generation = generation;
+        }
+    }
+}
@@ -2,11 +2,20 @@ package com.log4rich.log4j2.bridge;
 
 import org.apache.logging.log4j.Marker;
 
+import java.util.function.Function;
+
 /**
  * Handles log4j2 Marker extraction and formatting.
  * Provides consistent marker processing across all logging methods.
+ *
+ * <p>The rendered {@code "[NAME [PARENT, ...]] "} prefix is memoised on the
+ * marker itself and re-rendered only when that marker's parents change, so
+ * marked events append a cached String instead of rebuilding it.</p>
  */
 public class MarkerHandler {
+
+    // Renders a marker's prefix; each marker holds on to the result
+    private static final Function<Marker, String> PREFIX_RENDERER = marker -> "[" + extractMarkerInfo(marker) + "] ";
     
     /**
      * Extracts marker information for inclusion in log messages.
@@ -37,12 +46,10 @@ public class MarkerHandler {
     
     /**
      * Determines if logging should proceed based on marker filtering.
-     * For now, always returns true - can be enhanced for marker-based filtering.
+     * Delegates to the compiled {@link MarkerFilter} rules; always true when none are configured.
      */
     public static boolean shouldLog(Marker marker, org.apache.logging.log4j.Level level) {
-        // Future enhancement: implement marker-based filtering
-        // For now, all markers are allowed
-        return true;
+        return MarkerFilter.isEnabled(marker, level);
     }
     
     /**
@@ -50,46 +57,33 @@ public class MarkerHandler {
      * Returns formatted string or null if no marker.
      */
     public static String formatMarker(Marker marker) {
-        String markerInfo = extractMarkerInfo(marker);
-        if (markerInfo == null) {
+        if (marker == null) {
             return null;
         }
-        return "[" + markerInfo + "] ";
+        return marker.getPrefix(PREFIX_RENDERER);
+    }
+
+    /**
+     * Appends the marker's cached prefix to a formatting buffer; nothing for null.
+     */
+    static void appendMarker(StringBuilder buffer, Marker marker) {
+        if (marker != null) {
+            buffer.append(formatMarker(marker));
+        }
     }
     
     /**
      * Checks if a marker matches a specific name (including parent hierarchy).
+     * A bit test against the marker's cached ancestor set.
      */
     public static boolean isInstanceOf(Marker marker, String name) {
-        if (marker == null || name == null) {
-            return false;
-        }
-        
-        // Check marker itself
-        if (name.equals(marker.getName())) {
-            return true;
-        }
-        
-        // Check parent markers recursively
-        if (marker.hasParents()) {
-            for (Marker parent : marker.getParents()) {
-                if (isInstanceOf(parent, name)) {
-                    return true;
-                }
-            }
-        }
-        
-        return false;
+        return marker != null && marker.isInstanceOf(name);
     }
     
     /**
      * Checks if a marker matches another marker (including parent hierarchy).
      */
     public static boolean isInstanceOf(Marker marker, Marker other) {
-        if (marker == null || other == null) {
-            return false;
-        }
-        
-        return isInstanceOf(marker, other.getName());
+        return marker != null && marker.isInstanceOf(other);
     }
-}
\ No newline at end of file
+}
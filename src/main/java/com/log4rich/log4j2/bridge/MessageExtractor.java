@@ -1,14 +1,52 @@
 package com.log4rich.log4j2.bridge;
 
 import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ReusableSimpleMessage;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
+import java.util.Arrays;
 import java.util.function.Supplier;
 
 /**
  * Extracts and formats messages from various log4j2 message types.
  * Handles: String, Message objects, Suppliers, and parameterized messages.
+ *
+ * <p>Parameterized formatting is done in a single pass over the pattern,
+ * appending into a recycled per-thread {@link StringBuilder} so that each
+ * call produces exactly one final String and no intermediate garbage.
+ * Placeholder offsets come from {@link ParsedPattern}, so constant patterns
+ * are scanned once rather than on every call.</p>
+ *
+ * <p>Messages implementing {@link StringBuilderFormattable} are rendered
+ * with {@code formatTo} into the same buffer, and CharSequence messages
+ * are appended as-is, so neither produces an intermediate String.</p>
  */
 public class MessageExtractor {
-    
+
+    private static final int INITIAL_BUFFER_CAPACITY = 256;
+
+    // Buffers that grew past this are dropped rather than pinned to the thread
+    private static final int MAX_REUSABLE_BUFFER_CAPACITY = 4096;
+
+    // Largest fixed-arity call; matches the p0..p9 overloads
+    static final int MAX_FIXED_PARAMS = 10;
+
+    private static final ThreadLocal<ReusableBuffer> BUFFER =
+        ThreadLocal.withInitial(ReusableBuffer::new);
+
+    /**
+     * Per-thread formatting buffer. The in-use flag protects against
+     * re-entrant logging from a parameter's toString(), which would
+     * otherwise clobber the outer message being built.
+     */
+    private static final class ReusableBuffer {
+        StringBuilder builder = new StringBuilder(INITIAL_BUFFER_CAPACITY);
+        boolean inUse;
+        final Object[] params = new Object[MAX_FIXED_PARAMS];
+        boolean paramsInUse;
+    }
+
     /**
      * Central message extraction method - handles all log4j2 message types.
      */
@@ -19,7 +57,51 @@ public class MessageExtractor {
         
         if (messageObj instanceof String) {
             return formatParameterizedMessage((String) messageObj, params);
-        } else if (messageObj instanceof Message) {
+        }
+        if (messageObj instanceof CharSequence
+                || messageObj instanceof StringBuilderFormattable && !holdsText(messageObj)) {
+            StringBuilder buffer = acquireBuffer();
+            try {
+                appendMessage(buffer, messageObj, params);
+                return buffer.toString();
+            } finally {
+                releaseBuffer(buffer);
+            }
+        }
+        return messageText(messageObj);
+    }
+
+    /**
+     * Appends the formatted message to a buffer, for callers that prepend
+     * other text (such as a marker prefix) and want a single final copy.
+     */
+    static void appendMessage(StringBuilder buffer, Object messageObj, Object[] params) {
+        if (messageObj == null) {
+            buffer.append("null");
+        } else if (messageObj instanceof String) {
+            appendFormatted(buffer, (String) messageObj, params, params != null ? params.length : 0);
+        } else if (messageObj instanceof StringBuilderFormattable) {
+            ((StringBuilderFormattable) messageObj).formatTo(buffer);
+        } else if (messageObj instanceof CharSequence) {
+            buffer.append((CharSequence) messageObj);
+        } else {
+            buffer.append(messageText(messageObj));
+        }
+    }
+
+    /**
+     * Simple messages already hold their text, which one {@code toString()}
+     * returns without a round trip through the buffer.
+     */
+    private static boolean holdsText(Object messageObj) {
+        return messageObj instanceof SimpleMessage || messageObj instanceof ReusableSimpleMessage;
+    }
+
+    /**
+     * Text of a non-String message object: Message, Supplier or plain Object.
+     */
+    private static String messageText(Object messageObj) {
+        if (messageObj instanceof Message) {
             return ((Message) messageObj).getFormattedMessage();
         } else if (messageObj instanceof Supplier) {
             try {
@@ -42,95 +124,194 @@ public class MessageExtractor {
         if (params == null || params.length == 0) {
             return pattern;
         }
-        
-        StringBuilder result = new StringBuilder();
-        int paramIndex = 0;
-        int patternIndex = 0;
-        
-        while (patternIndex < pattern.length()) {
-            int placeholderIndex = pattern.indexOf("{}", patternIndex);
-            
-            if (placeholderIndex == -1) {
-                // No more placeholders, append rest of pattern
-                result.append(pattern.substring(patternIndex));
-                break;
-            }
-            
-            // Append text before placeholder
-            result.append(pattern.substring(patternIndex, placeholderIndex));
-            
-            // Replace placeholder with parameter if available
-            if (paramIndex < params.length) {
-                Object param = params[paramIndex++];
-                result.append(formatParameter(param));
-            } else {
-                // No more parameters, keep the placeholder
-                result.append("{}");
-            }
-            
-            patternIndex = placeholderIndex + 2; // Skip "{}"
+
+        StringBuilder buffer = acquireBuffer();
+        try {
+            appendFormatted(buffer, pattern, params, params.length);
+            return buffer.toString();
+        } finally {
+            releaseBuffer(buffer);
         }
-        
-        return result.toString();
     }
     
     /**
-     * Formats individual parameters, handling special cases.
+     * Optimization for single parameter case (very common).
+     * Only the first {} is substituted; any further placeholders are kept.
      */
-    private static String formatParameter(Object param) {
-        if (param == null) {
+    public static String formatSingleParameter(String pattern, Object param) {
+        if (pattern == null) {
             return "null";
         }
-        
-        if (param instanceof String) {
-            return (String) param;
+        ParsedPattern parsed = ParsedPattern.of(pattern);
+        if (parsed.placeholderCount() == 0) {
+            return pattern;
         }
-        
-        if (param instanceof Object[]) {
-            // Handle array parameters
+
+        StringBuilder buffer = acquireBuffer();
+        try {
+            int placeholder = parsed.placeholderAt(0);
+            buffer.append(pattern, 0, placeholder);
+            appendParameter(buffer, param);
+            buffer.append(pattern, placeholder + 2, pattern.length());
+            return buffer.toString();
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * Optimization for two parameter case (also very common).
+     */
+    public static String formatTwoParameters(String pattern, Object param1, Object param2) {
+        if (pattern == null) {
+            return "null";
+        }
+        ParsedPattern parsed = ParsedPattern.of(pattern);
+        if (parsed.placeholderCount() == 0) {
+            return pattern;
+        }
+
+        StringBuilder buffer = acquireBuffer();
+        try {
+            int first = parsed.placeholderAt(0);
+            buffer.append(pattern, 0, first);
+            appendParameter(buffer, param1);
+            if (parsed.placeholderCount() == 1) {
+                buffer.append(pattern, first + 2, pattern.length());
+            } else {
+                int second = parsed.placeholderAt(1);
+                buffer.append(pattern, first + 2, second);
+                appendParameter(buffer, param2);
+                buffer.append(pattern, second + 2, pattern.length());
+            }
+            return buffer.toString();
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    // ========== Single-pass formatting core ==========
+
+    /**
+     * Appends the pattern to the buffer, substituting the first {@code count}
+     * parameters for {} placeholders in order. Placeholders without a matching
+     * parameter are kept as-is. Placeholder offsets come from the
+     * {@link ParsedPattern} cache, so a repeated pattern is not rescanned;
+     * text logged without parameters is copied without a lookup.
+     */
+    static void appendFormatted(StringBuilder buffer, String pattern, Object[] params, int count) {
+        if (pattern == null) {
+            buffer.append("null");
+            return;
+        }
+        if (count == 0) {
+            buffer.append(pattern);
+            return;
+        }
+
+        ParsedPattern parsed = ParsedPattern.of(pattern);
+        int substituted = Math.min(count, parsed.placeholderCount());
+        int start = 0;
+
+        for (int i = 0; i < substituted; i++) {
+            int placeholder = parsed.placeholderAt(i);
+            buffer.append(pattern, start, placeholder);
+            appendParameter(buffer, params[i]);
+            start = placeholder + 2;
+        }
+
+        buffer.append(pattern, start, pattern.length());
+    }
+
+    /**
+     * Appends an individual parameter, handling null and array values.
+     * Integer, Long and Double are appended as numbers, and other
+     * CharSequences - such as values from {@code Unbox.box} - are copied in,
+     * which renders them as their toString would without allocating the
+     * String. Shared by every formatter, so a parameter renders the same
+     * whichever way it is logged.
+     */
+    public static void appendParameter(StringBuilder buffer, Object param) {
+        if (param == null) {
+            buffer.append("null");
+        } else if (param instanceof String) {
+            buffer.append((String) param);
+        } else if (param instanceof Integer) {
+            buffer.append(((Integer) param).intValue());
+        } else if (param instanceof Long) {
+            buffer.append(((Long) param).longValue());
+        } else if (param instanceof Double) {
+            buffer.append(((Double) param).doubleValue());
+        } else if (param instanceof CharSequence) {
+            buffer.append((CharSequence) param);
+        } else if (param instanceof Object[]) {
             Object[] array = (Object[]) param;
-            StringBuilder sb = new StringBuilder("[");
+            buffer.append('[');
             for (int i = 0; i < array.length; i++) {
-                if (i > 0) sb.append(", ");
-                sb.append(formatParameter(array[i]));
+                if (i > 0) buffer.append(", ");
+                appendParameter(buffer, array[i]);
             }
-            sb.append("]");
-            return sb.toString();
+            buffer.append(']');
+        } else {
+            buffer.append(param.toString());
         }
-        
-        return param.toString();
     }
-    
+
+    // ========== Per-thread buffer management ==========
+
     /**
-     * Optimization for single parameter case (very common).
+     * Borrows the calling thread's formatting buffer, cleared and ready for use.
+     * Falls back to a fresh builder when the thread's buffer is already in use
+     * (re-entrant logging). Must be paired with {@link #releaseBuffer}.
      */
-    public static String formatSingleParameter(String pattern, Object param) {
-        if (param == null) {
-            return pattern.replace("{}", "null");
+    static StringBuilder acquireBuffer() {
+        ReusableBuffer holder = BUFFER.get();
+        if (holder.inUse) {
+            return new StringBuilder(INITIAL_BUFFER_CAPACITY);
         }
-        return pattern.replace("{}", formatParameter(param));
+        holder.inUse = true;
+        StringBuilder builder = holder.builder;
+        builder.setLength(0);
+        return builder;
     }
-    
+
     /**
-     * Optimization for two parameter case (also very common).
+     * Returns a buffer obtained from {@link #acquireBuffer}.
      */
-    public static String formatTwoParameters(String pattern, Object param1, Object param2) {
-        String result = pattern;
-        
-        int firstIndex = result.indexOf("{}");
-        if (firstIndex != -1) {
-            result = result.substring(0, firstIndex) + 
-                    formatParameter(param1) + 
-                    result.substring(firstIndex + 2);
-            
-            int secondIndex = result.indexOf("{}");
-            if (secondIndex != -1) {
-                result = result.substring(0, secondIndex) + 
-                        formatParameter(param2) + 
-                        result.substring(secondIndex + 2);
+    static void releaseBuffer(StringBuilder buffer) {
+        ReusableBuffer holder = BUFFER.get();
+        if (holder.builder == buffer) {
+            if (buffer.capacity() > MAX_REUSABLE_BUFFER_CAPACITY) {
+                holder.builder = new StringBuilder(INITIAL_BUFFER_CAPACITY);
             }
+            holder.inUse = false;
+        }
+    }
+
+    /**
+     * Borrows the calling thread's parameter array for fixed-arity calls of up
+     * to ten parameters. Falls back to a fresh array when it is already in use
+     * (a parameter's toString() logging with many parameters). Must be paired
+     * with {@link #releaseParams}.
+     */
+    static Object[] acquireParams() {
+        ReusableBuffer holder = BUFFER.get();
+        if (holder.paramsInUse) {
+            return new Object[MAX_FIXED_PARAMS];
+        }
+        holder.paramsInUse = true;
+        return holder.params;
+    }
+
+    /**
+     * Clears the first {@code count} entries, so the array does not keep
+     * caller objects alive, and returns it if it is the thread's own.
+     */
+    static void releaseParams(Object[] params, int count) {
+        Arrays.fill(params, 0, count, null);
+        ReusableBuffer holder = BUFFER.get();
+        if (holder.params == params) {
+            holder.paramsInUse = false;
         }
-        
-        return result;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+package com.log4rich.log4j2.bridge;
+
+import org.apache.logging.log4j.message.DefaultMessageFactory;
+import org.apache.logging.log4j.message.MessageFactory;
+import org.apache.logging.log4j.message.ReusableMessageFactory;
+import org.apache.logging.log4j.status.StatusLogger;
+
+/**
+ * Selects the message factory used by loggers created without one.
+ *
+ * <p>{@code -Dlog4rich.bridge.messageFactory=reusable} selects
+ * {@link ReusableMessageFactory}, which recycles per-thread message objects
+ * for wrapper-based loggers (SLF4J, commons-logging) that go through
+ * {@code logIfEnabled}; {@code default} keeps {@link DefaultMessageFactory}.
+ * The choice applies to loggers created after it is made.</p>
+ */
+public final class MessageFactories {
+
+    private static volatile MessageFactory defaultFactory =
+        fromName(BridgeProperties.getString("messageFactory", "default"));
+
+    private MessageFactories() {
+    }
+
+    /**
+     * The factory for loggers created without an explicit one.
+     */
+    public static MessageFactory getDefault() {
+        return defaultFactory;
+    }
+
+    /**
+     * Replaces the default factory; null restores {@link DefaultMessageFactory}.
+     */
+    public static void setDefault(MessageFactory factory) {
+        defaultFactory = factory != null ? factory : DefaultMessageFactory.INSTANCE;
+    }
+
+    private static MessageFactory fromName(String name) {
+        if ("reusable".equalsIgnoreCase(name)) {
+            return ReusableMessageFactory.INSTANCE;
+        }
+        if (!"default".equalsIgnoreCase(name)) {
+            StatusLogger.getLogger().warn("Unknown message factory '" + name + "', using default");
+        }
+        return DefaultMessageFactory.INSTANCE;
+    }
+}
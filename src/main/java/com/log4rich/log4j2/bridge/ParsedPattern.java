@@ -0,0 +1,114 @@
+package com.log4rich.log4j2.bridge;
+
+import java.util.Arrays;
+
+/**
+ * A message pattern with its {} placeholder offsets precomputed, so that
+ * formatting copies the literal segments between them without rescanning.
+ *
+ * <p>{@link #of(String)} looks patterns up in a bounded, identity-keyed
+ * cache: a 4-way set-associative table indexed by
+ * {@link System#identityHashCode}. Constant patterns are the same String
+ * instance on every call, so a lookup is at most four array reads and
+ * reference comparisons. A pattern is admitted the second time the same
+ * instance misses, so patterns built per call never displace cached ones;
+ * an admitted pattern replaces the oldest entry of its set. Entries are
+ * immutable, so concurrent readers see either the old or the new one.
+ * The table size is set with {@code -Dlog4rich.bridge.patternCache.size}
+ * (rounded up to a power of two, default 16384; 0 disables caching).</p>
+ */
+public final class ParsedPattern {
+
+    private static final int DEFAULT_CACHE_SIZE = 16384;
+    private static final int MAX_CACHE_SIZE = 1 << 20;
+
+    private static final int WAYS = 4;
+
+    private static final int[] NO_PLACEHOLDERS = new int[0];
+
+    private static final ParsedPattern[] CACHE = createCache(BridgeProperties.getInt("patternCache.size", DEFAULT_CACHE_SIZE));
+    private static final int SET_MASK = CACHE.length / WAYS - 1;
+
+    // Per set, the last pattern that missed once; admitted if it misses again
+    private static final String[] CANDIDATES = new String[CACHE.length / WAYS];
+
+    private final String pattern;
+    private final int[] placeholders;
+    private final int count;
+
+    private ParsedPattern(String pattern, int[] placeholders, int count) {
+        this.pattern = pattern;
+        this.placeholders = placeholders;
+        this.count = count;
+    }
+
+    /**
+     * The parsed form of {@code pattern}, from the cache when this exact
+     * String instance was parsed before.
+     */
+    public static ParsedPattern of(String pattern) {
+        if (SET_MASK < 0) {
+            return parse(pattern);
+        }
+        int set = System.identityHashCode(pattern) & SET_MASK;
+        int base = set * WAYS;
+        for (int way = 0; way < WAYS; way++) {
+            ParsedPattern cached = CACHE[base + way];
+            if (cached != null && cached.pattern == pattern) {
+                return cached;
+            }
+        }
+        ParsedPattern parsed = parse(pattern);
+        if (CANDIDATES[set] != pattern) {
+            CANDIDATES[set] = pattern;
+            return parsed;
+        }
+        CANDIDATES[set] = null;
+        for (int way = WAYS - 1; way > 0; way--) {
+            CACHE[base + way] = CACHE[base + way - 1];
+        }
+        CACHE[base] = parsed;
+        return parsed;
+    }
+
+    /**
+     * Number of {} placeholders in the pattern.
+     */
+    public int placeholderCount() {
+        return count;
+    }
+
+    /**
+     * Offset of the {@code index}-th placeholder's opening brace.
+     */
+    public int placeholderAt(int index) {
+        return placeholders[index];
+    }
+
+    /**
+     * Scans once for non-overlapping "{}" pairs, left to right, without
+     * caching the result.
+     */
+    public static ParsedPattern parse(String pattern) {
+        int[] offsets = NO_PLACEHOLDERS;
+        int count = 0;
+        for (int index = pattern.indexOf("{}"); index >= 0; index = pattern.indexOf("{}", index + 2)) {
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, Math.max(4, count * 2));
+            }
+            offsets[count++] = index;
+        }
+        return new ParsedPattern(pattern, offsets, count);
+    }
+
+    private static ParsedPattern[] createCache(int requested) {
+        if (requested <= 0) {
+            return new ParsedPattern[0];
+        }
+        int size = WAYS;
+        while (size < requested && size < MAX_CACHE_SIZE) {
+            size <<= 1;
+        }
+        return new ParsedPattern[size];
+    }
+}
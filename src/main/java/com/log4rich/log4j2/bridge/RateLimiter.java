@@ -0,0 +1,303 @@
+package com.log4rich.log4j2.bridge;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Burst rate limiting applied by {@link LoggingEngine} after the level and
+ * marker checks and before any formatting.
+ *
+ * <p>Each logger and level - and, with {@code byPattern}, each message
+ * pattern - gets a token bucket that admits {@code perSecond} events on
+ * average with bursts of up to {@code burst}. The bucket is a single
+ * theoretical-arrival timestamp advanced by compare-and-set (the generic
+ * cell rate algorithm), so admission takes no lock. Dropped events are
+ * counted, and a {@code "Rate limit: suppressed N events"} line is logged
+ * at most once per {@code summaryIntervalMillis} per key: before the key's
+ * next admitted event, or by a daemon thread if the key has gone quiet.
+ * {@link #flush()} logs the remaining counts on shutdown.</p>
+ *
+ * <p>Disabled unless {@code -Dlog4rich.bridge.rateLimit.perSecond} is
+ * positive or {@link #configure} is called; when disabled the check is one
+ * volatile read. Only parameterized messages and templates have a pattern;
+ * plain text uses the logger and level bucket. Distinct patterns per logger
+ * and level are capped; further patterns share that bucket too.</p>
+ */
+public final class RateLimiter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private static final long DEFAULT_SUMMARY_INTERVAL_MILLIS = 10_000L;
+
+    private static final String THREAD_NAME = "log4rich-bridge-rate-limit-flusher";
+
+    // How often quiet keys are checked for pending summaries
+    private static final long FLUSH_PERIOD_MILLIS = 1_000L;
+
+    // Patterns tracked per logger and level before falling back to the shared bucket
+    private static final int MAX_PATTERNS = 1024;
+
+    private static final int LEVELS = com.log4rich.core.LogLevel.values().length;
+
+    private static final com.log4rich.core.LogLevel[] LOG_LEVELS = com.log4rich.core.LogLevel.values();
+
+    private static ScheduledExecutorService flusher;
+
+    private static volatile RateLimiter current = install(fromProperties());
+
+    // Events dropped since the limiter was configured
+    private final AtomicLong suppressedTotal = new AtomicLong();
+
+    private final long emissionNanos;
+    private final long toleranceNanos;
+    private final long summaryNanos;
+    private final boolean byPattern;
+    private final ConcurrentMap<com.log4rich.core.Logger, AtomicReferenceArray<LevelBuckets>> loggers =
+        new ConcurrentHashMap<>();
+
+    private RateLimiter(int perSecond, int burst, boolean byPattern, long summaryIntervalMillis) {
+        this.emissionNanos = Math.max(1L, NANOS_PER_SECOND / perSecond);
+        this.toleranceNanos = emissionNanos * Math.max(1, burst);
+        this.summaryNanos = Math.max(0L, summaryIntervalMillis) * 1_000_000L;
+        this.byPattern = byPattern;
+    }
+
+    /**
+     * Installs a new limiter, replacing the current one and its buckets.
+     *
+     * @param perSecond sustained events per second per key; 0 or less disables limiting
+     * @param burst events admitted back to back before the rate applies; at least 1
+     * @param byPattern whether each message pattern gets its own bucket
+     * @param summaryIntervalMillis minimum time between suppression summaries per key
+     */
+    public static void configure(int perSecond, int burst, boolean byPattern, long summaryIntervalMillis) {
+        RateLimiter previous = current;
+        current = install(perSecond > 0 ? new RateLimiter(perSecond, burst, byPattern, summaryIntervalMillis) : null);
+        if (previous != null) {
+            previous.report(0L, true);
+        }
+    }
+
+    /**
+     * Logs every pending suppression count of the current limiter; called
+     * on shutdown.
+     */
+    public static void flush() {
+        RateLimiter limiter = current;
+        if (limiter != null) {
+            limiter.report(0L, true);
+        }
+    }
+
+    /**
+     * Checks whether rate limiting is active.
+     */
+    public static boolean isEnabled() {
+        return current != null;
+    }
+
+    /**
+     * Number of events dropped by the current limiter; 0 when disabled.
+     */
+    public static long getSuppressedCount() {
+        RateLimiter limiter = current;
+        return limiter != null ? limiter.suppressedTotal.get() : 0L;
+    }
+
+    /**
+     * The active limiter, or null when rate limiting is off.
+     */
+    static RateLimiter active() {
+        return current;
+    }
+
+    /**
+     * Takes a token for the event's key.
+     *
+     * @param pattern the event's message pattern, or null if it has none
+     * @return -1 to drop the event, 0 to log it, or the number of events
+     *         suppressed since the last summary to log a summary first
+     */
+    long acquire(com.log4rich.core.Logger log4RichLogger, com.log4rich.core.LogLevel richLevel, String pattern) {
+        Bucket bucket = bucket(log4RichLogger, richLevel, pattern);
+        long now = System.nanoTime();
+        if (!bucket.tryTake(now, emissionNanos, toleranceNanos)) {
+            bucket.suppressed.incrementAndGet();
+            suppressedTotal.incrementAndGet();
+            return -1L;
+        }
+        return bucket.takeSummary(now, summaryNanos);
+    }
+
+    /**
+     * Logs the suppression counts that are due: those whose summary interval
+     * has passed, or all of them when {@code force} is set.
+     */
+    void report(long now, boolean force) {
+        for (Map.Entry<com.log4rich.core.Logger, AtomicReferenceArray<LevelBuckets>> entry : loggers.entrySet()) {
+            AtomicReferenceArray<LevelBuckets> levels = entry.getValue();
+            for (int slot = 0; slot < levels.length(); slot++) {
+                LevelBuckets buckets = levels.get(slot);
+                if (buckets == null) {
+                    continue;
+                }
+                report(entry.getKey(), LOG_LEVELS[slot], buckets.shared, null, now, force);
+                if (buckets.patterns != null) {
+                    for (Map.Entry<String, Bucket> pattern : buckets.patterns.entrySet()) {
+                        report(entry.getKey(), LOG_LEVELS[slot], pattern.getValue(), pattern.getKey(), now, force);
+                    }
+                }
+            }
+        }
+    }
+
+    private void report(com.log4rich.core.Logger log4RichLogger, com.log4rich.core.LogLevel richLevel,
+                        Bucket bucket, String pattern, long now, boolean force) {
+        long suppressed = force ? bucket.suppressed.getAndSet(0L) : bucket.takeSummary(now, summaryNanos);
+        if (suppressed > 0) {
+            LoggingEngine.emitSummary(log4RichLogger, richLevel, summary(suppressed, pattern));
+        }
+    }
+
+    /**
+     * Text of a suppression summary line.
+     */
+    static String summary(long suppressed, String pattern) {
+        StringBuilder text = new StringBuilder(64).append("Rate limit: suppressed ").append(suppressed).append(" events");
+        if (pattern != null) {
+            text.append(" for \"").append(pattern).append('"');
+        }
+        return text.toString();
+    }
+
+    boolean isByPattern() {
+        return byPattern;
+    }
+
+    private Bucket bucket(com.log4rich.core.Logger log4RichLogger, com.log4rich.core.LogLevel richLevel, String pattern) {
+        AtomicReferenceArray<LevelBuckets> levels = loggers.get(log4RichLogger);
+        if (levels == null) {
+            levels = loggers.computeIfAbsent(log4RichLogger, key -> new AtomicReferenceArray<>(LEVELS));
+        }
+        int slot = richLevel.ordinal();
+        LevelBuckets buckets = levels.get(slot);
+        if (buckets == null) {
+            levels.compareAndSet(slot, null, new LevelBuckets(byPattern, summaryNanos));
+            buckets = levels.get(slot);
+        }
+        return buckets.forPattern(pattern);
+    }
+
+    /**
+     * Starts the flush thread the first time a limiter is installed.
+     */
+    private static synchronized RateLimiter install(RateLimiter limiter) {
+        if (limiter != null && flusher == null) {
+            flusher = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(() -> {
+                RateLimiter active = current;
+                if (active != null) {
+                    active.report(System.nanoTime(), false);
+                }
+            }, FLUSH_PERIOD_MILLIS, FLUSH_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        return limiter;
+    }
+
+    private static RateLimiter fromProperties() {
+        int perSecond = BridgeProperties.getInt("rateLimit.perSecond", 0);
+        if (perSecond <= 0) {
+            return null;
+        }
+        return new RateLimiter(perSecond,
+            BridgeProperties.getInt("rateLimit.burst", perSecond),
+            BridgeProperties.getBoolean("rateLimit.byPattern", false),
+            BridgeProperties.getInt("rateLimit.summaryIntervalMillis", (int) DEFAULT_SUMMARY_INTERVAL_MILLIS));
+    }
+
+    /**
+     * Buckets for one logger and level: a shared one, plus one per pattern
+     * when limiting by pattern.
+     */
+    private static final class LevelBuckets {
+        final long summaryNanos;
+        final Bucket shared;
+        final ConcurrentMap<String, Bucket> patterns;
+
+        LevelBuckets(boolean byPattern, long summaryNanos) {
+            this.summaryNanos = summaryNanos;
+            this.shared = new Bucket(summaryNanos);
+            this.patterns = byPattern ? new ConcurrentHashMap<>() : null;
+        }
+
+        Bucket forPattern(String pattern) {
+            if (patterns == null || pattern == null) {
+                return shared;
+            }
+            Bucket bucket = patterns.get(pattern);
+            if (bucket != null) {
+                return bucket;
+            }
+            if (patterns.size() >= MAX_PATTERNS) {
+                return shared;
+            }
+            return patterns.computeIfAbsent(pattern, key -> new Bucket(summaryNanos));
+        }
+    }
+
+    /**
+     * GCRA token bucket: {@code arrival} is the time at which the bucket
+     * would be full again. An event is admitted while that lies no more
+     * than the burst tolerance ahead of now.
+     */
+    private static final class Bucket {
+        final AtomicLong arrival;
+        final AtomicLong suppressed = new AtomicLong();
+        final AtomicLong lastSummary;
+
+        Bucket(long summaryNanos) {
+            long now = System.nanoTime();
+            this.arrival = new AtomicLong(now);
+            // The first summary is not held back by the interval
+            this.lastSummary = new AtomicLong(now - summaryNanos);
+        }
+
+        boolean tryTake(long now, long emissionNanos, long toleranceNanos) {
+            while (true) {
+                long tat = arrival.get();
+                long next = Math.max(tat, now) + emissionNanos;
+                if (next - now > toleranceNanos) {
+                    return false;
+                }
+                if (arrival.compareAndSet(tat, next)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Takes the suppressed count if there is one and the summary interval
+         * has passed; returns 0 otherwise.
+         */
+        long takeSummary(long now, long summaryNanos) {
+            if (suppressed.get() == 0L) {
+                return 0L;
+            }
+            long last = lastSummary.get();
+            if (now - last < summaryNanos || !lastSummary.compareAndSet(last, now)) {
+                return 0L;
+            }
+            return suppressed.getAndSet(0L);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.log4rich.log4j2.bridge;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opt-in collapsing of consecutive identical events, applied by
+ * {@link LoggingEngine#emit} to the fully formatted message.
+ *
+ * <p>Each logger remembers its last event's level and message. A following
+ * event with the same level and text - compared by hash first, so a
+ * different message costs one int comparison after hashing - is counted
+ * instead of logged. When the logger's next different event arrives, or the
+ * run has been idle for {@code timeoutMillis}, a
+ * {@code "Last message repeated N times"} line is logged at the run's level.
+ * Events with a throwable are always logged and end the current run.</p>
+ *
+ * <p>Enabled with {@code -Dlog4rich.bridge.dedup.enabled=true} or
+ * {@link #setEnabled(boolean)}; idle runs are flushed by a daemon thread
+ * started on first use. Each logger's run is one object, reused for every
+ * new message and updated under its own monitor, so a different message
+ * allocates nothing and concurrent events are each either logged or
+ * counted.</p>
+ */
+public final class RepeatSuppressor {
+
+    private static final String THREAD_NAME = "log4rich-bridge-repeat-flusher";
+
+    private static final long DEFAULT_TIMEOUT_MILLIS = 5_000L;
+
+    static final long TIMEOUT_NANOS =
+        TimeUnit.MILLISECONDS.toNanos(Math.max(1, BridgeProperties.getInt("dedup.timeoutMillis", (int) DEFAULT_TIMEOUT_MILLIS)));
+
+    private static final ConcurrentMap<com.log4rich.core.Logger, Run> LAST_EVENTS =
+        new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled;
+
+    private static ScheduledExecutorService flusher;
+
+    static {
+        setEnabled(BridgeProperties.getBoolean("dedup.enabled", false));
+    }
+
+    private RepeatSuppressor() {
+    }
+
+    /**
+     * Checks whether repeated-message suppression is enabled.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables suppression at runtime. Disabling flushes pending counts.
+     */
+    public static synchronized void setEnabled(boolean value) {
+        if (value && flusher == null) {
+            long periodNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(10), TIMEOUT_NANOS / 2);
+            flusher = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(() -> flushIdle(System.nanoTime()),
+                periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+        }
+        enabled = value;
+        if (!value) {
+            flush();
+        }
+    }
+
+    /**
+     * Logs every pending repeat count and forgets the remembered events;
+     * called on shutdown.
+     */
+    public static void flush() {
+        for (Map.Entry<com.log4rich.core.Logger, Run> entry : LAST_EVENTS.entrySet()) {
+            Run run = entry.getValue();
+            com.log4rich.core.LogLevel level;
+            long repeats;
+            synchronized (run) {
+                level = run.level;
+                repeats = run.end();
+            }
+            report(entry.getKey(), level, repeats);
+        }
+    }
+
+    /**
+     * Decides whether a formatted event repeats the logger's previous one.
+     * Returns true if the event is to be counted rather than logged; ending
+     * a run logs its repeat count first.
+     */
+    static boolean isRepeat(com.log4rich.core.Logger log4RichLogger,
+                            com.log4rich.core.LogLevel richLevel,
+                            String finalMessage,
+                            Throwable throwable) {
+        Run run = LAST_EVENTS.get(log4RichLogger);
+        if (run == null) {
+            run = LAST_EVENTS.computeIfAbsent(log4RichLogger, key -> new Run());
+        }
+        boolean counted = throwable == null && finalMessage != null;
+        int hash = counted ? finalMessage.hashCode() : 0;
+        com.log4rich.core.LogLevel endedLevel;
+        long endedRepeats;
+        synchronized (run) {
+            if (counted && run.matches(richLevel, hash, finalMessage)) {
+                run.repeats++;
+                run.lastSeen = System.nanoTime();
+                return true;
+            }
+            endedLevel = run.level;
+            endedRepeats = run.end();
+            if (counted) {
+                run.start(richLevel, hash, finalMessage, System.nanoTime());
+            }
+        }
+        // Outside the monitor, but still ahead of the event that ended the run
+        report(log4RichLogger, endedLevel, endedRepeats);
+        return false;
+    }
+
+    /**
+     * Logs the repeat counts of runs idle for longer than the timeout.
+     */
+    static void flushIdle(long now) {
+        for (Map.Entry<com.log4rich.core.Logger, Run> entry : LAST_EVENTS.entrySet()) {
+            Run run = entry.getValue();
+            com.log4rich.core.LogLevel level;
+            long repeats;
+            synchronized (run) {
+                if (run.repeats == 0 || now - run.lastSeen < TIMEOUT_NANOS) {
+                    continue;
+                }
+                // The run stays open, so further repeats are counted afresh
+                level = run.level;
+                repeats = run.repeats;
+                run.repeats = 0;
+            }
+            report(entry.getKey(), level, repeats);
+        }
+    }
+
+    /**
+     * Text of a repeat summary line.
+     */
+    static String summary(long repeats) {
+        return repeats == 1 ? "Last message repeated 1 time" : "Last message repeated " + repeats + " times";
+    }
+
+    private static void report(com.log4rich.core.Logger log4RichLogger, com.log4rich.core.LogLevel level, long repeats) {
+        if (repeats > 0) {
+            log4RichLogger.log(level, summary(repeats));
+        }
+    }
+
+    /**
+     * A logger's last logged event and how often it has recurred since;
+     * guarded by its own monitor. No message means no open run.
+     */
+    private static final class Run {
+        com.log4rich.core.LogLevel level;
+        int hash;
+        String message;
+        long repeats;
+        long lastSeen;
+
+        void start(com.log4rich.core.LogLevel newLevel, int newHash, String newMessage, long now) {
+            level = newLevel;
+            hash = newHash;
+            message = newMessage;
+            lastSeen = now;
+        }
+
+        /**
+         * Closes the run and returns its uncounted repeats.
+         */
+        long end() {
+            long ended = repeats;
+            repeats = 0;
+            message = null;
+            return ended;
+        }
+
+        boolean matches(com.log4rich.core.LogLevel otherLevel, int otherHash, String otherMessage) {
+            return message != null && hash == otherHash && level == otherLevel && message.equals(otherMessage);
+        }
+    }
+}
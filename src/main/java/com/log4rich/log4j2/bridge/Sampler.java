@@ -0,0 +1,180 @@
+package com.log4rich.log4j2.bridge;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.status.StatusLogger;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Log sampling applied by {@link LoggingEngine} after the level and marker
+ * checks, before the message is formatted.
+ *
+ * <p>Events at the configured level and more verbose ones are sampled;
+ * more severe events are always kept. Three policies are available:</p>
+ * <ul>
+ *   <li><b>everyN</b> - keeps the first of every {@code n} events per logger
+ *       and level, counted with a lock-free per-logger counter array.</li>
+ *   <li><b>random</b> - keeps each event with probability {@code rate}.</li>
+ *   <li><b>consistent</b> - keeps an event when the hash of the
+ *       {@code mdcKey} value in the {@link ThreadContext} falls below
+ *       {@code rate}, so every event of a request (and of any other service
+ *       using the same key and rate) is either kept or dropped together.
+ *       Events without the key are sampled at random.</li>
+ * </ul>
+ *
+ * <p>To keep INFO and below for 1% of requests, by trace ID:</p>
+ * <pre>
+ * -Dlog4rich.bridge.sampling.policy=consistent
+ * -Dlog4rich.bridge.sampling.rate=0.01
+ * -Dlog4rich.bridge.sampling.mdcKey=traceId
+ * </pre>
+ *
+ * <p>Off by default; the check is then one volatile read.</p>
+ */
+public final class Sampler {
+
+    /**
+     * Sampling policy.
+     */
+    public enum Policy {
+        EVERY_N, RANDOM, CONSISTENT
+    }
+
+    private static final int LEVELS = com.log4rich.core.LogLevel.values().length;
+
+    // 2^32, the size of the unsigned hash space compared against the rate
+    private static final double HASH_SPACE = 4294967296.0;
+
+    private static volatile Sampler current = fromProperties();
+
+    private final Policy policy;
+    private final int maxSampledLevel;
+    private final long everyN;
+    private final double rate;
+    private final long hashThreshold;
+    private final String mdcKey;
+    private final ConcurrentMap<com.log4rich.core.Logger, AtomicLongArray> counters = new ConcurrentHashMap<>();
+
+    private Sampler(Policy policy, Level level, int everyN, double rate, String mdcKey) {
+        this.policy = policy;
+        this.maxSampledLevel = level.intLevel();
+        this.everyN = Math.max(1, everyN);
+        this.rate = Math.min(1.0, Math.max(0.0, rate));
+        this.hashThreshold = (long) (this.rate * HASH_SPACE);
+        this.mdcKey = mdcKey;
+    }
+
+    /**
+     * Keeps one in {@code n} events at {@code level} and more verbose, per logger and level.
+     */
+    public static void configureEveryN(Level level, int n) {
+        current = new Sampler(Policy.EVERY_N, level, n, 1.0, null);
+    }
+
+    /**
+     * Keeps events at {@code level} and more verbose with probability {@code rate}.
+     */
+    public static void configureRandom(Level level, double rate) {
+        current = new Sampler(Policy.RANDOM, level, 1, rate, null);
+    }
+
+    /**
+     * Keeps events at {@code level} and more verbose for a {@code rate} share
+     * of {@code mdcKey} values, deciding by the value's hash.
+     */
+    public static void configureConsistent(Level level, double rate, String mdcKey) {
+        current = new Sampler(Policy.CONSISTENT, level, 1, rate, mdcKey);
+    }
+
+    /**
+     * Turns sampling off.
+     */
+    public static void disable() {
+        current = null;
+    }
+
+    /**
+     * Checks whether a sampling policy is active.
+     */
+    public static boolean isEnabled() {
+        return current != null;
+    }
+
+    /**
+     * The active sampler, or null when sampling is off.
+     */
+    static Sampler active() {
+        return current;
+    }
+
+    /**
+     * Decides whether an event that passed the level and marker checks is kept.
+     */
+    boolean sample(com.log4rich.core.Logger log4RichLogger, com.log4rich.core.LogLevel richLevel, Level level) {
+        if (level.intLevel() < maxSampledLevel) {
+            return true;
+        }
+        switch (policy) {
+            case EVERY_N:
+                return counter(log4RichLogger).getAndIncrement(richLevel.ordinal()) % everyN == 0;
+            case CONSISTENT:
+                String value = ThreadContext.get(mdcKey);
+                if (value != null) {
+                    return keeps(value);
+                }
+                return ThreadLocalRandom.current().nextDouble() < rate;
+            default:
+                return ThreadLocalRandom.current().nextDouble() < rate;
+        }
+    }
+
+    /**
+     * Consistent decision for an MDC value: its String hash, mixed so that
+     * similar IDs spread evenly, compared against the rate.
+     */
+    boolean keeps(String value) {
+        int h = value.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return (h & 0xFFFFFFFFL) < hashThreshold;
+    }
+
+    private AtomicLongArray counter(com.log4rich.core.Logger log4RichLogger) {
+        AtomicLongArray counter = counters.get(log4RichLogger);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(log4RichLogger, key -> new AtomicLongArray(LEVELS));
+        }
+        return counter;
+    }
+
+    private static Sampler fromProperties() {
+        String name = BridgeProperties.getString("sampling.policy", null);
+        if (name == null || name.equalsIgnoreCase("off")) {
+            return null;
+        }
+        Level level = MarkerFilter.parseLevel(BridgeProperties.getString("sampling.level", "INFO"));
+        if (level == null) {
+            StatusLogger.getLogger().warn("Unknown sampling level, using INFO: "
+                + BridgeProperties.getString("sampling.level", null));
+            level = Level.INFO;
+        }
+        double rate = BridgeProperties.getDouble("sampling.rate", 0.01);
+        if (name.equalsIgnoreCase("everyN")) {
+            return new Sampler(Policy.EVERY_N, level, BridgeProperties.getInt("sampling.n", 100), 1.0, null);
+        } else if (name.equalsIgnoreCase("random")) {
+            return new Sampler(Policy.RANDOM, level, 1, rate, null);
+        } else if (name.equalsIgnoreCase("consistent")) {
+            return new Sampler(Policy.CONSISTENT, level, 1, rate,
+                BridgeProperties.getString("sampling.mdcKey", "traceId"));
+        }
+        StatusLogger.getLogger().warn("Unknown sampling policy, sampling disabled: " + name);
+        return null;
+    }
+}
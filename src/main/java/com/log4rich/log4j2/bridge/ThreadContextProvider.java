@@ -7,6 +7,10 @@ import java.util.Map;
 /**
  * ContextProvider implementation that bridges log4j2 ThreadContext to log4Rich.
  * This allows log4Rich to access MDC and NDC data from log4j2's ThreadContext.
+ * Both are served as shared immutable snapshots that only change when the
+ * context does, so rendering an event copies nothing.
+ * On the {@link AsyncLoggingDispatcher} consumer thread it serves the context
+ * captured when the event being rendered was logged.
  */
 public class ThreadContextProvider implements ContextProvider {
     
@@ -16,16 +20,28 @@ public class ThreadContextProvider implements ContextProvider {
     
     @Override
     public Map<String, String> getMDC() {
-        return ContextBridge.getContext();
+        AsyncLoggingDispatcher.AsyncLogEvent event = AsyncLoggingDispatcher.renderingEvent();
+        if (event != null) {
+            return event.contextMap;
+        }
+        return ContextBridge.getImmutableContext();
     }
     
     @Override
     public List<String> getNDC() {
+        AsyncLoggingDispatcher.AsyncLogEvent event = AsyncLoggingDispatcher.renderingEvent();
+        if (event != null) {
+            return event.contextStack;
+        }
         return ContextBridge.getImmutableStack();
     }
     
     @Override
     public boolean hasContext() {
-        return !ContextBridge.INSTANCE.isEmpty();
+        AsyncLoggingDispatcher.AsyncLogEvent event = AsyncLoggingDispatcher.renderingEvent();
+        if (event != null) {
+            return !event.contextMap.isEmpty() || !event.contextStack.isEmpty();
+        }
+        return ContextBridge.hasContext();
     }
 }
\ No newline at end of file
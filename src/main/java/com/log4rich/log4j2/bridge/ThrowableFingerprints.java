@@ -0,0 +1,174 @@
+package com.log4rich.log4j2.bridge;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Opt-in elision of repeated stack traces, applied by {@link LoggingEngine#emit}.
+ *
+ * <p>Each throwable is fingerprinted by a hash of its class and stack frames,
+ * and those of its causes. The first occurrence of a fingerprint is logged
+ * with its full stack trace and a {@code [stack trace #id]} suffix. Later
+ * occurrences within {@code windowMillis} of that full trace are logged
+ * without the throwable, with a compact {@code [Class: message; stack trace
+ * #id, seen N times]} suffix instead. After the window, the next occurrence
+ * prints the full trace again.</p>
+ *
+ * <p>Fingerprints are kept in a direct-mapped table of
+ * {@code throwables.cacheSize} slots (rounded up to a power of two), updated
+ * by compare-and-set, so recording a repeat takes no lock and allocates
+ * nothing. A fingerprint displaced by another one mapping to its slot
+ * starts over with a full trace. Enabled with {@code -Dlog4rich.bridge.throwables.elideRepeats=true}
+ * or {@link #setEnabled(boolean)}.</p>
+ */
+public final class ThrowableFingerprints {
+
+    private static final int DEFAULT_CACHE_SIZE = 1024;
+
+    private static final long DEFAULT_WINDOW_MILLIS = 60_000L;
+
+    // Causes followed when fingerprinting; guards against cyclic cause chains
+    private static final int MAX_CAUSE_DEPTH = 16;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static volatile boolean enabled = BridgeProperties.getBoolean("throwables.elideRepeats", false);
+
+    private static volatile long windowNanos = TimeUnit.MILLISECONDS.toNanos(
+        BridgeProperties.getInt("throwables.windowMillis", (int) DEFAULT_WINDOW_MILLIS));
+
+    private static final int CACHE_SIZE = tableSize(BridgeProperties.getInt("throwables.cacheSize", DEFAULT_CACHE_SIZE));
+
+    private static final AtomicReferenceArray<Seen> SEEN = new AtomicReferenceArray<>(CACHE_SIZE);
+
+    private ThrowableFingerprints() {
+    }
+
+    /**
+     * Checks whether repeated stack traces are elided.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables elision at runtime.
+     */
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    /**
+     * Sets how long after a full stack trace repeats are logged compactly.
+     */
+    public static void setWindow(long window, TimeUnit unit) {
+        windowNanos = unit.toNanos(window);
+    }
+
+    /**
+     * Forgets every fingerprint.
+     */
+    public static void clear() {
+        for (int i = 0; i < SEEN.length(); i++) {
+            SEEN.set(i, null);
+        }
+    }
+
+    /**
+     * Records an occurrence of the throwable with the given fingerprint.
+     *
+     * @return the occurrence count since the last full trace, 1 meaning the
+     *         full trace is to be logged now
+     */
+    static long record(long fingerprint, long now) {
+        int slot = (int) (fingerprint ^ (fingerprint >>> 32)) & (CACHE_SIZE - 1);
+        while (true) {
+            Seen seen = SEEN.get(slot);
+            if (seen != null && seen.fingerprint == fingerprint && now - seen.fullTraceNanos < windowNanos) {
+                return seen.count.incrementAndGet();
+            }
+            // New, displaced or outside the window: whoever installs the entry logs the full trace
+            if (SEEN.compareAndSet(slot, seen, new Seen(fingerprint, now))) {
+                return 1;
+            }
+        }
+    }
+
+    /**
+     * Hash of the throwable's class and frames, and of its causes.
+     */
+    static long fingerprint(Throwable throwable) {
+        long hash = FNV_OFFSET;
+        Throwable current = throwable;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            hash = mix(hash, current.getClass().getName());
+            for (StackTraceElement frame : current.getStackTrace()) {
+                hash = mix(hash, frame.getClassName());
+                hash = mix(hash, frame.getMethodName());
+                hash = (hash ^ frame.getLineNumber()) * FNV_PRIME;
+            }
+            Throwable cause = current.getCause();
+            current = cause != current ? cause : null;
+        }
+        return hash;
+    }
+
+    /**
+     * Short reference ID printed with the trace and its repeats.
+     */
+    static String id(long fingerprint) {
+        String hex = Integer.toHexString((int) (fingerprint ^ (fingerprint >>> 32)));
+        StringBuilder id = new StringBuilder(8);
+        for (int i = hex.length(); i < 8; i++) {
+            id.append('0');
+        }
+        return id.append(hex).toString();
+    }
+
+    /**
+     * Appends the suffix for a full trace ({@code count == 1}) or a repeat.
+     */
+    static void appendReference(StringBuilder buffer, Throwable throwable, long fingerprint, long count) {
+        if (count == 1) {
+            buffer.append(" [stack trace #").append(id(fingerprint)).append(']');
+            return;
+        }
+        buffer.append(" [").append(throwable.getClass().getName());
+        String message = throwable.getMessage();
+        if (message != null) {
+            buffer.append(": ").append(message);
+        }
+        buffer.append("; stack trace #").append(id(fingerprint))
+              .append(", seen ").append(count).append(" times]");
+    }
+
+    private static int tableSize(int requested) {
+        int size = Integer.highestOneBit(Math.max(1, Math.min(requested, 1 << 30)));
+        return size < requested ? size << 1 : size;
+    }
+
+    private static long mix(long hash, String text) {
+        if (text != null) {
+            for (int i = 0; i < text.length(); i++) {
+                hash = (hash ^ text.charAt(i)) * FNV_PRIME;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * When a fingerprint's full trace was last logged, and occurrences since.
+     */
+    private static final class Seen {
+        final long fingerprint;
+        final long fullTraceNanos;
+        final AtomicLong count = new AtomicLong(1);
+
+        Seen(long fingerprint, long fullTraceNanos) {
+            this.fingerprint = fingerprint;
+            this.fullTraceNanos = fullTraceNanos;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.log4rich.log4j2.bridge;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Optional bridge-side stack trace rendering, applied by {@link LoggingEngine#emit}.
+ *
+ * <p>When configured, the bridge writes the stack trace into the message
+ * itself and hands log4Rich no throwable, so it can:</p>
+ * <ul>
+ *   <li>drop frames whose class starts with a configured prefix (reflection,
+ *       proxies, servlet containers), printing {@code "... N filtered"} per run;</li>
+ *   <li>collapse the frames a cause shares with its enclosing trace into
+ *       {@code "... N more"}, as {@link Throwable#printStackTrace()} does;</li>
+ *   <li>cap the frames printed per throwable at {@code maxDepth}, printing
+ *       {@code "... N truncated"} for the rest;</li>
+ *   <li>append {@code [file.jar:version]} to each frame, resolved through
+ *       the logging thread's context class loader - captured with the event
+ *       in async mode - and cached per loader and class name.</li>
+ * </ul>
+ *
+ * <pre>
+ * -Dlog4rich.bridge.stackTrace.filter=java.lang.reflect.,jdk.internal.reflect.,sun.reflect.,com.sun.proxy.
+ * -Dlog4rich.bridge.stackTrace.maxDepth=50
+ * -Dlog4rich.bridge.stackTrace.packaging=true
+ * </pre>
+ *
+ * <p>With none of these set, throwables go to log4Rich unchanged.</p>
+ */
+public final class ThrowableRenderer {
+
+    // Slots in the packaging cache; a class mapping to a taken slot replaces its entry
+    private static final int CACHE_SLOTS = 4096;
+
+    private static final String UNKNOWN = "?";
+
+    private static final String UNKNOWN_PACKAGING = "[" + UNKNOWN + ":" + UNKNOWN + "]";
+
+    private static volatile ThrowableRenderer current = fromProperties();
+
+    private final String[] filteredPrefixes;
+    private final int maxDepth;
+    private final boolean packaging;
+    private final AtomicReferenceArray<Packaging> packagingCache = new AtomicReferenceArray<>(CACHE_SLOTS);
+
+    private ThrowableRenderer(List<String> filteredPrefixes, int maxDepth, boolean packaging) {
+        this.filteredPrefixes = filteredPrefixes.toArray(new String[0]);
+        this.maxDepth = Math.max(0, maxDepth);
+        this.packaging = packaging;
+    }
+
+    /**
+     * Installs new rendering options; with no prefixes, no depth limit and no
+     * packaging, rendering is left to log4Rich.
+     *
+     * @param filteredPrefixes class name prefixes of frames to drop, or null for none
+     * @param maxDepth frames printed per throwable; 0 for no limit
+     * @param packaging whether to append jar and version to each frame
+     */
+    public static void configure(List<String> filteredPrefixes, int maxDepth, boolean packaging) {
+        List<String> prefixes = filteredPrefixes != null ? filteredPrefixes : Collections.<String>emptyList();
+        current = prefixes.isEmpty() && maxDepth <= 0 && !packaging
+            ? null : new ThrowableRenderer(prefixes, maxDepth, packaging);
+    }
+
+    /**
+     * Checks whether the bridge renders stack traces itself.
+     */
+    public static boolean isEnabled() {
+        return current != null;
+    }
+
+    /**
+     * The active renderer, or null when log4Rich renders throwables.
+     */
+    static ThrowableRenderer active() {
+        return current;
+    }
+
+    /**
+     * Appends a line separator and the rendered stack trace of {@code throwable}.
+     */
+    void render(StringBuilder buffer, Throwable throwable) {
+        Set<Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        appendThrowable(buffer, throwable, null, "", "", seen, packaging ? callerClassLoader() : null);
+    }
+
+    private void appendThrowable(StringBuilder buffer,
+                                 Throwable throwable,
+                                 StackTraceElement[] enclosing,
+                                 String caption,
+                                 String indent,
+                                 Set<Throwable> seen,
+                                 ClassLoader loader) {
+        buffer.append(System.lineSeparator()).append(indent).append(caption);
+        if (!seen.add(throwable)) {
+            buffer.append("[CIRCULAR REFERENCE: ").append(throwable).append(']');
+            return;
+        }
+        buffer.append(throwable);
+
+        StackTraceElement[] frames = throwable.getStackTrace();
+        int unique = frames.length;
+        if (enclosing != null) {
+            int other = enclosing.length - 1;
+            while (unique > 0 && other >= 0 && frames[unique - 1].equals(enclosing[other])) {
+                unique--;
+                other--;
+            }
+        }
+
+        int printed = 0;
+        int filtered = 0;
+        int i = 0;
+        for (; i < unique; i++) {
+            if (maxDepth > 0 && printed >= maxDepth) {
+                break;
+            }
+            StackTraceElement frame = frames[i];
+            if (isFiltered(frame.getClassName())) {
+                filtered++;
+                continue;
+            }
+            appendFiltered(buffer, indent, filtered);
+            filtered = 0;
+            buffer.append(System.lineSeparator()).append(indent).append("\tat ").append(frame);
+            if (packaging) {
+                buffer.append(' ').append(packagingOf(frame.getClassName(), loader));
+            }
+            printed++;
+        }
+        appendFiltered(buffer, indent, filtered);
+        int truncated = unique - i;
+        if (truncated > 0) {
+            buffer.append(System.lineSeparator()).append(indent).append("\t... ").append(truncated).append(" truncated");
+        }
+        int common = frames.length - unique;
+        if (common > 0) {
+            buffer.append(System.lineSeparator()).append(indent).append("\t... ").append(common).append(" more");
+        }
+
+        for (Throwable suppressed : throwable.getSuppressed()) {
+            appendThrowable(buffer, suppressed, frames, "Suppressed: ", indent + "\t", seen, loader);
+        }
+        Throwable cause = throwable.getCause();
+        if (cause != null) {
+            appendThrowable(buffer, cause, frames, "Caused by: ", indent, seen, loader);
+        }
+    }
+
+    private static void appendFiltered(StringBuilder buffer, String indent, int filtered) {
+        if (filtered > 0) {
+            buffer.append(System.lineSeparator()).append(indent).append("\t... ").append(filtered).append(" filtered");
+        }
+    }
+
+    private boolean isFiltered(String className) {
+        for (String prefix : filteredPrefixes) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The context class loader of the thread that logged the event: the one
+     * captured with it when rendered by the async consumer, else the current
+     * thread's.
+     */
+    private static ClassLoader callerClassLoader() {
+        AsyncLoggingDispatcher.AsyncLogEvent event = AsyncLoggingDispatcher.renderingEvent();
+        return event != null ? event.classLoader : Thread.currentThread().getContextClassLoader();
+    }
+
+    /**
+     * {@code [file.jar:version]} for a class as seen from {@code loader},
+     * cached per loader and class name. Classes that cannot be loaded are
+     * not cached, so they are retried on the next frame.
+     */
+    String packagingOf(String className, ClassLoader loader) {
+        String info = cachedPackaging(className, loader);
+        if (info != null) {
+            return info;
+        }
+        Class<?> type = loadClass(className, loader);
+        if (type == null) {
+            return UNKNOWN_PACKAGING;
+        }
+        info = resolvePackaging(type);
+        packagingCache.set(slot(className, loader), new Packaging(className, loader, info));
+        return info;
+    }
+
+    /**
+     * The cached packaging of a class for a loader, or null if not cached.
+     */
+    String cachedPackaging(String className, ClassLoader loader) {
+        Packaging cached = packagingCache.get(slot(className, loader));
+        return cached != null && cached.matches(className, loader) ? cached.info : null;
+    }
+
+    private static int slot(String className, ClassLoader loader) {
+        return (className.hashCode() * 31 + System.identityHashCode(loader)) & (CACHE_SLOTS - 1);
+    }
+
+    private static String resolvePackaging(Class<?> type) {
+        String location = UNKNOWN;
+        try {
+            CodeSource source = type.getProtectionDomain().getCodeSource();
+            URL url = source != null ? source.getLocation() : null;
+            if (url != null) {
+                String path = url.getPath();
+                if (path.endsWith("/")) {
+                    path = path.substring(0, path.length() - 1);
+                }
+                location = path.substring(path.lastIndexOf('/') + 1);
+            } else if (type.getClassLoader() == null) {
+                location = "jdk";
+            }
+        } catch (SecurityException e) {
+            // Keep the unknown location
+        }
+        Package pkg = type.getPackage();
+        String version = pkg != null ? pkg.getImplementationVersion() : null;
+        if (version == null && type.getClassLoader() == null) {
+            version = System.getProperty("java.version");
+        }
+        return "[" + location + ":" + (version != null ? version : UNKNOWN) + "]";
+    }
+
+    private static Class<?> loadClass(String className, ClassLoader contextLoader) {
+        ClassLoader[] loaders = {contextLoader, ThrowableRenderer.class.getClassLoader()};
+        for (ClassLoader loader : loaders) {
+            try {
+                return Class.forName(className, false, loader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                // Try the next loader
+            }
+        }
+        return null;
+    }
+
+    private static ThrowableRenderer fromProperties() {
+        List<String> prefixes = new ArrayList<>();
+        String spec = BridgeProperties.getString("stackTrace.filter", null);
+        if (spec != null) {
+            for (String prefix : spec.split(",")) {
+                if (!prefix.trim().isEmpty()) {
+                    prefixes.add(prefix.trim());
+                }
+            }
+        }
+        int maxDepth = BridgeProperties.getInt("stackTrace.maxDepth", 0);
+        boolean packaging = BridgeProperties.getBoolean("stackTrace.packaging", false);
+        return prefixes.isEmpty() && maxDepth <= 0 && !packaging
+            ? null : new ThrowableRenderer(prefixes, maxDepth, packaging);
+    }
+
+    /**
+     * A cached packaging string. The loader is held weakly, so the cache
+     * does not keep an undeployed application's classes loaded.
+     */
+    private static final class Packaging {
+        final String className;
+        final WeakReference<ClassLoader> loader;
+        final String info;
+
+        Packaging(String className, ClassLoader loader, String info) {
+            this.className = className;
+            this.loader = loader != null ? new WeakReference<>(loader) : null;
+            this.info = info;
+        }
+
+        boolean matches(String otherClassName, ClassLoader otherLoader) {
+            ClassLoader own = loader != null ? loader.get() : null;
+            return own == otherLoader && (otherLoader != null || loader == null) && className.equals(otherClassName);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.apache.logging.log4j;
+
+import org.apache.logging.log4j.message.Message;
+
+import java.util.function.Supplier;
+
+/**
+ * Fluent interface for building a log event, returned by {@link Logger#atInfo()}
+ * and the other {@code atLevel} methods. Matches the log4j2 2.13+ API:
+ *
+ * <pre>
+ * logger.atWarn().withMarker(AUDIT).withThrowable(e).log("User {} failed", user);
+ * </pre>
+ *
+ * <p>Every method defaults to doing nothing, which is what {@link #NOOP} - the
+ * builder returned for disabled levels - relies on. Builders are recycled, so
+ * one must not be kept after its {@code log} call.</p>
+ */
+public interface LogBuilder {
+
+    /**
+     * Shared builder for disabled levels; every call is a no-op.
+     */
+    LogBuilder NOOP = new LogBuilder() {
+    };
+
+    /**
+     * Includes a marker in the event.
+     */
+    default LogBuilder withMarker(Marker marker) {
+        return this;
+    }
+
+    /**
+     * Includes a throwable in the event.
+     */
+    default LogBuilder withThrowable(Throwable throwable) {
+        return this;
+    }
+
+    /**
+     * Captures the caller's location now, regardless of whether location
+     * capture is enabled for the bridge.
+     */
+    default LogBuilder withLocation() {
+        return this;
+    }
+
+    /**
+     * Uses the given location for the event.
+     */
+    default LogBuilder withLocation(StackTraceElement location) {
+        return this;
+    }
+
+    default void log(CharSequence message) {
+    }
+
+    default void log(String message) {
+    }
+
+    default void log(String message, Object... params) {
+    }
+
+    default void log(String message, Supplier<?>... params) {
+    }
+
+    default void log(Message message) {
+    }
+
+    default void log(Supplier<Message> messageSupplier) {
+    }
+
+    default void log(Object message) {
+    }
+
+    default void log(String message, Object p0) {
+    }
+
+    default void log(String message, Object p0, Object p1) {
+    }
+
+    default void log(String message, Object p0, Object p1, Object p2) {
+    }
+
+    default void log(String message, Object p0, Object p1, Object p2, Object p3) {
+    }
+
+    default void log(String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+    }
+
+    default void log(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+    }
+
+    default void log(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+    }
+
+    default void log(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+    }
+
+    default void log(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+    }
+
+    default void log(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+    }
+
+    /**
+     * Logs an empty message.
+     */
+    default void log() {
+    }
+}
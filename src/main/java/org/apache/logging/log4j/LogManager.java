@@ -1,9 +1,14 @@
 package org.apache.logging.log4j;
 
+import com.log4rich.log4j2.bridge.AsyncLoggingDispatcher;
+import com.log4rich.log4j2.bridge.LevelCache;
+import com.log4rich.log4j2.bridge.RateLimiter;
+import com.log4rich.log4j2.bridge.RepeatSuppressor;
 import org.apache.logging.log4j.message.MessageFactory;
 import org.apache.logging.log4j.spi.Log4RichLogger;
 import org.apache.logging.log4j.spi.Log4RichLoggerContextFactory;
 import org.apache.logging.log4j.spi.LoggerContextFactory;
+import org.apache.logging.log4j.util.StackLocatorUtil;
 import java.net.URI;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -29,11 +34,8 @@ public class LogManager {
      * Gets a logger for the calling class.
      */
     public static Logger getLogger() {
-        // Get the calling class name
-        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
-        // Index 2 because: 0=getStackTrace, 1=getLogger, 2=actual caller
-        String className = stack.length > 2 ? stack[2].getClassName() : "ROOT";
-        return getLogger(className);
+        // Depth 1: 0=this method, 1=actual caller
+        return getLogger(callerName(StackLocatorUtil.getCallerClass(1)));
     }
     
     /**
@@ -67,9 +69,11 @@ public class LogManager {
      * Gets a logger for the calling class with the specified message factory.
      */
     public static Logger getLogger(MessageFactory messageFactory) {
-        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
-        String className = stack.length > 2 ? stack[2].getClassName() : "ROOT";
-        return getLogger(className, messageFactory);
+        return getLogger(callerName(StackLocatorUtil.getCallerClass(1)), messageFactory);
+    }
+
+    private static String callerName(Class<?> caller) {
+        return caller != null ? caller.getName() : "ROOT";
     }
     
     /**
@@ -228,6 +232,19 @@ public class LogManager {
      * Shuts down the logging system.
      */
     public static void shutdown(boolean currentContext) {
+        shutdown(AsyncLoggingDispatcher.DEFAULT_SHUTDOWN_TIMEOUT_MILLIS);
+    }
+
+    private static void shutdown(long drainTimeoutMillis) {
+        // Log pending rate limit summaries, queued behind the events they follow
+        RateLimiter.flush();
+
+        // Drain queued async events before log4Rich closes its appenders
+        AsyncLoggingDispatcher.stop(drainTimeoutMillis);
+
+        // Log pending "repeated N times" counts while appenders are still open
+        RepeatSuppressor.flush();
+
         // Delegate to log4Rich shutdown
         try {
             com.log4rich.Log4Rich.shutdown();
@@ -237,12 +254,13 @@ public class LogManager {
         
         // Clear our logger cache
         LOGGERS.clear();
+        LevelCache.invalidateAll();
     }
     
     /**
      * Shuts down the logging system with timeout.
      */
     public static void shutdown(long timeout, java.util.concurrent.TimeUnit timeUnit) {
-        shutdown();
+        shutdown(timeUnit.toMillis(timeout));
     }
 }
\ No newline at end of file
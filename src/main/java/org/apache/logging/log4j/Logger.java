@@ -4,6 +4,8 @@ import org.apache.logging.log4j.message.EntryMessage;
 import org.apache.logging.log4j.message.FlowMessageFactory;
 import org.apache.logging.log4j.message.Message;
 import org.apache.logging.log4j.message.MessageFactory;
+import org.apache.logging.log4j.message.MessageTemplate;
+import org.apache.logging.log4j.util.LambdaUtil;
 import java.util.function.Supplier;
 
 /**
@@ -231,6 +233,835 @@ public interface Logger {
     void log(Level level, Marker marker, Object message);
     void log(Level level, Marker marker, Object message, Throwable throwable);
 
+    // ========== Fixed-arity parameters ==========
+    // Three to ten parameters without a varargs array at the call site.
+    // The defaults delegate to the varargs overloads; Log4RichLogger
+    // overrides them with array-free paths.
+
+    default void trace(String message, Object p0, Object p1, Object p2) {
+        trace(message, new Object[] {p0, p1, p2});
+    }
+
+    default void trace(String message, Object p0, Object p1, Object p2, Object p3) {
+        trace(message, new Object[] {p0, p1, p2, p3});
+    }
+
+    default void trace(String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        trace(message, new Object[] {p0, p1, p2, p3, p4});
+    }
+
+    default void trace(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        trace(message, new Object[] {p0, p1, p2, p3, p4, p5});
+    }
+
+    default void trace(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        trace(message, new Object[] {p0, p1, p2, p3, p4, p5, p6});
+    }
+
+    default void trace(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        trace(message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7});
+    }
+
+    default void trace(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        trace(message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8});
+    }
+
+    default void trace(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        trace(message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8, p9});
+    }
+
+
+    default void debug(String message, Object p0, Object p1, Object p2) {
+        debug(message, new Object[] {p0, p1, p2});
+    }
+
+    default void debug(String message, Object p0, Object p1, Object p2, Object p3) {
+        debug(message, new Object[] {p0, p1, p2, p3});
+    }
+
+    default void debug(String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        debug(message, new Object[] {p0, p1, p2, p3, p4});
+    }
+
+    default void debug(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        debug(message, new Object[] {p0, p1, p2, p3, p4, p5});
+    }
+
+    default void debug(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        debug(message, new Object[] {p0, p1, p2, p3, p4, p5, p6});
+    }
+
+    default void debug(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        debug(message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7});
+    }
+
+    default void debug(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        debug(message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8});
+    }
+
+    default void debug(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        debug(message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8, p9});
+    }
+
+
+    default void info(String message, Object p0, Object p1, Object p2) {
+        info(message, new Object[] {p0, p1, p2});
+    }
+
+    default void info(String message, Object p0, Object p1, Object p2, Object p3) {
+        info(message, new Object[] {p0, p1, p2, p3});
+    }
+
+    default void info(String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        info(message, new Object[] {p0, p1, p2, p3, p4});
+    }
+
+    default void info(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        info(message, new Object[] {p0, p1, p2, p3, p4, p5});
+    }
+
+    default void info(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        info(message, new Object[] {p0, p1, p2, p3, p4, p5, p6});
+    }
+
+    default void info(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        info(message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7});
+    }
+
+    default void info(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        info(message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8});
+    }
+
+    default void info(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        info(message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8, p9});
+    }
+
+
+    default void warn(String message, Object p0, Object p1, Object p2) {
+        warn(message, new Object[] {p0, p1, p2});
+    }
+
+    default void warn(String message, Object p0, Object p1, Object p2, Object p3) {
+        warn(message, new Object[] {p0, p1, p2, p3});
+    }
+
+    default void warn(String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        warn(message, new Object[] {p0, p1, p2, p3, p4});
+    }
+
+    default void warn(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        warn(message, new Object[] {p0, p1, p2, p3, p4, p5});
+    }
+
+    default void warn(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        warn(message, new Object[] {p0, p1, p2, p3, p4, p5, p6});
+    }
+
+    default void warn(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        warn(message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7});
+    }
+
+    default void warn(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        warn(message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8});
+    }
+
+    default void warn(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        warn(message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8, p9});
+    }
+
+
+    default void error(String message, Object p0, Object p1, Object p2) {
+        error(message, new Object[] {p0, p1, p2});
+    }
+
+    default void error(String message, Object p0, Object p1, Object p2, Object p3) {
+        error(message, new Object[] {p0, p1, p2, p3});
+    }
+
+    default void error(String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        error(message, new Object[] {p0, p1, p2, p3, p4});
+    }
+
+    default void error(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        error(message, new Object[] {p0, p1, p2, p3, p4, p5});
+    }
+
+    default void error(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        error(message, new Object[] {p0, p1, p2, p3, p4, p5, p6});
+    }
+
+    default void error(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        error(message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7});
+    }
+
+    default void error(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        error(message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8});
+    }
+
+    default void error(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        error(message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8, p9});
+    }
+
+
+    default void fatal(String message, Object p0, Object p1, Object p2) {
+        fatal(message, new Object[] {p0, p1, p2});
+    }
+
+    default void fatal(String message, Object p0, Object p1, Object p2, Object p3) {
+        fatal(message, new Object[] {p0, p1, p2, p3});
+    }
+
+    default void fatal(String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        fatal(message, new Object[] {p0, p1, p2, p3, p4});
+    }
+
+    default void fatal(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        fatal(message, new Object[] {p0, p1, p2, p3, p4, p5});
+    }
+
+    default void fatal(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        fatal(message, new Object[] {p0, p1, p2, p3, p4, p5, p6});
+    }
+
+    default void fatal(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        fatal(message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7});
+    }
+
+    default void fatal(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        fatal(message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8});
+    }
+
+    default void fatal(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        fatal(message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8, p9});
+    }
+
+    // Marker variants
+
+    default void trace(Marker marker, String message, Object p0, Object p1, Object p2) {
+        trace(marker, message, new Object[] {p0, p1, p2});
+    }
+
+    default void trace(Marker marker, String message, Object p0, Object p1, Object p2, Object p3) {
+        trace(marker, message, new Object[] {p0, p1, p2, p3});
+    }
+
+    default void trace(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        trace(marker, message, new Object[] {p0, p1, p2, p3, p4});
+    }
+
+    default void trace(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        trace(marker, message, new Object[] {p0, p1, p2, p3, p4, p5});
+    }
+
+    default void trace(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        trace(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6});
+    }
+
+    default void trace(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        trace(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7});
+    }
+
+    default void trace(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        trace(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8});
+    }
+
+    default void trace(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        trace(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8, p9});
+    }
+
+
+    default void debug(Marker marker, String message, Object p0, Object p1, Object p2) {
+        debug(marker, message, new Object[] {p0, p1, p2});
+    }
+
+    default void debug(Marker marker, String message, Object p0, Object p1, Object p2, Object p3) {
+        debug(marker, message, new Object[] {p0, p1, p2, p3});
+    }
+
+    default void debug(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        debug(marker, message, new Object[] {p0, p1, p2, p3, p4});
+    }
+
+    default void debug(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        debug(marker, message, new Object[] {p0, p1, p2, p3, p4, p5});
+    }
+
+    default void debug(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        debug(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6});
+    }
+
+    default void debug(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        debug(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7});
+    }
+
+    default void debug(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        debug(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8});
+    }
+
+    default void debug(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        debug(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8, p9});
+    }
+
+
+    default void info(Marker marker, String message, Object p0, Object p1, Object p2) {
+        info(marker, message, new Object[] {p0, p1, p2});
+    }
+
+    default void info(Marker marker, String message, Object p0, Object p1, Object p2, Object p3) {
+        info(marker, message, new Object[] {p0, p1, p2, p3});
+    }
+
+    default void info(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        info(marker, message, new Object[] {p0, p1, p2, p3, p4});
+    }
+
+    default void info(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        info(marker, message, new Object[] {p0, p1, p2, p3, p4, p5});
+    }
+
+    default void info(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        info(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6});
+    }
+
+    default void info(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        info(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7});
+    }
+
+    default void info(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        info(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8});
+    }
+
+    default void info(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        info(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8, p9});
+    }
+
+
+    default void warn(Marker marker, String message, Object p0, Object p1, Object p2) {
+        warn(marker, message, new Object[] {p0, p1, p2});
+    }
+
+    default void warn(Marker marker, String message, Object p0, Object p1, Object p2, Object p3) {
+        warn(marker, message, new Object[] {p0, p1, p2, p3});
+    }
+
+    default void warn(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        warn(marker, message, new Object[] {p0, p1, p2, p3, p4});
+    }
+
+    default void warn(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        warn(marker, message, new Object[] {p0, p1, p2, p3, p4, p5});
+    }
+
+    default void warn(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        warn(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6});
+    }
+
+    default void warn(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        warn(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7});
+    }
+
+    default void warn(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        warn(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8});
+    }
+
+    default void warn(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        warn(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8, p9});
+    }
+
+
+    default void error(Marker marker, String message, Object p0, Object p1, Object p2) {
+        error(marker, message, new Object[] {p0, p1, p2});
+    }
+
+    default void error(Marker marker, String message, Object p0, Object p1, Object p2, Object p3) {
+        error(marker, message, new Object[] {p0, p1, p2, p3});
+    }
+
+    default void error(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        error(marker, message, new Object[] {p0, p1, p2, p3, p4});
+    }
+
+    default void error(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        error(marker, message, new Object[] {p0, p1, p2, p3, p4, p5});
+    }
+
+    default void error(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        error(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6});
+    }
+
+    default void error(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        error(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7});
+    }
+
+    default void error(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        error(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8});
+    }
+
+    default void error(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        error(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8, p9});
+    }
+
+
+    default void fatal(Marker marker, String message, Object p0, Object p1, Object p2) {
+        fatal(marker, message, new Object[] {p0, p1, p2});
+    }
+
+    default void fatal(Marker marker, String message, Object p0, Object p1, Object p2, Object p3) {
+        fatal(marker, message, new Object[] {p0, p1, p2, p3});
+    }
+
+    default void fatal(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        fatal(marker, message, new Object[] {p0, p1, p2, p3, p4});
+    }
+
+    default void fatal(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        fatal(marker, message, new Object[] {p0, p1, p2, p3, p4, p5});
+    }
+
+    default void fatal(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        fatal(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6});
+    }
+
+    default void fatal(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        fatal(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7});
+    }
+
+    default void fatal(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        fatal(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8});
+    }
+
+    default void fatal(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        fatal(marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8, p9});
+    }
+
+    // ========== Parameter suppliers ==========
+    // Parameters evaluated only once the level and marker checks pass.
+    // The one- and two-supplier forms avoid the varargs array.
+
+    default void log(Level level, String message, Supplier<?>... paramSuppliers) {
+        log(level, (Marker) null, message, paramSuppliers);
+    }
+
+    default void log(Level level, Marker marker, String message, Supplier<?>... paramSuppliers) {
+        if (isEnabled(level, marker)) {
+            log(level, marker, message, LambdaUtil.getAll(paramSuppliers));
+        }
+    }
+
+    default void trace(String message, Supplier<?>... paramSuppliers) {
+        log(Level.TRACE, (Marker) null, message, paramSuppliers);
+    }
+
+    default void trace(String message, Supplier<?> p0) {
+        if (isEnabled(Level.TRACE)) {
+            trace(message, LambdaUtil.get(p0));
+        }
+    }
+
+    default void trace(String message, Supplier<?> p0, Supplier<?> p1) {
+        if (isEnabled(Level.TRACE)) {
+            trace(message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    default void trace(Marker marker, String message, Supplier<?>... paramSuppliers) {
+        log(Level.TRACE, marker, message, paramSuppliers);
+    }
+
+    default void trace(Marker marker, String message, Supplier<?> p0) {
+        if (isEnabled(Level.TRACE, marker)) {
+            trace(marker, message, LambdaUtil.get(p0));
+        }
+    }
+
+    default void trace(Marker marker, String message, Supplier<?> p0, Supplier<?> p1) {
+        if (isEnabled(Level.TRACE, marker)) {
+            trace(marker, message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    default void debug(String message, Supplier<?>... paramSuppliers) {
+        log(Level.DEBUG, (Marker) null, message, paramSuppliers);
+    }
+
+    default void debug(String message, Supplier<?> p0) {
+        if (isEnabled(Level.DEBUG)) {
+            debug(message, LambdaUtil.get(p0));
+        }
+    }
+
+    default void debug(String message, Supplier<?> p0, Supplier<?> p1) {
+        if (isEnabled(Level.DEBUG)) {
+            debug(message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    default void debug(Marker marker, String message, Supplier<?>... paramSuppliers) {
+        log(Level.DEBUG, marker, message, paramSuppliers);
+    }
+
+    default void debug(Marker marker, String message, Supplier<?> p0) {
+        if (isEnabled(Level.DEBUG, marker)) {
+            debug(marker, message, LambdaUtil.get(p0));
+        }
+    }
+
+    default void debug(Marker marker, String message, Supplier<?> p0, Supplier<?> p1) {
+        if (isEnabled(Level.DEBUG, marker)) {
+            debug(marker, message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    default void info(String message, Supplier<?>... paramSuppliers) {
+        log(Level.INFO, (Marker) null, message, paramSuppliers);
+    }
+
+    default void info(String message, Supplier<?> p0) {
+        if (isEnabled(Level.INFO)) {
+            info(message, LambdaUtil.get(p0));
+        }
+    }
+
+    default void info(String message, Supplier<?> p0, Supplier<?> p1) {
+        if (isEnabled(Level.INFO)) {
+            info(message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    default void info(Marker marker, String message, Supplier<?>... paramSuppliers) {
+        log(Level.INFO, marker, message, paramSuppliers);
+    }
+
+    default void info(Marker marker, String message, Supplier<?> p0) {
+        if (isEnabled(Level.INFO, marker)) {
+            info(marker, message, LambdaUtil.get(p0));
+        }
+    }
+
+    default void info(Marker marker, String message, Supplier<?> p0, Supplier<?> p1) {
+        if (isEnabled(Level.INFO, marker)) {
+            info(marker, message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    default void warn(String message, Supplier<?>... paramSuppliers) {
+        log(Level.WARN, (Marker) null, message, paramSuppliers);
+    }
+
+    default void warn(String message, Supplier<?> p0) {
+        if (isEnabled(Level.WARN)) {
+            warn(message, LambdaUtil.get(p0));
+        }
+    }
+
+    default void warn(String message, Supplier<?> p0, Supplier<?> p1) {
+        if (isEnabled(Level.WARN)) {
+            warn(message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    default void warn(Marker marker, String message, Supplier<?>... paramSuppliers) {
+        log(Level.WARN, marker, message, paramSuppliers);
+    }
+
+    default void warn(Marker marker, String message, Supplier<?> p0) {
+        if (isEnabled(Level.WARN, marker)) {
+            warn(marker, message, LambdaUtil.get(p0));
+        }
+    }
+
+    default void warn(Marker marker, String message, Supplier<?> p0, Supplier<?> p1) {
+        if (isEnabled(Level.WARN, marker)) {
+            warn(marker, message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    default void error(String message, Supplier<?>... paramSuppliers) {
+        log(Level.ERROR, (Marker) null, message, paramSuppliers);
+    }
+
+    default void error(String message, Supplier<?> p0) {
+        if (isEnabled(Level.ERROR)) {
+            error(message, LambdaUtil.get(p0));
+        }
+    }
+
+    default void error(String message, Supplier<?> p0, Supplier<?> p1) {
+        if (isEnabled(Level.ERROR)) {
+            error(message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    default void error(Marker marker, String message, Supplier<?>... paramSuppliers) {
+        log(Level.ERROR, marker, message, paramSuppliers);
+    }
+
+    default void error(Marker marker, String message, Supplier<?> p0) {
+        if (isEnabled(Level.ERROR, marker)) {
+            error(marker, message, LambdaUtil.get(p0));
+        }
+    }
+
+    default void error(Marker marker, String message, Supplier<?> p0, Supplier<?> p1) {
+        if (isEnabled(Level.ERROR, marker)) {
+            error(marker, message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    default void fatal(String message, Supplier<?>... paramSuppliers) {
+        log(Level.FATAL, (Marker) null, message, paramSuppliers);
+    }
+
+    default void fatal(String message, Supplier<?> p0) {
+        if (isEnabled(Level.FATAL)) {
+            fatal(message, LambdaUtil.get(p0));
+        }
+    }
+
+    default void fatal(String message, Supplier<?> p0, Supplier<?> p1) {
+        if (isEnabled(Level.FATAL)) {
+            fatal(message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    default void fatal(Marker marker, String message, Supplier<?>... paramSuppliers) {
+        log(Level.FATAL, marker, message, paramSuppliers);
+    }
+
+    default void fatal(Marker marker, String message, Supplier<?> p0) {
+        if (isEnabled(Level.FATAL, marker)) {
+            fatal(marker, message, LambdaUtil.get(p0));
+        }
+    }
+
+    default void fatal(Marker marker, String message, Supplier<?> p0, Supplier<?> p1) {
+        if (isEnabled(Level.FATAL, marker)) {
+            fatal(marker, message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    // ========== Message templates ==========
+    // Patterns compiled once with MessageTemplate.compile. The defaults log
+    // the template's pattern through the String overloads; Log4RichLogger
+    // formats from the precomputed segments instead.
+
+    default void log(Level level, MessageTemplate template, Object... params) {
+        log(level, (Marker) null, template, params);
+    }
+
+    default void log(Level level, MessageTemplate template, Throwable throwable) {
+        log(level, (Marker) null, template, throwable);
+    }
+
+    default void log(Level level, Marker marker, MessageTemplate template, Object... params) {
+        if (isEnabled(level, marker)) {
+            log(level, marker, template != null ? template.getPattern() : null, params);
+        }
+    }
+
+    default void log(Level level, Marker marker, MessageTemplate template, Throwable throwable) {
+        if (isEnabled(level, marker)) {
+            log(level, marker, template != null ? template.getPattern() : null, throwable);
+        }
+    }
+
+    default void trace(MessageTemplate template, Object... params) {
+        log(Level.TRACE, (Marker) null, template, params);
+    }
+
+    default void trace(MessageTemplate template, Object p0) {
+        log(Level.TRACE, (Marker) null, template, new Object[] {p0});
+    }
+
+    default void trace(MessageTemplate template, Object p0, Object p1) {
+        log(Level.TRACE, (Marker) null, template, new Object[] {p0, p1});
+    }
+
+    default void trace(MessageTemplate template, Throwable throwable) {
+        log(Level.TRACE, (Marker) null, template, throwable);
+    }
+
+    default void trace(Marker marker, MessageTemplate template, Object... params) {
+        log(Level.TRACE, marker, template, params);
+    }
+
+    default void trace(Marker marker, MessageTemplate template, Throwable throwable) {
+        log(Level.TRACE, marker, template, throwable);
+    }
+
+    default void debug(MessageTemplate template, Object... params) {
+        log(Level.DEBUG, (Marker) null, template, params);
+    }
+
+    default void debug(MessageTemplate template, Object p0) {
+        log(Level.DEBUG, (Marker) null, template, new Object[] {p0});
+    }
+
+    default void debug(MessageTemplate template, Object p0, Object p1) {
+        log(Level.DEBUG, (Marker) null, template, new Object[] {p0, p1});
+    }
+
+    default void debug(MessageTemplate template, Throwable throwable) {
+        log(Level.DEBUG, (Marker) null, template, throwable);
+    }
+
+    default void debug(Marker marker, MessageTemplate template, Object... params) {
+        log(Level.DEBUG, marker, template, params);
+    }
+
+    default void debug(Marker marker, MessageTemplate template, Throwable throwable) {
+        log(Level.DEBUG, marker, template, throwable);
+    }
+
+    default void info(MessageTemplate template, Object... params) {
+        log(Level.INFO, (Marker) null, template, params);
+    }
+
+    default void info(MessageTemplate template, Object p0) {
+        log(Level.INFO, (Marker) null, template, new Object[] {p0});
+    }
+
+    default void info(MessageTemplate template, Object p0, Object p1) {
+        log(Level.INFO, (Marker) null, template, new Object[] {p0, p1});
+    }
+
+    default void info(MessageTemplate template, Throwable throwable) {
+        log(Level.INFO, (Marker) null, template, throwable);
+    }
+
+    default void info(Marker marker, MessageTemplate template, Object... params) {
+        log(Level.INFO, marker, template, params);
+    }
+
+    default void info(Marker marker, MessageTemplate template, Throwable throwable) {
+        log(Level.INFO, marker, template, throwable);
+    }
+
+    default void warn(MessageTemplate template, Object... params) {
+        log(Level.WARN, (Marker) null, template, params);
+    }
+
+    default void warn(MessageTemplate template, Object p0) {
+        log(Level.WARN, (Marker) null, template, new Object[] {p0});
+    }
+
+    default void warn(MessageTemplate template, Object p0, Object p1) {
+        log(Level.WARN, (Marker) null, template, new Object[] {p0, p1});
+    }
+
+    default void warn(MessageTemplate template, Throwable throwable) {
+        log(Level.WARN, (Marker) null, template, throwable);
+    }
+
+    default void warn(Marker marker, MessageTemplate template, Object... params) {
+        log(Level.WARN, marker, template, params);
+    }
+
+    default void warn(Marker marker, MessageTemplate template, Throwable throwable) {
+        log(Level.WARN, marker, template, throwable);
+    }
+
+    default void error(MessageTemplate template, Object... params) {
+        log(Level.ERROR, (Marker) null, template, params);
+    }
+
+    default void error(MessageTemplate template, Object p0) {
+        log(Level.ERROR, (Marker) null, template, new Object[] {p0});
+    }
+
+    default void error(MessageTemplate template, Object p0, Object p1) {
+        log(Level.ERROR, (Marker) null, template, new Object[] {p0, p1});
+    }
+
+    default void error(MessageTemplate template, Throwable throwable) {
+        log(Level.ERROR, (Marker) null, template, throwable);
+    }
+
+    default void error(Marker marker, MessageTemplate template, Object... params) {
+        log(Level.ERROR, marker, template, params);
+    }
+
+    default void error(Marker marker, MessageTemplate template, Throwable throwable) {
+        log(Level.ERROR, marker, template, throwable);
+    }
+
+    default void fatal(MessageTemplate template, Object... params) {
+        log(Level.FATAL, (Marker) null, template, params);
+    }
+
+    default void fatal(MessageTemplate template, Object p0) {
+        log(Level.FATAL, (Marker) null, template, new Object[] {p0});
+    }
+
+    default void fatal(MessageTemplate template, Object p0, Object p1) {
+        log(Level.FATAL, (Marker) null, template, new Object[] {p0, p1});
+    }
+
+    default void fatal(MessageTemplate template, Throwable throwable) {
+        log(Level.FATAL, (Marker) null, template, throwable);
+    }
+
+    default void fatal(Marker marker, MessageTemplate template, Object... params) {
+        log(Level.FATAL, marker, template, params);
+    }
+
+    default void fatal(Marker marker, MessageTemplate template, Throwable throwable) {
+        log(Level.FATAL, marker, template, throwable);
+    }
+
+    // ========== Fluent API ==========
+
+    /**
+     * Builds a TRACE event; see {@link #atLevel(Level)}.
+     */
+    default LogBuilder atTrace() {
+        return atLevel(Level.TRACE);
+    }
+
+    /**
+     * Builds a DEBUG event; see {@link #atLevel(Level)}.
+     */
+    default LogBuilder atDebug() {
+        return atLevel(Level.DEBUG);
+    }
+
+    /**
+     * Builds an INFO event; see {@link #atLevel(Level)}.
+     */
+    default LogBuilder atInfo() {
+        return atLevel(Level.INFO);
+    }
+
+    /**
+     * Builds a WARN event; see {@link #atLevel(Level)}.
+     */
+    default LogBuilder atWarn() {
+        return atLevel(Level.WARN);
+    }
+
+    /**
+     * Builds an ERROR event; see {@link #atLevel(Level)}.
+     */
+    default LogBuilder atError() {
+        return atLevel(Level.ERROR);
+    }
+
+    /**
+     * Builds a FATAL event; see {@link #atLevel(Level)}.
+     */
+    default LogBuilder atFatal() {
+        return atLevel(Level.FATAL);
+    }
+
+    /**
+     * Returns a builder for an event at the given level, or the shared
+     * {@link LogBuilder#NOOP} when the level is disabled. Loggers that do not
+     * support the fluent API always return the no-op builder.
+     */
+    default LogBuilder atLevel(Level level) {
+        return LogBuilder.NOOP;
+    }
+
     // ========== Flow Tracing ==========
 
     /**
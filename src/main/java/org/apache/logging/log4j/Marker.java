@@ -1,24 +1,44 @@
 package org.apache.logging.log4j;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 /**
  * log4j2 Marker implementation.
  * Supports marker hierarchy and parent relationships.
+ *
+ * <p>Each marker has a registry id assigned by {@link MarkerManager} and caches
+ * the ids of itself and all of its ancestors in a bitset, so
+ * {@link #isInstanceOf(Marker)} is a single bit test. The bitset is rebuilt
+ * when this marker's parents change, and lazily when any other marker's
+ * parents change (tracked by {@link MarkerManager#getHierarchyGeneration()}).</p>
+ *
+ * <p>A marker also memoises the log prefix rendered for it, which depends only
+ * on its own name and its direct parents, so only this marker's own parent
+ * changes invalidate it.</p>
  */
 public class Marker {
     
     private final String name;
+    private final int id;
     private volatile Marker[] parents = new Marker[0];
+
+    // Ids of this marker and all its ancestors
+    private volatile Ancestry ancestry;
+
+    // Rendered log prefix, tagged with the parents array it was rendered from
+    private volatile Prefix prefix;
     
     Marker(String name) {
         if (name == null) {
             throw new IllegalArgumentException("Marker name cannot be null");
         }
         this.name = name;
+        this.id = MarkerManager.nextId();
     }
     
     /**
@@ -43,6 +63,8 @@ public class Marker {
                     .toArray(Marker[]::new);
             this.parents = filtered;
         }
+        MarkerManager.hierarchyChanged();
+        this.ancestry = buildAncestry();
         return this;
     }
 
@@ -76,6 +98,8 @@ public class Marker {
                 this.parents = newParents;
             }
         }
+        MarkerManager.hierarchyChanged();
+        this.ancestry = buildAncestry();
         
         return this;
     }
@@ -108,6 +132,8 @@ public class Marker {
                            parents.length - removeIndex - 1);
             
             this.parents = newParents;
+            MarkerManager.hierarchyChanged();
+            this.ancestry = buildAncestry();
             return true;
         }
     }
@@ -127,26 +153,14 @@ public class Marker {
     }
     
     /**
-     * Checks if this marker is an instance of the specified marker.
-     * Checks the marker hierarchy recursively.
+     * Checks if this marker is an instance of the specified marker,
+     * i.e. is that marker or has it as an ancestor.
      */
     public boolean isInstanceOf(Marker marker) {
         if (marker == null) {
             return false;
         }
-        
-        if (this.equals(marker)) {
-            return true;
-        }
-        
-        // Check parent markers recursively
-        for (Marker parent : parents) {
-            if (parent.isInstanceOf(marker)) {
-                return true;
-            }
-        }
-        
-        return false;
+        return marker == this || ancestry().contains(marker.id);
     }
     
     /**
@@ -161,14 +175,64 @@ public class Marker {
             return true;
         }
         
-        // Check parent markers recursively
-        for (Marker parent : parents) {
-            if (parent.isInstanceOf(markerName)) {
-                return true;
+        // Every marker is registered, so an unknown name cannot be an ancestor
+        Marker marker = MarkerManager.find(markerName);
+        return marker != null && ancestry().contains(marker.id);
+    }
+
+    /**
+     * Gets the ancestor bitset, rebuilding it if any hierarchy changed since it was built.
+     */
+    private Ancestry ancestry() {
+        Ancestry current = ancestry;
+        if (current == null || current.generation != MarkerManager.getHierarchyGeneration()) {
+            current = buildAncestry();
+            ancestry = current;
+        }
+        return current;
+    }
+
+    /**
+     * Gets this marker's log prefix as produced by {@code renderer}, rendering
+     * it only on first use and after this marker's parents change. Every
+     * parent change installs a new parents array, so an identity check on it
+     * is the staleness test.
+     */
+    public String getPrefix(Function<Marker, String> renderer) {
+        Marker[] current = parents;
+        Prefix cached = prefix;
+        if (cached == null || cached.parents != current) {
+            cached = new Prefix(current, renderer.apply(this));
+            prefix = cached;
+        }
+        return cached.text;
+    }
+
+    /**
+     * Walks the hierarchy once, collecting this marker's and every ancestor's id.
+     * Tolerates cycles, since each marker is visited at most once.
+     */
+    private Ancestry buildAncestry() {
+        int generation = MarkerManager.getHierarchyGeneration();
+        long[] bits = new long[(MarkerManager.maxId() >>> 6) + 1];
+        ArrayDeque<Marker> pending = new ArrayDeque<>();
+        pending.push(this);
+        while (!pending.isEmpty()) {
+            Marker marker = pending.pop();
+            int word = marker.id >>> 6;
+            if (word >= bits.length) {
+                bits = Arrays.copyOf(bits, word + 1);
+            }
+            long bit = 1L << marker.id;
+            if ((bits[word] & bit) != 0) {
+                continue;
+            }
+            bits[word] |= bit;
+            for (Marker parent : marker.parents) {
+                pending.push(parent);
             }
         }
-        
-        return false;
+        return new Ancestry(generation, bits);
     }
     
     /**
@@ -183,6 +247,37 @@ public class Marker {
         return false;
     }
     
+    /**
+     * Immutable set of marker ids tagged with the hierarchy generation it reflects.
+     */
+    private static final class Ancestry {
+        final int generation;
+        final long[] bits;
+
+        Ancestry(int generation, long[] bits) {
+            this.generation = generation;
+            this.bits = bits;
+        }
+
+        boolean contains(int id) {
+            int word = id >>> 6;
+            return word < bits.length && (bits[word] & (1L << id)) != 0;
+        }
+    }
+    
+    /**
+     * Rendered prefix together with the parents array it reflects.
+     */
+    private static final class Prefix {
+        final Marker[] parents;
+        final String text;
+
+        Prefix(Marker[] parents, String text) {
+            this.parents = parents;
+            this.text = text;
+        }
+    }
+    
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
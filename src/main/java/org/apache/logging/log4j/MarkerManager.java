@@ -2,6 +2,7 @@ package org.apache.logging.log4j;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Marker factory and manager.
@@ -9,6 +10,12 @@ import java.util.concurrent.ConcurrentMap;
 public class MarkerManager {
     
     private static final ConcurrentMap<String, Marker> MARKERS = new ConcurrentHashMap<>();
+
+    // Bumped whenever any marker's parents change
+    private static final AtomicInteger HIERARCHY_GENERATION = new AtomicInteger();
+
+    // Source of marker registry ids, used as bit indexes in ancestor sets
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
     
     /**
      * Gets or creates a marker with the specified name.
@@ -34,4 +41,40 @@ public class MarkerManager {
     public static Marker[] getMarkers() {
         return MARKERS.values().toArray(new Marker[0]);
     }
+
+    /**
+     * Gets a counter that changes whenever any marker's parents change.
+     * Caches of hierarchy-derived data use it to detect staleness.
+     */
+    public static int getHierarchyGeneration() {
+        return HIERARCHY_GENERATION.get();
+    }
+
+    /**
+     * Looks up a registered marker without creating it.
+     */
+    static Marker find(String name) {
+        return MARKERS.get(name);
+    }
+
+    /**
+     * Allocates the registry id for a new marker.
+     */
+    static int nextId() {
+        return NEXT_ID.getAndIncrement();
+    }
+
+    /**
+     * Gets the highest id allocated so far.
+     */
+    static int maxId() {
+        return Math.max(0, NEXT_ID.get() - 1);
+    }
+
+    /**
+     * Records a change to a marker's parents.
+     */
+    static void hierarchyChanged() {
+        HIERARCHY_GENERATION.incrementAndGet();
+    }
 }
\ No newline at end of file
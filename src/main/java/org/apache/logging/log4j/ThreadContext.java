@@ -170,12 +170,10 @@ public class ThreadContext {
     /**
      * Gets a read-only view of the thread context map.
      *
-     * @return the ReadOnlyThreadContextMap, or null
+     * @return the ReadOnlyThreadContextMap backed by the current thread's context
      */
     public static ReadOnlyThreadContextMap getThreadContextMap2() {
-        // ContextBridge doesn't implement ReadOnlyThreadContextMap separately;
-        // return null as per log4j2 convention when not available
-        return null;
+        return ContextBridge.INSTANCE;
     }
 
     // ========== Convenience Methods ==========
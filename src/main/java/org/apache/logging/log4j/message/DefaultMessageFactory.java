@@ -4,6 +4,8 @@ package org.apache.logging.log4j.message;
  * Default message factory implementation.
  * Creates appropriate message types based on input.
  * Implements {@link MessageFactory2} for optimized single-parameter overloads.
+ * The fixed-arity overloads build one parameter array and hand it to the
+ * message, rather than having the message copy it again.
  */
 public class DefaultMessageFactory implements MessageFactory2 {
 
@@ -42,51 +44,51 @@ public class DefaultMessageFactory implements MessageFactory2 {
 
     @Override
     public Message newMessage(String message, Object p0) {
-        return new ParameterizedMessage(message, p0);
+        return ParameterizedMessage.adopt(message, new Object[] {p0});
     }
 
     @Override
     public Message newMessage(String message, Object p0, Object p1) {
-        return new ParameterizedMessage(message, p0, p1);
+        return ParameterizedMessage.adopt(message, new Object[] {p0, p1});
     }
 
     @Override
     public Message newMessage(String message, Object p0, Object p1, Object p2) {
-        return new ParameterizedMessage(message, new Object[]{p0, p1, p2});
+        return ParameterizedMessage.adopt(message, new Object[] {p0, p1, p2});
     }
 
     @Override
     public Message newMessage(String message, Object p0, Object p1, Object p2, Object p3) {
-        return new ParameterizedMessage(message, new Object[]{p0, p1, p2, p3});
+        return ParameterizedMessage.adopt(message, new Object[] {p0, p1, p2, p3});
     }
 
     @Override
     public Message newMessage(String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
-        return new ParameterizedMessage(message, new Object[]{p0, p1, p2, p3, p4});
+        return ParameterizedMessage.adopt(message, new Object[] {p0, p1, p2, p3, p4});
     }
 
     @Override
     public Message newMessage(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
-        return new ParameterizedMessage(message, new Object[]{p0, p1, p2, p3, p4, p5});
+        return ParameterizedMessage.adopt(message, new Object[] {p0, p1, p2, p3, p4, p5});
     }
 
     @Override
     public Message newMessage(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
-        return new ParameterizedMessage(message, new Object[]{p0, p1, p2, p3, p4, p5, p6});
+        return ParameterizedMessage.adopt(message, new Object[] {p0, p1, p2, p3, p4, p5, p6});
     }
 
     @Override
     public Message newMessage(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
-        return new ParameterizedMessage(message, new Object[]{p0, p1, p2, p3, p4, p5, p6, p7});
+        return ParameterizedMessage.adopt(message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7});
     }
 
     @Override
     public Message newMessage(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
-        return new ParameterizedMessage(message, new Object[]{p0, p1, p2, p3, p4, p5, p6, p7, p8});
+        return ParameterizedMessage.adopt(message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8});
     }
 
     @Override
     public Message newMessage(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
-        return new ParameterizedMessage(message, new Object[]{p0, p1, p2, p3, p4, p5, p6, p7, p8, p9});
+        return ParameterizedMessage.adopt(message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8, p9});
     }
 }
@@ -1,12 +1,14 @@
 package org.apache.logging.log4j.message;
 
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
 /**
  * Message used for flow tracing entry points.
  * Wraps an inner message with "Enter" semantics.
  *
  * @since 1.0.5
  */
-public class EntryMessage implements Message {
+public class EntryMessage implements Message, StringBuilderFormattable {
 
     private final Message message;
 
@@ -28,6 +30,17 @@ public class EntryMessage implements Message {
         return message != null ? "Enter " + message.getFormattedMessage() : "Enter";
     }
 
+    @Override
+    public void formatTo(StringBuilder buffer) {
+        buffer.append("Enter");
+        if (message instanceof StringBuilderFormattable) {
+            buffer.append(' ');
+            ((StringBuilderFormattable) message).formatTo(buffer);
+        } else if (message != null) {
+            buffer.append(' ').append(message.getFormattedMessage());
+        }
+    }
+
     @Override
     public String getFormat() {
         return message != null ? message.getFormat() : "";
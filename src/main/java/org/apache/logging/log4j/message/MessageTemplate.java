@@ -0,0 +1,136 @@
+package org.apache.logging.log4j.message;
+
+import com.log4rich.log4j2.bridge.MessageExtractor;
+import com.log4rich.log4j2.bridge.ParsedPattern;
+
+/**
+ * A {} message pattern compiled once, typically into a {@code static final}
+ * field, and passed to the {@code Logger} template overloads:
+ *
+ * <pre>
+ * private static final MessageTemplate SLOW_QUERY =
+ *     MessageTemplate.compile("db.slowQuery", "Query {} took {} ms");
+ * ...
+ * logger.warn(SLOW_QUERY, sql, elapsed);
+ * </pre>
+ *
+ * <p>The pattern is split into literal segments at compile time, so logging
+ * with a template neither scans nor looks up the pattern. Each template has
+ * a stable ID - the one given to {@link #compile(String, String)}, or a hash
+ * of the pattern that is the same on every JVM - for metrics and for sinks
+ * that group events by call site.</p>
+ *
+ * <p>As with {@code ParameterizedMessage}, a trailing Throwable beyond the
+ * template's placeholders is the event's throwable, not a format argument.</p>
+ */
+public final class MessageTemplate {
+
+    private final String id;
+    private final String pattern;
+    private final String[] segments;
+
+    private MessageTemplate(String id, String pattern) {
+        this.id = id;
+        this.pattern = pattern;
+        // Parsed once here, so kept out of the shared pattern cache
+        ParsedPattern parsed = ParsedPattern.parse(pattern);
+        int placeholders = parsed.placeholderCount();
+        String[] literal = new String[placeholders + 1];
+        int start = 0;
+        for (int i = 0; i < placeholders; i++) {
+            int placeholder = parsed.placeholderAt(i);
+            literal[i] = pattern.substring(start, placeholder);
+            start = placeholder + 2;
+        }
+        literal[placeholders] = pattern.substring(start);
+        this.segments = literal;
+    }
+
+    /**
+     * Compiles a pattern; the ID is derived from the pattern text.
+     */
+    public static MessageTemplate compile(String pattern) {
+        String text = pattern != null ? pattern : "null";
+        return new MessageTemplate(hashId(text), text);
+    }
+
+    /**
+     * Compiles a pattern with an explicit ID.
+     */
+    public static MessageTemplate compile(String id, String pattern) {
+        String text = pattern != null ? pattern : "null";
+        return new MessageTemplate(id != null ? id : hashId(text), text);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public int getPlaceholderCount() {
+        return segments.length - 1;
+    }
+
+    /**
+     * Appends the message with the first {@code count} parameters substituted,
+     * rendered as for any other bridge message; placeholders without a
+     * parameter are kept as {}.
+     */
+    public void formatTo(StringBuilder buffer, Object[] params, int count) {
+        int placeholders = segments.length - 1;
+        buffer.append(segments[0]);
+        for (int i = 0; i < placeholders; i++) {
+            if (i < count) {
+                MessageExtractor.appendParameter(buffer, params[i]);
+            } else {
+                buffer.append("{}");
+            }
+            buffer.append(segments[i + 1]);
+        }
+    }
+
+    /**
+     * Formats the message with the given parameters.
+     */
+    public String format(Object... params) {
+        StringBuilder buffer = new StringBuilder(pattern.length() + 16);
+        formatTo(buffer, params, params != null ? params.length : 0);
+        return buffer.toString();
+    }
+
+    /**
+     * The event throwable carried by a parameter list: a trailing Throwable
+     * that no placeholder consumes.
+     */
+    public Throwable getThrowable(Object[] params, int count) {
+        if (count > getPlaceholderCount() && params[count - 1] instanceof Throwable) {
+            return (Throwable) params[count - 1];
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    /**
+     * 64-bit FNV-1a of the pattern, as 16 hex digits; stable across JVMs.
+     */
+    private static String hashId(String pattern) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < pattern.length(); i++) {
+            hash ^= pattern.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        String hex = Long.toHexString(hash);
+        StringBuilder id = new StringBuilder(16);
+        for (int i = hex.length(); i < 16; i++) {
+            id.append('0');
+        }
+        return id.append(hex).toString();
+    }
+}
@@ -1,9 +1,11 @@
 package org.apache.logging.log4j.message;
 
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
 /**
  * Object-based message implementation.
  */
-public class ObjectMessage implements Message {
+public class ObjectMessage implements Message, StringBuilderFormattable {
     
     private final Object object;
     
@@ -16,6 +18,17 @@ public class ObjectMessage implements Message {
         return object != null ? object.toString() : "null";
     }
     
+    @Override
+    public void formatTo(StringBuilder buffer) {
+        if (object instanceof StringBuilderFormattable) {
+            ((StringBuilderFormattable) object).formatTo(buffer);
+        } else if (object instanceof CharSequence) {
+            buffer.append((CharSequence) object);
+        } else {
+            buffer.append(object);
+        }
+    }
+    
     @Override
     public String getFormat() {
         return getFormattedMessage();
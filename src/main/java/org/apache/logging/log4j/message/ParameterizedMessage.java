@@ -1,9 +1,12 @@
 package org.apache.logging.log4j.message;
 
+import com.log4rich.log4j2.bridge.ParsedPattern;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
 /**
  * Parameterized message implementation using {} placeholders.
  */
-public class ParameterizedMessage implements Message {
+public class ParameterizedMessage implements Message, StringBuilderFormattable {
     
     private final String messagePattern;
     private final Object[] parameters;
@@ -11,6 +14,10 @@ public class ParameterizedMessage implements Message {
     private volatile String formattedMessage;
     
     public ParameterizedMessage(String messagePattern, Object... parameters) {
+        this(messagePattern, parameters, true);
+    }
+
+    private ParameterizedMessage(String messagePattern, Object[] parameters, boolean copy) {
         this.messagePattern = messagePattern != null ? messagePattern : "";
         
         // Extract throwable if it's the last parameter
@@ -22,9 +29,17 @@ public class ParameterizedMessage implements Message {
             System.arraycopy(parameters, 0, this.parameters, 0, this.parameters.length);
         } else {
             this.throwable = null;
-            this.parameters = parameters != null ? parameters.clone() : new Object[0];
+            this.parameters = parameters == null ? new Object[0] : copy ? parameters.clone() : parameters;
         }
     }
+
+    /**
+     * Creates a message that takes ownership of a freshly built parameter
+     * array instead of copying it; used by the fixed-arity factory methods.
+     */
+    static ParameterizedMessage adopt(String messagePattern, Object[] parameters) {
+        return new ParameterizedMessage(messagePattern, parameters, false);
+    }
     
     @Override
     public String getFormattedMessage() {
@@ -34,6 +49,20 @@ public class ParameterizedMessage implements Message {
         return formattedMessage;
     }
     
+    /**
+     * Appends the formatted text without building an intermediate String;
+     * a message that was already formatted appends its cached text.
+     */
+    @Override
+    public void formatTo(StringBuilder buffer) {
+        String formatted = formattedMessage;
+        if (formatted != null) {
+            buffer.append(formatted);
+        } else {
+            formatTo(buffer, messagePattern, parameters, parameters.length);
+        }
+    }
+    
     @Override
     public String getFormat() {
         return messagePattern;
@@ -55,30 +84,34 @@ public class ParameterizedMessage implements Message {
         }
         
         StringBuilder result = new StringBuilder();
-        int paramIndex = 0;
+        formatTo(result, pattern, params, params.length);
+        return result.toString();
+    }
+
+    /**
+     * Appends the pattern with the first {@code count} parameters substituted
+     * for {} placeholders; extra placeholders are kept. Placeholder offsets
+     * come from the {@link ParsedPattern} cache. Shared with
+     * {@link ReusableParameterizedMessage}.
+     */
+    static void formatTo(StringBuilder result, String pattern, Object[] params, int count) {
+        if (count == 0) {
+            result.append(pattern);
+            return;
+        }
+        ParsedPattern parsed = ParsedPattern.of(pattern);
+        int substituted = Math.min(count, parsed.placeholderCount());
         int patternIndex = 0;
         
-        while (patternIndex < pattern.length()) {
-            int placeholderIndex = pattern.indexOf("{}", patternIndex);
-            
-            if (placeholderIndex == -1) {
-                result.append(pattern.substring(patternIndex));
-                break;
-            }
-            
-            result.append(pattern.substring(patternIndex, placeholderIndex));
-            
-            if (paramIndex < params.length) {
-                Object param = params[paramIndex++];
-                result.append(param != null ? param.toString() : "null");
-            } else {
-                result.append("{}");
-            }
-            
+        for (int i = 0; i < substituted; i++) {
+            int placeholderIndex = parsed.placeholderAt(i);
+            result.append(pattern, patternIndex, placeholderIndex);
+            Object param = params[i];
+            result.append(param != null ? param.toString() : "null");
             patternIndex = placeholderIndex + 2;
         }
         
-        return result.toString();
+        result.append(pattern, patternIndex, pattern.length());
     }
     
     @Override
@@ -0,0 +1,16 @@
+package org.apache.logging.log4j.message;
+
+/**
+ * A mutable message that is recycled for the next event on the same thread,
+ * as handed out by {@link ReusableMessageFactory}. Its content is only valid
+ * until the logging call that created it returns; code that keeps a message
+ * beyond that - such as an async queue - must copy its formatted text first.
+ */
+public interface ReusableMessage extends Message {
+
+    /**
+     * Drops references to the event's parameters and makes the message
+     * available to its thread again. Called by the loggers after logging.
+     */
+    void clear();
+}
@@ -0,0 +1,136 @@
+package org.apache.logging.log4j.message;
+
+/**
+ * Garbage-free message factory: String messages and parameterized patterns
+ * are served by a per-thread {@link ReusableSimpleMessage} or
+ * {@link ReusableParameterizedMessage} instead of a new message per event.
+ * Other objects are wrapped in an {@link ObjectMessage} as usual.
+ *
+ * <p>A message stays reserved until it is handed back through
+ * {@link #release(Message)}. The bridge logger does so after each logging
+ * call and in {@code ExtendedLogger.logMessage}, so wrappers that create
+ * messages here and log them through {@code logMessage} recycle as well; a
+ * caller that passes a message elsewhere must release it itself. A message
+ * requested while the thread's instance is reserved - for example by a
+ * parameter's toString() that logs - is freshly allocated.</p>
+ *
+ * <p>Select it for all loggers with
+ * {@code -Dlog4rich.bridge.messageFactory=reusable}.</p>
+ */
+public final class ReusableMessageFactory implements MessageFactory2 {
+
+    public static final ReusableMessageFactory INSTANCE = new ReusableMessageFactory();
+
+    private static final ThreadLocal<ReusableParameterizedMessage> PARAMETERIZED =
+        ThreadLocal.withInitial(ReusableParameterizedMessage::new);
+
+    private static final ThreadLocal<ReusableSimpleMessage> SIMPLE =
+        ThreadLocal.withInitial(ReusableSimpleMessage::new);
+
+    private ReusableMessageFactory() {
+    }
+
+    /**
+     * Hands a message back for reuse; messages not from this factory are ignored.
+     */
+    public static void release(Message message) {
+        if (message instanceof ReusableMessage) {
+            ((ReusableMessage) message).clear();
+        }
+    }
+
+    private static ReusableParameterizedMessage parameterized() {
+        ReusableParameterizedMessage message = PARAMETERIZED.get();
+        if (message.reserved) {
+            message = new ReusableParameterizedMessage();
+        }
+        message.reserved = true;
+        return message;
+    }
+
+    private static ReusableSimpleMessage simple() {
+        ReusableSimpleMessage message = SIMPLE.get();
+        if (message.reserved) {
+            message = new ReusableSimpleMessage();
+        }
+        message.reserved = true;
+        return message;
+    }
+
+    @Override
+    public Message newMessage(Object message) {
+        if (message == null) {
+            return simple().set("null");
+        }
+        if (message instanceof String) {
+            return simple().set((String) message);
+        }
+        if (message instanceof Message) {
+            return (Message) message;
+        }
+        return new ObjectMessage(message);
+    }
+
+    @Override
+    public Message newMessage(String message, Object... params) {
+        if (params == null || params.length == 0) {
+            return simple().set(message);
+        }
+        return parameterized().set(message, params);
+    }
+
+    @Override
+    public Message newMessage(CharSequence charSequence) {
+        return simple().set(charSequence);
+    }
+
+    @Override
+    public Message newMessage(String message, Object p0) {
+        return parameterized().set(message, p0);
+    }
+
+    @Override
+    public Message newMessage(String message, Object p0, Object p1) {
+        return parameterized().set(message, p0, p1);
+    }
+
+    @Override
+    public Message newMessage(String message, Object p0, Object p1, Object p2) {
+        return parameterized().set(message, 3, p0, p1, p2, null, null, null, null, null, null, null);
+    }
+
+    @Override
+    public Message newMessage(String message, Object p0, Object p1, Object p2, Object p3) {
+        return parameterized().set(message, 4, p0, p1, p2, p3, null, null, null, null, null, null);
+    }
+
+    @Override
+    public Message newMessage(String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        return parameterized().set(message, 5, p0, p1, p2, p3, p4, null, null, null, null, null);
+    }
+
+    @Override
+    public Message newMessage(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        return parameterized().set(message, 6, p0, p1, p2, p3, p4, p5, null, null, null, null);
+    }
+
+    @Override
+    public Message newMessage(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        return parameterized().set(message, 7, p0, p1, p2, p3, p4, p5, p6, null, null, null);
+    }
+
+    @Override
+    public Message newMessage(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        return parameterized().set(message, 8, p0, p1, p2, p3, p4, p5, p6, p7, null, null);
+    }
+
+    @Override
+    public Message newMessage(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        return parameterized().set(message, 9, p0, p1, p2, p3, p4, p5, p6, p7, p8, null);
+    }
+
+    @Override
+    public Message newMessage(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        return parameterized().set(message, 10, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+    }
+}
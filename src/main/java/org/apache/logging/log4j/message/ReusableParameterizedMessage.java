@@ -0,0 +1,145 @@
+package org.apache.logging.log4j.message;
+
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
+import java.util.Arrays;
+
+/**
+ * Mutable {@link ParameterizedMessage} counterpart, recycled per thread by
+ * {@link ReusableMessageFactory}.
+ *
+ * <p>Up to ten parameters are copied into an array owned by the message;
+ * a longer varargs array is referenced as-is for the duration of the event.
+ * As with ParameterizedMessage, a trailing Throwable parameter becomes the
+ * message's throwable rather than a format argument.</p>
+ */
+public class ReusableParameterizedMessage implements ReusableMessage, StringBuilderFormattable {
+
+    private static final int MAX_OWNED_PARAMS = 10;
+
+    // Builders that grew past this are dropped rather than pinned to the thread
+    private static final int MAX_REUSABLE_BUFFER_CAPACITY = 4096;
+
+    private final Object[] ownedParams = new Object[MAX_OWNED_PARAMS];
+    private String messagePattern = "";
+    private Object[] params = ownedParams;
+    private int count;
+    private Throwable throwable;
+    private StringBuilder buffer;
+    boolean reserved;
+
+    ReusableParameterizedMessage set(String messagePattern, Object[] parameters) {
+        int length = parameters != null ? parameters.length : 0;
+        if (length <= MAX_OWNED_PARAMS) {
+            if (length > 0) {
+                System.arraycopy(parameters, 0, ownedParams, 0, length);
+            }
+            params = ownedParams;
+        } else {
+            params = parameters;
+        }
+        return init(messagePattern, length);
+    }
+
+    ReusableParameterizedMessage set(String messagePattern, Object p0) {
+        ownedParams[0] = p0;
+        params = ownedParams;
+        return init(messagePattern, 1);
+    }
+
+    ReusableParameterizedMessage set(String messagePattern, Object p0, Object p1) {
+        ownedParams[0] = p0;
+        ownedParams[1] = p1;
+        params = ownedParams;
+        return init(messagePattern, 2);
+    }
+
+    /**
+     * Sets three or more parameters; unused trailing arguments are ignored.
+     */
+    ReusableParameterizedMessage set(String messagePattern, int length, Object p0, Object p1, Object p2,
+                                     Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        Object[] owned = ownedParams;
+        owned[0] = p0;
+        owned[1] = p1;
+        owned[2] = p2;
+        owned[3] = p3;
+        owned[4] = p4;
+        owned[5] = p5;
+        owned[6] = p6;
+        owned[7] = p7;
+        owned[8] = p8;
+        owned[9] = p9;
+        params = owned;
+        return init(messagePattern, length);
+    }
+
+    private ReusableParameterizedMessage init(String messagePattern, int length) {
+        this.messagePattern = messagePattern != null ? messagePattern : "";
+        if (length > 0 && params[length - 1] instanceof Throwable) {
+            throwable = (Throwable) params[length - 1];
+            count = length - 1;
+        } else {
+            throwable = null;
+            count = length;
+        }
+        return this;
+    }
+
+    @Override
+    public String getFormattedMessage() {
+        if (count == 0) {
+            return messagePattern;
+        }
+        StringBuilder result = buffer;
+        if (result == null) {
+            result = new StringBuilder(messagePattern.length() + 16 * count);
+            buffer = result;
+        }
+        result.setLength(0);
+        ParameterizedMessage.formatTo(result, messagePattern, params, count);
+        String formatted = result.toString();
+        if (result.capacity() > MAX_REUSABLE_BUFFER_CAPACITY) {
+            buffer = null;
+        }
+        return formatted;
+    }
+
+    /**
+     * Formats straight into the caller's buffer, bypassing this message's own.
+     */
+    @Override
+    public void formatTo(StringBuilder buffer) {
+        ParameterizedMessage.formatTo(buffer, messagePattern, params, count);
+    }
+
+    @Override
+    public String getFormat() {
+        return messagePattern;
+    }
+
+    @Override
+    public Object[] getParameters() {
+        return Arrays.copyOf(params, count);
+    }
+
+    @Override
+    public Throwable getThrowable() {
+        return throwable;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(ownedParams, null);
+        params = ownedParams;
+        count = 0;
+        throwable = null;
+        messagePattern = "";
+        reserved = false;
+    }
+
+    @Override
+    public String toString() {
+        return getFormattedMessage();
+    }
+}
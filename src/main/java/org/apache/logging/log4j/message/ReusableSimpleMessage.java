@@ -0,0 +1,60 @@
+package org.apache.logging.log4j.message;
+
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
+/**
+ * Mutable {@link SimpleMessage} counterpart, recycled per thread by
+ * {@link ReusableMessageFactory}.
+ */
+public class ReusableSimpleMessage implements ReusableMessage, StringBuilderFormattable {
+
+    private static final Object[] NO_PARAMETERS = new Object[0];
+
+    private CharSequence message = "";
+    boolean reserved;
+
+    /**
+     * Holds {@code message} without copying it; the caller must not change
+     * it until the message has been logged.
+     */
+    ReusableSimpleMessage set(CharSequence message) {
+        this.message = message != null ? message : "";
+        return this;
+    }
+
+    @Override
+    public String getFormattedMessage() {
+        return message.toString();
+    }
+
+    @Override
+    public void formatTo(StringBuilder buffer) {
+        buffer.append(message);
+    }
+
+    @Override
+    public String getFormat() {
+        return message.toString();
+    }
+
+    @Override
+    public Object[] getParameters() {
+        return NO_PARAMETERS;
+    }
+
+    @Override
+    public Throwable getThrowable() {
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        message = "";
+        reserved = false;
+    }
+
+    @Override
+    public String toString() {
+        return message.toString();
+    }
+}
@@ -1,9 +1,11 @@
 package org.apache.logging.log4j.message;
 
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
 /**
  * Simple string-based message implementation.
  */
-public class SimpleMessage implements Message {
+public class SimpleMessage implements Message, StringBuilderFormattable {
     
     private final String message;
     
@@ -16,6 +18,11 @@ public class SimpleMessage implements Message {
         return message;
     }
     
+    @Override
+    public void formatTo(StringBuilder buffer) {
+        buffer.append(message);
+    }
+    
     @Override
     public String getFormat() {
         return message;
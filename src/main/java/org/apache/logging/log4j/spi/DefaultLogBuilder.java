@@ -0,0 +1,246 @@
+package org.apache.logging.log4j.spi;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogBuilder;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.MessageFactory;
+import org.apache.logging.log4j.message.MessageFactory2;
+import org.apache.logging.log4j.message.ReusableMessageFactory;
+import org.apache.logging.log4j.util.LambdaUtil;
+import org.apache.logging.log4j.util.StackLocatorUtil;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link LogBuilder} for enabled levels, recycled per thread.
+ *
+ * <p>{@link #acquire} hands out the calling thread's builder, reset for the
+ * new event, so a fluent call allocates no builder. The builder counts as in
+ * use from {@code atLevel} until its {@code log} call; a builder requested
+ * meanwhile - while evaluating the arguments of the outer {@code log}, or
+ * after a chain that never reached {@code log} - is freshly allocated and
+ * replaces it as the thread's builder. A dangling builder therefore costs
+ * one allocation and is then released, rather than disabling recycling on
+ * that thread. {@code log} copies the event state before delegating, so
+ * logging done while the message is formatted can reuse the thread's
+ * builder safely.</p>
+ *
+ * <p>Calls with up to ten parameters use the fixed-arity {@link MessageFactory2}
+ * methods, so with {@code ReusableMessageFactory} they build neither a
+ * parameter array nor a message.</p>
+ */
+final class DefaultLogBuilder implements LogBuilder {
+
+    // Location lookups walk past this class to find the application caller
+    private static final String FQCN = DefaultLogBuilder.class.getName();
+
+    private static final ThreadLocal<DefaultLogBuilder> BUILDER =
+        ThreadLocal.withInitial(DefaultLogBuilder::new);
+
+    private ExtendedLogger logger;
+    private Level level;
+    private Marker marker;
+    private Throwable throwable;
+    private StackTraceElement location;
+    private boolean inUse;
+
+    private DefaultLogBuilder() {
+    }
+
+    /**
+     * Returns a builder for an event at {@code level}, which the caller has
+     * already checked is enabled.
+     */
+    static LogBuilder acquire(ExtendedLogger logger, Level level) {
+        DefaultLogBuilder builder = BUILDER.get();
+        if (builder.inUse) {
+            builder = new DefaultLogBuilder();
+            BUILDER.set(builder);
+        }
+        builder.logger = logger;
+        builder.level = level;
+        builder.marker = null;
+        builder.throwable = null;
+        builder.location = null;
+        builder.inUse = true;
+        return builder;
+    }
+
+    @Override
+    public LogBuilder withMarker(Marker marker) {
+        this.marker = marker;
+        return this;
+    }
+
+    @Override
+    public LogBuilder withThrowable(Throwable throwable) {
+        this.throwable = throwable;
+        return this;
+    }
+
+    @Override
+    public LogBuilder withLocation() {
+        this.location = StackLocatorUtil.calcLocation(FQCN);
+        return this;
+    }
+
+    @Override
+    public LogBuilder withLocation(StackTraceElement location) {
+        this.location = location;
+        return this;
+    }
+
+    @Override
+    public void log(CharSequence message) {
+        MessageFactory factory = logger.getMessageFactory();
+        if (message != null && factory instanceof MessageFactory2) {
+            // Passed uncopied, as by AbstractLogger's CharSequence methods
+            logMessage(((MessageFactory2) factory).newMessage(message));
+        } else if (message != null) {
+            logMessage(factory.newMessage(message.toString()));
+        } else {
+            logMessage(logger.getMessageFactory().newMessage((Object) null));
+        }
+    }
+
+    @Override
+    public void log(String message) {
+        logMessage(logger.getMessageFactory().newMessage(message));
+    }
+
+    @Override
+    public void log(String message, Object... params) {
+        logMessage(logger.getMessageFactory().newMessage(message, params));
+    }
+
+    @Override
+    public void log(String message, Supplier<?>... params) {
+        logMessage(logger.getMessageFactory().newMessage(message, LambdaUtil.getAll(params)));
+    }
+
+    @Override
+    public void log(Message message) {
+        logMessage(message);
+    }
+
+    @Override
+    public void log(Supplier<Message> messageSupplier) {
+        logMessage(messageSupplier != null ? messageSupplier.get() : null);
+    }
+
+    @Override
+    public void log(Object message) {
+        logMessage(logger.getMessageFactory().newMessage(message));
+    }
+
+    @Override
+    public void log(String message, Object p0) {
+        MessageFactory factory = logger.getMessageFactory();
+        logMessage(factory instanceof MessageFactory2
+            ? ((MessageFactory2) factory).newMessage(message, p0)
+            : factory.newMessage(message, p0));
+    }
+
+    @Override
+    public void log(String message, Object p0, Object p1) {
+        MessageFactory factory = logger.getMessageFactory();
+        logMessage(factory instanceof MessageFactory2
+            ? ((MessageFactory2) factory).newMessage(message, p0, p1)
+            : factory.newMessage(message, p0, p1));
+    }
+
+    @Override
+    public void log(String message, Object p0, Object p1, Object p2) {
+        MessageFactory factory = logger.getMessageFactory();
+        logMessage(factory instanceof MessageFactory2
+            ? ((MessageFactory2) factory).newMessage(message, p0, p1, p2)
+            : factory.newMessage(message, p0, p1, p2));
+    }
+
+    @Override
+    public void log(String message, Object p0, Object p1, Object p2, Object p3) {
+        MessageFactory factory = logger.getMessageFactory();
+        logMessage(factory instanceof MessageFactory2
+            ? ((MessageFactory2) factory).newMessage(message, p0, p1, p2, p3)
+            : factory.newMessage(message, p0, p1, p2, p3));
+    }
+
+    @Override
+    public void log(String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        MessageFactory factory = logger.getMessageFactory();
+        logMessage(factory instanceof MessageFactory2
+            ? ((MessageFactory2) factory).newMessage(message, p0, p1, p2, p3, p4)
+            : factory.newMessage(message, p0, p1, p2, p3, p4));
+    }
+
+    @Override
+    public void log(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        MessageFactory factory = logger.getMessageFactory();
+        logMessage(factory instanceof MessageFactory2
+            ? ((MessageFactory2) factory).newMessage(message, p0, p1, p2, p3, p4, p5)
+            : factory.newMessage(message, p0, p1, p2, p3, p4, p5));
+    }
+
+    @Override
+    public void log(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        MessageFactory factory = logger.getMessageFactory();
+        logMessage(factory instanceof MessageFactory2
+            ? ((MessageFactory2) factory).newMessage(message, p0, p1, p2, p3, p4, p5, p6)
+            : factory.newMessage(message, p0, p1, p2, p3, p4, p5, p6));
+    }
+
+    @Override
+    public void log(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        MessageFactory factory = logger.getMessageFactory();
+        logMessage(factory instanceof MessageFactory2
+            ? ((MessageFactory2) factory).newMessage(message, p0, p1, p2, p3, p4, p5, p6, p7)
+            : factory.newMessage(message, p0, p1, p2, p3, p4, p5, p6, p7));
+    }
+
+    @Override
+    public void log(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        MessageFactory factory = logger.getMessageFactory();
+        logMessage(factory instanceof MessageFactory2
+            ? ((MessageFactory2) factory).newMessage(message, p0, p1, p2, p3, p4, p5, p6, p7, p8)
+            : factory.newMessage(message, p0, p1, p2, p3, p4, p5, p6, p7, p8));
+    }
+
+    @Override
+    public void log(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        MessageFactory factory = logger.getMessageFactory();
+        logMessage(factory instanceof MessageFactory2
+            ? ((MessageFactory2) factory).newMessage(message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9)
+            : factory.newMessage(message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9));
+    }
+
+    @Override
+    public void log() {
+        logMessage(logger.getMessageFactory().newMessage(""));
+    }
+
+    /**
+     * Releases the builder, then logs the event if its marker allows it.
+     * A reusable message is released once logged.
+     */
+    private void logMessage(Message message) {
+        ExtendedLogger target = logger;
+        Level eventLevel = level;
+        Marker eventMarker = marker;
+        Throwable eventThrowable = throwable;
+        StackTraceElement eventLocation = location;
+        logger = null;
+        marker = null;
+        throwable = null;
+        location = null;
+        inUse = false;
+
+        try {
+            if (target != null && target.isEnabled(eventLevel, eventMarker, message, eventThrowable)) {
+                target.logMessage(eventLevel, eventMarker, FQCN, eventLocation, message, eventThrowable);
+            }
+        } finally {
+            ReusableMessageFactory.release(message);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.apache.logging.log4j.spi;
 
 import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogBuilder;
 import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.message.Message;
 import org.apache.logging.log4j.message.MessageFactory;
@@ -23,6 +24,32 @@ public interface ExtendedLogger extends org.apache.logging.log4j.Logger {
      */
     void logMessage(String fqcn, Level level, Marker marker, Message message, Throwable throwable);
 
+    /**
+     * Logs a message with an explicit caller location, as supplied through
+     * {@link LogBuilder#withLocation()}. Loggers that cannot render a location
+     * ignore it and log as {@link #logMessage(String, Level, Marker, Message, Throwable)}.
+     *
+     * @param level The logging level.
+     * @param marker The marker to use.
+     * @param fqcn The fully qualified class name of the logger wrapper.
+     * @param location The caller location, or null to locate it from fqcn.
+     * @param message The message to log.
+     * @param throwable The throwable to log.
+     */
+    default void logMessage(Level level, Marker marker, String fqcn, StackTraceElement location,
+                            Message message, Throwable throwable) {
+        logMessage(fqcn, level, marker, message, throwable);
+    }
+
+    /**
+     * Returns a recycled per-thread builder when the level is enabled, and
+     * {@link LogBuilder#NOOP} otherwise.
+     */
+    @Override
+    default LogBuilder atLevel(Level level) {
+        return isEnabled(level) ? DefaultLogBuilder.acquire(this, level) : LogBuilder.NOOP;
+    }
+
     /**
      * Returns true if the given level is enabled.
      *
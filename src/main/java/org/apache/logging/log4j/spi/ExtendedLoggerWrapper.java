@@ -52,6 +52,16 @@ public class ExtendedLoggerWrapper extends AbstractLogger {
         logger.logMessage(fqcn, level, marker, message, throwable);
     }
 
+    /**
+     * Delegates to the wrapped logger's location-aware logMessage.
+     */
+    @Override
+    public void logMessage(final Level level, final Marker marker, final String fqcn,
+                           final StackTraceElement location, final Message message,
+                           final Throwable throwable) {
+        logger.logMessage(level, marker, fqcn, location, message, throwable);
+    }
+
     /**
      * Delegates to the wrapped logger's isEnabled.
      */
@@ -1,10 +1,14 @@
 package org.apache.logging.log4j.spi;
 
+import com.log4rich.log4j2.bridge.LevelCache;
 import com.log4rich.log4j2.bridge.LoggingEngine;
+import com.log4rich.log4j2.bridge.MessageFactories;
 import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogBuilder;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.message.*;
+import org.apache.logging.log4j.util.LambdaUtil;
 
 import java.util.function.Supplier;
 
@@ -14,22 +18,28 @@ import java.util.function.Supplier;
  */
 public class Log4RichLogger implements Logger, ExtendedLogger {
 
+    // Location capture walks past this class to find the caller
+    private static final String FQCN = Log4RichLogger.class.getName();
+
     private final com.log4rich.core.Logger log4RichLogger;
+    private final LevelCache levelCache;
     private final String name;
     private final MessageFactory messageFactory;
 
     public Log4RichLogger(String name) {
         this.name = name;
         this.log4RichLogger = com.log4rich.Log4Rich.getLogger(name);
-        this.messageFactory = DefaultMessageFactory.INSTANCE;
+        this.messageFactory = MessageFactories.getDefault();
         this.log4RichLogger.setContextProvider(com.log4rich.log4j2.bridge.ThreadContextProvider.INSTANCE);
+        this.levelCache = new LevelCache(log4RichLogger);
     }
 
     public Log4RichLogger(String name, MessageFactory messageFactory) {
         this.name = name;
         this.log4RichLogger = com.log4rich.Log4Rich.getLogger(name);
-        this.messageFactory = messageFactory != null ? messageFactory : DefaultMessageFactory.INSTANCE;
+        this.messageFactory = messageFactory != null ? messageFactory : MessageFactories.getDefault();
         this.log4RichLogger.setContextProvider(com.log4rich.log4j2.bridge.ThreadContextProvider.INSTANCE);
+        this.levelCache = new LevelCache(log4RichLogger);
     }
 
     @Override
@@ -47,1127 +57,2809 @@ public class Log4RichLogger implements Logger, ExtendedLogger {
         return com.log4rich.log4j2.bridge.LevelTranslator.fromLog4Rich(log4RichLogger.getLevel());
     }
 
+    // Both logMessage forms release a reusable message once it is logged, so
+    // wrappers (SLF4J bindings, ExtendedLoggerWrapper) that build messages
+    // with ReusableMessageFactory and call logMessage directly recycle too
     @Override
     public void logMessage(String fqcn, Level level, Marker marker, Message message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, level, marker, message, throwable);
+        try {
+            LoggingEngine.log(fqcn, log4RichLogger, level, marker, message, throwable);
+        } finally {
+            ReusableMessageFactory.release(message);
+        }
+    }
+
+    @Override
+    public void logMessage(Level level, Marker marker, String fqcn, StackTraceElement location,
+                           Message message, Throwable throwable) {
+        try {
+            LoggingEngine.log(fqcn, location, log4RichLogger, level, marker, message, throwable);
+        } finally {
+            ReusableMessageFactory.release(message);
+        }
+    }
+
+    // Fluent API: only the backend level is checked here, so a marker added
+    // with withMarker() can still pass through a marker accept rule
+    @Override
+    public LogBuilder atLevel(Level level) {
+        return levelCache.isEnabled(level) ? DefaultLogBuilder.acquire(this, level) : LogBuilder.NOOP;
     }
 
     // Level checking
     @Override
     public boolean isTraceEnabled() {
-        return LoggingEngine.isEnabled(log4RichLogger, Level.TRACE);
+        return LoggingEngine.isEnabled(levelCache, Level.TRACE);
     }
 
     @Override
     public boolean isTraceEnabled(Marker marker) {
-        return LoggingEngine.isEnabled(log4RichLogger, Level.TRACE, marker);
+        return LoggingEngine.isEnabled(levelCache, Level.TRACE, marker);
     }
 
     @Override
     public boolean isDebugEnabled() {
-        return LoggingEngine.isEnabled(log4RichLogger, Level.DEBUG);
+        return LoggingEngine.isEnabled(levelCache, Level.DEBUG);
     }
 
     @Override
     public boolean isDebugEnabled(Marker marker) {
-        return LoggingEngine.isEnabled(log4RichLogger, Level.DEBUG, marker);
+        return LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker);
     }
 
     @Override
     public boolean isInfoEnabled() {
-        return LoggingEngine.isEnabled(log4RichLogger, Level.INFO);
+        return LoggingEngine.isEnabled(levelCache, Level.INFO);
     }
 
     @Override
     public boolean isInfoEnabled(Marker marker) {
-        return LoggingEngine.isEnabled(log4RichLogger, Level.INFO, marker);
+        return LoggingEngine.isEnabled(levelCache, Level.INFO, marker);
     }
 
     @Override
     public boolean isWarnEnabled() {
-        return LoggingEngine.isEnabled(log4RichLogger, Level.WARN);
+        return LoggingEngine.isEnabled(levelCache, Level.WARN);
     }
 
     @Override
     public boolean isWarnEnabled(Marker marker) {
-        return LoggingEngine.isEnabled(log4RichLogger, Level.WARN, marker);
+        return LoggingEngine.isEnabled(levelCache, Level.WARN, marker);
     }
 
     @Override
     public boolean isErrorEnabled() {
-        return LoggingEngine.isEnabled(log4RichLogger, Level.ERROR);
+        return LoggingEngine.isEnabled(levelCache, Level.ERROR);
     }
 
     @Override
     public boolean isErrorEnabled(Marker marker) {
-        return LoggingEngine.isEnabled(log4RichLogger, Level.ERROR, marker);
+        return LoggingEngine.isEnabled(levelCache, Level.ERROR, marker);
     }
 
     @Override
     public boolean isFatalEnabled() {
-        return LoggingEngine.isEnabled(log4RichLogger, Level.FATAL);
+        return LoggingEngine.isEnabled(levelCache, Level.FATAL);
     }
 
     @Override
     public boolean isFatalEnabled(Marker marker) {
-        return LoggingEngine.isEnabled(log4RichLogger, Level.FATAL, marker);
+        return LoggingEngine.isEnabled(levelCache, Level.FATAL, marker);
     }
 
     @Override
     public boolean isEnabled(Level level) {
-        return LoggingEngine.isEnabled(log4RichLogger, level);
+        return LoggingEngine.isEnabled(levelCache, level);
     }
 
     @Override
     public boolean isEnabled(Level level, Marker marker) {
-        return LoggingEngine.isEnabled(log4RichLogger, level, marker);
+        return LoggingEngine.isEnabled(levelCache, level, marker);
     }
 
     @Override
     public boolean isEnabled(Level level, Marker marker, Message message, Throwable throwable) {
-        return LoggingEngine.isEnabled(log4RichLogger, level, marker);
+        return LoggingEngine.isEnabled(levelCache, level, marker);
     }
 
     @Override
     public boolean isEnabled(Level level, Marker marker, String message) {
-        return LoggingEngine.isEnabled(log4RichLogger, level, marker);
+        return LoggingEngine.isEnabled(levelCache, level, marker);
     }
 
     @Override
     public boolean isEnabled(Level level, Marker marker, String message, Object... params) {
-        return LoggingEngine.isEnabled(log4RichLogger, level, marker);
+        return LoggingEngine.isEnabled(levelCache, level, marker);
     }
 
     @Override
     public boolean isEnabled(Level level, Marker marker, String message, Throwable throwable) {
-        return LoggingEngine.isEnabled(log4RichLogger, level, marker);
+        return LoggingEngine.isEnabled(levelCache, level, marker);
     }
 
     @Override
     public boolean isEnabled(Level level, Marker marker, Object message, Throwable throwable) {
-        return LoggingEngine.isEnabled(log4RichLogger, level, marker);
+        return LoggingEngine.isEnabled(levelCache, level, marker);
     }
 
     @Override
     public boolean isEnabled(Level level, Marker marker, CharSequence message, Throwable throwable) {
-        return LoggingEngine.isEnabled(log4RichLogger, level, marker);
+        return LoggingEngine.isEnabled(levelCache, level, marker);
     }
 
     // TRACE
     @Override
     public void trace(String message) {
-        LoggingEngine.logSimple(log4RichLogger, Level.TRACE, message);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logSimple(log4RichLogger, Level.TRACE, message);
+        }
     }
 
     @Override
     public void trace(String message, Object param) {
-        LoggingEngine.logSingleParam(log4RichLogger, Level.TRACE, message, param);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logSingleParam(log4RichLogger, Level.TRACE, message, param);
+        }
     }
 
     @Override
     public void trace(String message, Object param1, Object param2) {
-        LoggingEngine.logTwoParams(log4RichLogger, Level.TRACE, message, param1, param2);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logTwoParams(log4RichLogger, Level.TRACE, message, param1, param2);
+        }
     }
 
     @Override
     public void trace(String message, Object... params) {
-        LoggingEngine.log(log4RichLogger, Level.TRACE, null, message, null, params);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, null, message, null, params);
+        }
     }
 
     @Override
     public void trace(String message, Throwable throwable) {
-        LoggingEngine.logWithException(log4RichLogger, Level.TRACE, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logWithException(log4RichLogger, Level.TRACE, message, throwable);
+        }
     }
 
     @Override
     public void trace(Marker marker, String message) {
-        LoggingEngine.log(log4RichLogger, Level.TRACE, marker, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, marker, message, null);
+        }
     }
 
     @Override
     public void trace(Marker marker, String message, Object param) {
-        LoggingEngine.log(log4RichLogger, Level.TRACE, marker, message, null, param);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.TRACE, marker, message, param);
+        }
     }
 
     @Override
     public void trace(Marker marker, String message, Object param1, Object param2) {
-        LoggingEngine.log(log4RichLogger, Level.TRACE, marker, message, null, param1, param2);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.TRACE, marker, message, param1, param2);
+        }
     }
 
     @Override
     public void trace(Marker marker, String message, Object... params) {
-        LoggingEngine.log(log4RichLogger, Level.TRACE, marker, message, null, params);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, marker, message, null, params);
+        }
     }
 
     @Override
     public void trace(Marker marker, String message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.TRACE, marker, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, marker, message, throwable);
+        }
     }
 
     @Override
     public void trace(Message message) {
-        LoggingEngine.log(log4RichLogger, Level.TRACE, null, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, null, message, null);
+        }
     }
 
     @Override
     public void trace(Message message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.TRACE, null, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, null, message, throwable);
+        }
     }
 
     @Override
     public void trace(Marker marker, Message message) {
-        LoggingEngine.log(log4RichLogger, Level.TRACE, marker, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, marker, message, null);
+        }
     }
 
     @Override
     public void trace(Marker marker, Message message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.TRACE, marker, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, marker, message, throwable);
+        }
     }
 
     @Override
     public void trace(Supplier<?> supplier) {
-        LoggingEngine.log(log4RichLogger, Level.TRACE, null, supplier, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, null, supplier, null);
+        }
     }
 
     @Override
     public void trace(Supplier<?> supplier, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.TRACE, null, supplier, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, null, supplier, throwable);
+        }
     }
 
     @Override
     public void trace(Marker marker, Supplier<?> supplier) {
-        LoggingEngine.log(log4RichLogger, Level.TRACE, marker, supplier, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, marker, supplier, null);
+        }
     }
 
     @Override
     public void trace(Marker marker, Supplier<?> supplier, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.TRACE, marker, supplier, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, marker, supplier, throwable);
+        }
     }
 
     // DEBUG
     @Override
     public void debug(String message) {
-        LoggingEngine.logSimple(log4RichLogger, Level.DEBUG, message);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logSimple(log4RichLogger, Level.DEBUG, message);
+        }
     }
 
     @Override
     public void debug(String message, Object param) {
-        LoggingEngine.logSingleParam(log4RichLogger, Level.DEBUG, message, param);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logSingleParam(log4RichLogger, Level.DEBUG, message, param);
+        }
     }
 
     @Override
     public void debug(String message, Object param1, Object param2) {
-        LoggingEngine.logTwoParams(log4RichLogger, Level.DEBUG, message, param1, param2);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logTwoParams(log4RichLogger, Level.DEBUG, message, param1, param2);
+        }
     }
 
     @Override
     public void debug(String message, Object... params) {
-        LoggingEngine.log(log4RichLogger, Level.DEBUG, null, message, null, params);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, null, message, null, params);
+        }
     }
 
     @Override
     public void debug(String message, Throwable throwable) {
-        LoggingEngine.logWithException(log4RichLogger, Level.DEBUG, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logWithException(log4RichLogger, Level.DEBUG, message, throwable);
+        }
     }
 
     @Override
     public void debug(Marker marker, String message) {
-        LoggingEngine.log(log4RichLogger, Level.DEBUG, marker, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, marker, message, null);
+        }
     }
 
     @Override
     public void debug(Marker marker, String message, Object param) {
-        LoggingEngine.log(log4RichLogger, Level.DEBUG, marker, message, null, param);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.DEBUG, marker, message, param);
+        }
     }
 
     @Override
     public void debug(Marker marker, String message, Object param1, Object param2) {
-        LoggingEngine.log(log4RichLogger, Level.DEBUG, marker, message, null, param1, param2);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.DEBUG, marker, message, param1, param2);
+        }
     }
 
     @Override
     public void debug(Marker marker, String message, Object... params) {
-        LoggingEngine.log(log4RichLogger, Level.DEBUG, marker, message, null, params);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, marker, message, null, params);
+        }
     }
 
     @Override
     public void debug(Marker marker, String message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.DEBUG, marker, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, marker, message, throwable);
+        }
     }
 
     @Override
     public void debug(Message message) {
-        LoggingEngine.log(log4RichLogger, Level.DEBUG, null, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, null, message, null);
+        }
     }
 
     @Override
     public void debug(Message message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.DEBUG, null, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, null, message, throwable);
+        }
     }
 
     @Override
     public void debug(Marker marker, Message message) {
-        LoggingEngine.log(log4RichLogger, Level.DEBUG, marker, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, marker, message, null);
+        }
     }
 
     @Override
     public void debug(Marker marker, Message message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.DEBUG, marker, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, marker, message, throwable);
+        }
     }
 
     @Override
     public void debug(Supplier<?> supplier) {
-        LoggingEngine.log(log4RichLogger, Level.DEBUG, null, supplier, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, null, supplier, null);
+        }
     }
 
     @Override
     public void debug(Supplier<?> supplier, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.DEBUG, null, supplier, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, null, supplier, throwable);
+        }
     }
 
     @Override
     public void debug(Marker marker, Supplier<?> supplier) {
-        LoggingEngine.log(log4RichLogger, Level.DEBUG, marker, supplier, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, marker, supplier, null);
+        }
     }
 
     @Override
     public void debug(Marker marker, Supplier<?> supplier, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.DEBUG, marker, supplier, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, marker, supplier, throwable);
+        }
     }
 
     // INFO
     @Override
     public void info(String message) {
-        LoggingEngine.logSimple(log4RichLogger, Level.INFO, message);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logSimple(log4RichLogger, Level.INFO, message);
+        }
     }
 
     @Override
     public void info(String message, Object param) {
-        LoggingEngine.logSingleParam(log4RichLogger, Level.INFO, message, param);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logSingleParam(log4RichLogger, Level.INFO, message, param);
+        }
     }
 
     @Override
     public void info(String message, Object param1, Object param2) {
-        LoggingEngine.logTwoParams(log4RichLogger, Level.INFO, message, param1, param2);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logTwoParams(log4RichLogger, Level.INFO, message, param1, param2);
+        }
     }
 
     @Override
     public void info(String message, Object... params) {
-        LoggingEngine.log(log4RichLogger, Level.INFO, null, message, null, params);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, null, message, null, params);
+        }
     }
 
     @Override
     public void info(String message, Throwable throwable) {
-        LoggingEngine.logWithException(log4RichLogger, Level.INFO, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logWithException(log4RichLogger, Level.INFO, message, throwable);
+        }
     }
 
     @Override
     public void info(Marker marker, String message) {
-        LoggingEngine.log(log4RichLogger, Level.INFO, marker, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, marker, message, null);
+        }
     }
 
     @Override
     public void info(Marker marker, String message, Object param) {
-        LoggingEngine.log(log4RichLogger, Level.INFO, marker, message, null, param);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.INFO, marker, message, param);
+        }
     }
 
     @Override
     public void info(Marker marker, String message, Object param1, Object param2) {
-        LoggingEngine.log(log4RichLogger, Level.INFO, marker, message, null, param1, param2);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.INFO, marker, message, param1, param2);
+        }
     }
 
     @Override
     public void info(Marker marker, String message, Object... params) {
-        LoggingEngine.log(log4RichLogger, Level.INFO, marker, message, null, params);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, marker, message, null, params);
+        }
     }
 
     @Override
     public void info(Marker marker, String message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.INFO, marker, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, marker, message, throwable);
+        }
     }
 
     @Override
     public void info(Message message) {
-        LoggingEngine.log(log4RichLogger, Level.INFO, null, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, null, message, null);
+        }
     }
 
     @Override
     public void info(Message message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.INFO, null, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, null, message, throwable);
+        }
     }
 
     @Override
     public void info(Marker marker, Message message) {
-        LoggingEngine.log(log4RichLogger, Level.INFO, marker, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, marker, message, null);
+        }
     }
 
     @Override
     public void info(Marker marker, Message message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.INFO, marker, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, marker, message, throwable);
+        }
     }
 
     @Override
     public void info(Supplier<?> supplier) {
-        LoggingEngine.log(log4RichLogger, Level.INFO, null, supplier, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, null, supplier, null);
+        }
     }
 
     @Override
     public void info(Supplier<?> supplier, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.INFO, null, supplier, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, null, supplier, throwable);
+        }
     }
 
     @Override
     public void info(Marker marker, Supplier<?> supplier) {
-        LoggingEngine.log(log4RichLogger, Level.INFO, marker, supplier, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, marker, supplier, null);
+        }
     }
 
     @Override
     public void info(Marker marker, Supplier<?> supplier, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.INFO, marker, supplier, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, marker, supplier, throwable);
+        }
     }
 
     // WARN
     @Override
     public void warn(String message) {
-        LoggingEngine.logSimple(log4RichLogger, Level.WARN, message);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logSimple(log4RichLogger, Level.WARN, message);
+        }
     }
 
     @Override
     public void warn(String message, Object param) {
-        LoggingEngine.logSingleParam(log4RichLogger, Level.WARN, message, param);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logSingleParam(log4RichLogger, Level.WARN, message, param);
+        }
     }
 
     @Override
     public void warn(String message, Object param1, Object param2) {
-        LoggingEngine.logTwoParams(log4RichLogger, Level.WARN, message, param1, param2);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logTwoParams(log4RichLogger, Level.WARN, message, param1, param2);
+        }
     }
 
     @Override
     public void warn(String message, Object... params) {
-        LoggingEngine.log(log4RichLogger, Level.WARN, null, message, null, params);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, null, message, null, params);
+        }
     }
 
     @Override
     public void warn(String message, Throwable throwable) {
-        LoggingEngine.logWithException(log4RichLogger, Level.WARN, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logWithException(log4RichLogger, Level.WARN, message, throwable);
+        }
     }
 
     @Override
     public void warn(Marker marker, String message) {
-        LoggingEngine.log(log4RichLogger, Level.WARN, marker, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, marker, message, null);
+        }
     }
 
     @Override
     public void warn(Marker marker, String message, Object param) {
-        LoggingEngine.log(log4RichLogger, Level.WARN, marker, message, null, param);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.WARN, marker, message, param);
+        }
     }
 
     @Override
     public void warn(Marker marker, String message, Object param1, Object param2) {
-        LoggingEngine.log(log4RichLogger, Level.WARN, marker, message, null, param1, param2);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.WARN, marker, message, param1, param2);
+        }
     }
 
     @Override
     public void warn(Marker marker, String message, Object... params) {
-        LoggingEngine.log(log4RichLogger, Level.WARN, marker, message, null, params);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, marker, message, null, params);
+        }
     }
 
     @Override
     public void warn(Marker marker, String message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.WARN, marker, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, marker, message, throwable);
+        }
     }
 
     @Override
     public void warn(Message message) {
-        LoggingEngine.log(log4RichLogger, Level.WARN, null, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, null, message, null);
+        }
     }
 
     @Override
     public void warn(Message message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.WARN, null, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, null, message, throwable);
+        }
     }
 
     @Override
     public void warn(Marker marker, Message message) {
-        LoggingEngine.log(log4RichLogger, Level.WARN, marker, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, marker, message, null);
+        }
     }
 
     @Override
     public void warn(Marker marker, Message message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.WARN, marker, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, marker, message, throwable);
+        }
     }
 
     @Override
     public void warn(Supplier<?> supplier) {
-        LoggingEngine.log(log4RichLogger, Level.WARN, null, supplier, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, null, supplier, null);
+        }
     }
 
     @Override
     public void warn(Supplier<?> supplier, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.WARN, null, supplier, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, null, supplier, throwable);
+        }
     }
 
     @Override
     public void warn(Marker marker, Supplier<?> supplier) {
-        LoggingEngine.log(log4RichLogger, Level.WARN, marker, supplier, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, marker, supplier, null);
+        }
     }
 
     @Override
     public void warn(Marker marker, Supplier<?> supplier, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.WARN, marker, supplier, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, marker, supplier, throwable);
+        }
     }
 
     // ERROR
     @Override
     public void error(String message) {
-        LoggingEngine.logSimple(log4RichLogger, Level.ERROR, message);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logSimple(log4RichLogger, Level.ERROR, message);
+        }
     }
 
     @Override
     public void error(String message, Object param) {
-        LoggingEngine.logSingleParam(log4RichLogger, Level.ERROR, message, param);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logSingleParam(log4RichLogger, Level.ERROR, message, param);
+        }
     }
 
     @Override
     public void error(String message, Object param1, Object param2) {
-        LoggingEngine.logTwoParams(log4RichLogger, Level.ERROR, message, param1, param2);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logTwoParams(log4RichLogger, Level.ERROR, message, param1, param2);
+        }
     }
 
     @Override
     public void error(String message, Object... params) {
-        LoggingEngine.log(log4RichLogger, Level.ERROR, null, message, null, params);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, null, message, null, params);
+        }
     }
 
     @Override
     public void error(String message, Throwable throwable) {
-        LoggingEngine.logWithException(log4RichLogger, Level.ERROR, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logWithException(log4RichLogger, Level.ERROR, message, throwable);
+        }
     }
 
     @Override
     public void error(Marker marker, String message) {
-        LoggingEngine.log(log4RichLogger, Level.ERROR, marker, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, marker, message, null);
+        }
     }
 
     @Override
     public void error(Marker marker, String message, Object param) {
-        LoggingEngine.log(log4RichLogger, Level.ERROR, marker, message, null, param);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.ERROR, marker, message, param);
+        }
     }
 
     @Override
     public void error(Marker marker, String message, Object param1, Object param2) {
-        LoggingEngine.log(log4RichLogger, Level.ERROR, marker, message, null, param1, param2);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.ERROR, marker, message, param1, param2);
+        }
     }
 
     @Override
     public void error(Marker marker, String message, Object... params) {
-        LoggingEngine.log(log4RichLogger, Level.ERROR, marker, message, null, params);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, marker, message, null, params);
+        }
     }
 
     @Override
     public void error(Marker marker, String message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.ERROR, marker, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, marker, message, throwable);
+        }
     }
 
     @Override
     public void error(Message message) {
-        LoggingEngine.log(log4RichLogger, Level.ERROR, null, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, null, message, null);
+        }
     }
 
     @Override
     public void error(Message message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.ERROR, null, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, null, message, throwable);
+        }
     }
 
     @Override
     public void error(Marker marker, Message message) {
-        LoggingEngine.log(log4RichLogger, Level.ERROR, marker, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, marker, message, null);
+        }
     }
 
     @Override
     public void error(Marker marker, Message message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.ERROR, marker, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, marker, message, throwable);
+        }
     }
 
     @Override
     public void error(Supplier<?> supplier) {
-        LoggingEngine.log(log4RichLogger, Level.ERROR, null, supplier, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, null, supplier, null);
+        }
     }
 
     @Override
     public void error(Supplier<?> supplier, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.ERROR, null, supplier, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, null, supplier, throwable);
+        }
     }
 
     @Override
     public void error(Marker marker, Supplier<?> supplier) {
-        LoggingEngine.log(log4RichLogger, Level.ERROR, marker, supplier, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, marker, supplier, null);
+        }
     }
 
     @Override
     public void error(Marker marker, Supplier<?> supplier, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.ERROR, marker, supplier, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, marker, supplier, throwable);
+        }
     }
 
     // FATAL
     @Override
     public void fatal(String message) {
-        LoggingEngine.logSimple(log4RichLogger, Level.FATAL, message);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logSimple(log4RichLogger, Level.FATAL, message);
+        }
     }
 
     @Override
     public void fatal(String message, Object param) {
-        LoggingEngine.logSingleParam(log4RichLogger, Level.FATAL, message, param);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logSingleParam(log4RichLogger, Level.FATAL, message, param);
+        }
     }
 
     @Override
     public void fatal(String message, Object param1, Object param2) {
-        LoggingEngine.logTwoParams(log4RichLogger, Level.FATAL, message, param1, param2);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logTwoParams(log4RichLogger, Level.FATAL, message, param1, param2);
+        }
     }
 
     @Override
     public void fatal(String message, Object... params) {
-        LoggingEngine.log(log4RichLogger, Level.FATAL, null, message, null, params);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, null, message, null, params);
+        }
     }
 
     @Override
     public void fatal(String message, Throwable throwable) {
-        LoggingEngine.logWithException(log4RichLogger, Level.FATAL, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logWithException(log4RichLogger, Level.FATAL, message, throwable);
+        }
     }
 
     @Override
     public void fatal(Marker marker, String message) {
-        LoggingEngine.log(log4RichLogger, Level.FATAL, marker, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, marker, message, null);
+        }
     }
 
     @Override
     public void fatal(Marker marker, String message, Object param) {
-        LoggingEngine.log(log4RichLogger, Level.FATAL, marker, message, null, param);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.FATAL, marker, message, param);
+        }
     }
 
     @Override
     public void fatal(Marker marker, String message, Object param1, Object param2) {
-        LoggingEngine.log(log4RichLogger, Level.FATAL, marker, message, null, param1, param2);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.FATAL, marker, message, param1, param2);
+        }
     }
 
     @Override
     public void fatal(Marker marker, String message, Object... params) {
-        LoggingEngine.log(log4RichLogger, Level.FATAL, marker, message, null, params);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, marker, message, null, params);
+        }
     }
 
     @Override
     public void fatal(Marker marker, String message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.FATAL, marker, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, marker, message, throwable);
+        }
     }
 
     @Override
     public void fatal(Message message) {
-        LoggingEngine.log(log4RichLogger, Level.FATAL, null, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, null, message, null);
+        }
     }
 
     @Override
     public void fatal(Message message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.FATAL, null, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, null, message, throwable);
+        }
     }
 
     @Override
     public void fatal(Marker marker, Message message) {
-        LoggingEngine.log(log4RichLogger, Level.FATAL, marker, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, marker, message, null);
+        }
     }
 
     @Override
     public void fatal(Marker marker, Message message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.FATAL, marker, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, marker, message, throwable);
+        }
     }
 
     @Override
     public void fatal(Supplier<?> supplier) {
-        LoggingEngine.log(log4RichLogger, Level.FATAL, null, supplier, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, null, supplier, null);
+        }
     }
 
     @Override
     public void fatal(Supplier<?> supplier, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.FATAL, null, supplier, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, null, supplier, throwable);
+        }
     }
 
     @Override
     public void fatal(Marker marker, Supplier<?> supplier) {
-        LoggingEngine.log(log4RichLogger, Level.FATAL, marker, supplier, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, marker, supplier, null);
+        }
     }
 
     @Override
     public void fatal(Marker marker, Supplier<?> supplier, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.FATAL, marker, supplier, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, marker, supplier, throwable);
+        }
     }
 
     // Generic level
     @Override
     public void log(Level level, String message) {
-        LoggingEngine.logSimple(log4RichLogger, level, message);
+        if (LoggingEngine.isEnabled(levelCache, level)) {
+            LoggingEngine.logSimple(log4RichLogger, level, message);
+        }
     }
 
     @Override
     public void log(Level level, String message, Object... params) {
-        LoggingEngine.log(log4RichLogger, level, null, message, null, params);
+        if (LoggingEngine.isEnabled(levelCache, level)) {
+            LoggingEngine.logEnabled(log4RichLogger, level, null, message, null, params);
+        }
     }
 
     @Override
     public void log(Level level, String message, Throwable throwable) {
-        LoggingEngine.logWithException(log4RichLogger, level, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, level)) {
+            LoggingEngine.logWithException(log4RichLogger, level, message, throwable);
+        }
     }
 
     @Override
     public void log(Level level, Marker marker, String message) {
-        LoggingEngine.log(log4RichLogger, level, marker, message, null);
+        if (LoggingEngine.isEnabled(levelCache, level, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, level, marker, message, null);
+        }
     }
 
     @Override
     public void log(Level level, Marker marker, String message, Object... params) {
-        LoggingEngine.log(log4RichLogger, level, marker, message, null, params);
+        if (LoggingEngine.isEnabled(levelCache, level, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, level, marker, message, null, params);
+        }
     }
 
     @Override
     public void log(Level level, Marker marker, String message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, level, marker, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, level, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, level, marker, message, throwable);
+        }
     }
 
     @Override
     public void log(Level level, Message message) {
-        LoggingEngine.log(log4RichLogger, level, null, message, null);
+        if (LoggingEngine.isEnabled(levelCache, level)) {
+            LoggingEngine.logEnabled(log4RichLogger, level, null, message, null);
+        }
     }
 
     @Override
     public void log(Level level, Message message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, level, null, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, level)) {
+            LoggingEngine.logEnabled(log4RichLogger, level, null, message, throwable);
+        }
     }
 
     @Override
     public void log(Level level, Marker marker, Message message) {
-        LoggingEngine.log(log4RichLogger, level, marker, message, null);
+        if (LoggingEngine.isEnabled(levelCache, level, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, level, marker, message, null);
+        }
     }
 
     @Override
     public void log(Level level, Marker marker, Message message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, level, marker, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, level, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, level, marker, message, throwable);
+        }
     }
 
     @Override
     public void log(Level level, Supplier<?> supplier) {
-        LoggingEngine.log(log4RichLogger, level, null, supplier, null);
+        if (LoggingEngine.isEnabled(levelCache, level)) {
+            LoggingEngine.logEnabled(log4RichLogger, level, null, supplier, null);
+        }
     }
 
     @Override
     public void log(Level level, Supplier<?> supplier, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, level, null, supplier, throwable);
+        if (LoggingEngine.isEnabled(levelCache, level)) {
+            LoggingEngine.logEnabled(log4RichLogger, level, null, supplier, throwable);
+        }
     }
 
     @Override
     public void log(Level level, Marker marker, Supplier<?> supplier) {
-        LoggingEngine.log(log4RichLogger, level, marker, supplier, null);
+        if (LoggingEngine.isEnabled(levelCache, level, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, level, marker, supplier, null);
+        }
     }
 
     @Override
     public void log(Level level, Marker marker, Supplier<?> supplier, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, level, marker, supplier, throwable);
+        if (LoggingEngine.isEnabled(levelCache, level, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, level, marker, supplier, throwable);
+        }
     }
 
     // CharSequence/Object overloads for TRACE
     @Override
     public void trace(CharSequence message) {
-        LoggingEngine.logSimple(log4RichLogger, Level.TRACE, message != null ? message.toString() : null);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, null, message, null);
+        }
     }
 
     @Override
     public void trace(CharSequence message, Throwable throwable) {
-        LoggingEngine.logWithException(log4RichLogger, Level.TRACE, message != null ? message.toString() : null, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, null, message, throwable);
+        }
     }
 
     @Override
     public void trace(Marker marker, CharSequence message) {
-        LoggingEngine.log(log4RichLogger, Level.TRACE, marker, message != null ? message.toString() : null, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, marker, message, null);
+        }
     }
 
     @Override
     public void trace(Marker marker, CharSequence message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.TRACE, marker, message != null ? message.toString() : null, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, marker, message, throwable);
+        }
     }
 
     @Override
     public void trace(Object message) {
-        LoggingEngine.log(log4RichLogger, Level.TRACE, null, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, null, message, null);
+        }
     }
 
     @Override
     public void trace(Object message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.TRACE, null, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, null, message, throwable);
+        }
     }
 
     @Override
     public void trace(Marker marker, Object message) {
-        LoggingEngine.log(log4RichLogger, Level.TRACE, marker, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, marker, message, null);
+        }
     }
 
     @Override
     public void trace(Marker marker, Object message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.TRACE, marker, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, marker, message, throwable);
+        }
     }
 
     // CharSequence/Object overloads for DEBUG
     @Override
     public void debug(CharSequence message) {
-        LoggingEngine.logSimple(log4RichLogger, Level.DEBUG, message != null ? message.toString() : null);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, null, message, null);
+        }
     }
 
     @Override
     public void debug(CharSequence message, Throwable throwable) {
-        LoggingEngine.logWithException(log4RichLogger, Level.DEBUG, message != null ? message.toString() : null, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, null, message, throwable);
+        }
     }
 
     @Override
     public void debug(Marker marker, CharSequence message) {
-        LoggingEngine.log(log4RichLogger, Level.DEBUG, marker, message != null ? message.toString() : null, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, marker, message, null);
+        }
     }
 
     @Override
     public void debug(Marker marker, CharSequence message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.DEBUG, marker, message != null ? message.toString() : null, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, marker, message, throwable);
+        }
     }
 
     @Override
     public void debug(Object message) {
-        LoggingEngine.log(log4RichLogger, Level.DEBUG, null, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, null, message, null);
+        }
     }
 
     @Override
     public void debug(Object message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.DEBUG, null, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, null, message, throwable);
+        }
     }
 
     @Override
     public void debug(Marker marker, Object message) {
-        LoggingEngine.log(log4RichLogger, Level.DEBUG, marker, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, marker, message, null);
+        }
     }
 
     @Override
     public void debug(Marker marker, Object message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.DEBUG, marker, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, marker, message, throwable);
+        }
     }
 
     // CharSequence/Object overloads for INFO
     @Override
     public void info(CharSequence message) {
-        LoggingEngine.logSimple(log4RichLogger, Level.INFO, message != null ? message.toString() : null);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, null, message, null);
+        }
     }
 
     @Override
     public void info(CharSequence message, Throwable throwable) {
-        LoggingEngine.logWithException(log4RichLogger, Level.INFO, message != null ? message.toString() : null, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, null, message, throwable);
+        }
     }
 
     @Override
     public void info(Marker marker, CharSequence message) {
-        LoggingEngine.log(log4RichLogger, Level.INFO, marker, message != null ? message.toString() : null, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, marker, message, null);
+        }
     }
 
     @Override
     public void info(Marker marker, CharSequence message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.INFO, marker, message != null ? message.toString() : null, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, marker, message, throwable);
+        }
     }
 
     @Override
     public void info(Object message) {
-        LoggingEngine.log(log4RichLogger, Level.INFO, null, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, null, message, null);
+        }
     }
 
     @Override
     public void info(Object message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.INFO, null, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, null, message, throwable);
+        }
     }
 
     @Override
     public void info(Marker marker, Object message) {
-        LoggingEngine.log(log4RichLogger, Level.INFO, marker, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, marker, message, null);
+        }
     }
 
     @Override
     public void info(Marker marker, Object message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.INFO, marker, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, marker, message, throwable);
+        }
     }
 
     // CharSequence/Object overloads for WARN
     @Override
     public void warn(CharSequence message) {
-        LoggingEngine.logSimple(log4RichLogger, Level.WARN, message != null ? message.toString() : null);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, null, message, null);
+        }
     }
 
     @Override
     public void warn(CharSequence message, Throwable throwable) {
-        LoggingEngine.logWithException(log4RichLogger, Level.WARN, message != null ? message.toString() : null, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, null, message, throwable);
+        }
     }
 
     @Override
     public void warn(Marker marker, CharSequence message) {
-        LoggingEngine.log(log4RichLogger, Level.WARN, marker, message != null ? message.toString() : null, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, marker, message, null);
+        }
     }
 
     @Override
     public void warn(Marker marker, CharSequence message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.WARN, marker, message != null ? message.toString() : null, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, marker, message, throwable);
+        }
     }
 
     @Override
     public void warn(Object message) {
-        LoggingEngine.log(log4RichLogger, Level.WARN, null, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, null, message, null);
+        }
     }
 
     @Override
     public void warn(Object message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.WARN, null, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, null, message, throwable);
+        }
     }
 
     @Override
     public void warn(Marker marker, Object message) {
-        LoggingEngine.log(log4RichLogger, Level.WARN, marker, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, marker, message, null);
+        }
     }
 
     @Override
     public void warn(Marker marker, Object message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.WARN, marker, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, marker, message, throwable);
+        }
     }
 
     // CharSequence/Object overloads for ERROR
     @Override
     public void error(CharSequence message) {
-        LoggingEngine.logSimple(log4RichLogger, Level.ERROR, message != null ? message.toString() : null);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, null, message, null);
+        }
     }
 
     @Override
     public void error(CharSequence message, Throwable throwable) {
-        LoggingEngine.logWithException(log4RichLogger, Level.ERROR, message != null ? message.toString() : null, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, null, message, throwable);
+        }
     }
 
     @Override
     public void error(Marker marker, CharSequence message) {
-        LoggingEngine.log(log4RichLogger, Level.ERROR, marker, message != null ? message.toString() : null, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, marker, message, null);
+        }
     }
 
     @Override
     public void error(Marker marker, CharSequence message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.ERROR, marker, message != null ? message.toString() : null, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, marker, message, throwable);
+        }
     }
 
     @Override
     public void error(Object message) {
-        LoggingEngine.log(log4RichLogger, Level.ERROR, null, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, null, message, null);
+        }
     }
 
     @Override
     public void error(Object message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.ERROR, null, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, null, message, throwable);
+        }
     }
 
     @Override
     public void error(Marker marker, Object message) {
-        LoggingEngine.log(log4RichLogger, Level.ERROR, marker, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, marker, message, null);
+        }
     }
 
     @Override
     public void error(Marker marker, Object message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.ERROR, marker, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, marker, message, throwable);
+        }
     }
 
     // CharSequence/Object overloads for FATAL
     @Override
     public void fatal(CharSequence message) {
-        LoggingEngine.logSimple(log4RichLogger, Level.FATAL, message != null ? message.toString() : null);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, null, message, null);
+        }
     }
 
     @Override
     public void fatal(CharSequence message, Throwable throwable) {
-        LoggingEngine.logWithException(log4RichLogger, Level.FATAL, message != null ? message.toString() : null, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, null, message, throwable);
+        }
     }
 
     @Override
     public void fatal(Marker marker, CharSequence message) {
-        LoggingEngine.log(log4RichLogger, Level.FATAL, marker, message != null ? message.toString() : null, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, marker, message, null);
+        }
     }
 
     @Override
     public void fatal(Marker marker, CharSequence message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.FATAL, marker, message != null ? message.toString() : null, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, marker, message, throwable);
+        }
     }
 
     @Override
     public void fatal(Object message) {
-        LoggingEngine.log(log4RichLogger, Level.FATAL, null, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, null, message, null);
+        }
     }
 
     @Override
     public void fatal(Object message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.FATAL, null, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, null, message, throwable);
+        }
     }
 
     @Override
     public void fatal(Marker marker, Object message) {
-        LoggingEngine.log(log4RichLogger, Level.FATAL, marker, message, null);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, marker, message, null);
+        }
     }
 
     @Override
     public void fatal(Marker marker, Object message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, Level.FATAL, marker, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, marker, message, throwable);
+        }
     }
 
     // Generic level CharSequence/Object overloads
     @Override
     public void log(Level level, CharSequence message) {
-        LoggingEngine.logSimple(log4RichLogger, level, message != null ? message.toString() : null);
+        if (LoggingEngine.isEnabled(levelCache, level)) {
+            LoggingEngine.logEnabled(log4RichLogger, level, null, message, null);
+        }
     }
 
     @Override
     public void log(Level level, CharSequence message, Throwable throwable) {
-        LoggingEngine.logWithException(log4RichLogger, level, message != null ? message.toString() : null, throwable);
+        if (LoggingEngine.isEnabled(levelCache, level)) {
+            LoggingEngine.logEnabled(log4RichLogger, level, null, message, throwable);
+        }
     }
 
     @Override
     public void log(Level level, Marker marker, CharSequence message) {
-        LoggingEngine.log(log4RichLogger, level, marker, message != null ? message.toString() : null, null);
+        if (LoggingEngine.isEnabled(levelCache, level, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, level, marker, message, null);
+        }
     }
 
     @Override
     public void log(Level level, Marker marker, CharSequence message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, level, marker, message != null ? message.toString() : null, throwable);
+        if (LoggingEngine.isEnabled(levelCache, level, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, level, marker, message, throwable);
+        }
     }
 
     @Override
     public void log(Level level, Object message) {
-        LoggingEngine.log(log4RichLogger, level, null, message, null);
+        if (LoggingEngine.isEnabled(levelCache, level)) {
+            LoggingEngine.logEnabled(log4RichLogger, level, null, message, null);
+        }
     }
 
     @Override
     public void log(Level level, Object message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, level, null, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, level)) {
+            LoggingEngine.logEnabled(log4RichLogger, level, null, message, throwable);
+        }
     }
 
     @Override
     public void log(Level level, Marker marker, Object message) {
-        LoggingEngine.log(log4RichLogger, level, marker, message, null);
+        if (LoggingEngine.isEnabled(levelCache, level, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, level, marker, message, null);
+        }
     }
 
     @Override
     public void log(Level level, Marker marker, Object message, Throwable throwable) {
-        LoggingEngine.log(log4RichLogger, level, marker, message, throwable);
+        if (LoggingEngine.isEnabled(levelCache, level, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, level, marker, message, throwable);
+        }
     }
 
-    // ========== logIfEnabled implementations ==========
+    // ========== Fixed-arity parameters ==========
+    // Parameters go to the engine individually and are formatted from a
+    // recycled per-thread array, so no parameter array is allocated.
 
+    // TRACE
     @Override
-    public void logIfEnabled(String fqcn, Level level, Marker marker, String message) {
-        if (isEnabled(level, marker)) {
-            logMessage(fqcn, level, marker, messageFactory.newMessage(message), null);
+    public void trace(String message, Object p0, Object p1, Object p2) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.TRACE, null, message, p0, p1, p2);
         }
     }
 
     @Override
-    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object... params) {
-        if (isEnabled(level, marker)) {
-            logMessage(fqcn, level, marker, messageFactory.newMessage(message, params), null);
+    public void trace(String message, Object p0, Object p1, Object p2, Object p3) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.TRACE, null, message, p0, p1, p2, p3);
         }
     }
 
     @Override
-    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0) {
-        if (isEnabled(level, marker)) {
-            logMessage(fqcn, level, marker, messageFactory.newMessage(message, p0), null);
+    public void trace(String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.TRACE, null, message, p0, p1, p2, p3, p4);
         }
     }
 
     @Override
-    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1) {
-        if (isEnabled(level, marker)) {
-            logMessage(fqcn, level, marker, messageFactory.newMessage(message, p0, p1), null);
+    public void trace(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.TRACE, null, message, p0, p1, p2, p3, p4, p5);
         }
     }
 
     @Override
-    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2) {
-        if (isEnabled(level, marker)) {
-            logMessage(fqcn, level, marker, messageFactory.newMessage(message, p0, p1, p2), null);
+    public void trace(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.TRACE, null, message, p0, p1, p2, p3, p4, p5, p6);
         }
     }
 
     @Override
-    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3) {
-        if (isEnabled(level, marker)) {
-            logMessage(fqcn, level, marker, messageFactory.newMessage(message, p0, p1, p2, p3), null);
+    public void trace(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.TRACE, null, message, p0, p1, p2, p3, p4, p5, p6, p7);
         }
     }
 
     @Override
-    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
-        if (isEnabled(level, marker)) {
-            logMessage(fqcn, level, marker, messageFactory.newMessage(message, p0, p1, p2, p3, p4), null);
+    public void trace(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.TRACE, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
         }
     }
 
     @Override
-    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
-        if (isEnabled(level, marker)) {
-            logMessage(fqcn, level, marker, messageFactory.newMessage(message, p0, p1, p2, p3, p4, p5), null);
+    public void trace(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.TRACE, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
         }
     }
 
+
+    // DEBUG
     @Override
-    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
-        if (isEnabled(level, marker)) {
-            logMessage(fqcn, level, marker, messageFactory.newMessage(message, p0, p1, p2, p3, p4, p5, p6), null);
+    public void debug(String message, Object p0, Object p1, Object p2) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.DEBUG, null, message, p0, p1, p2);
         }
     }
 
     @Override
-    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
-        if (isEnabled(level, marker)) {
-            logMessage(fqcn, level, marker, messageFactory.newMessage(message, p0, p1, p2, p3, p4, p5, p6, p7), null);
+    public void debug(String message, Object p0, Object p1, Object p2, Object p3) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.DEBUG, null, message, p0, p1, p2, p3);
         }
     }
 
     @Override
-    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
-        if (isEnabled(level, marker)) {
-            logMessage(fqcn, level, marker, messageFactory.newMessage(message, p0, p1, p2, p3, p4, p5, p6, p7, p8), null);
+    public void debug(String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.DEBUG, null, message, p0, p1, p2, p3, p4);
         }
     }
 
     @Override
-    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
-        if (isEnabled(level, marker)) {
-            logMessage(fqcn, level, marker, messageFactory.newMessage(message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9), null);
+    public void debug(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.DEBUG, null, message, p0, p1, p2, p3, p4, p5);
         }
     }
 
     @Override
-    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Throwable throwable) {
-        if (isEnabled(level, marker)) {
-            logMessage(fqcn, level, marker, messageFactory.newMessage(message), throwable);
+    public void debug(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.DEBUG, null, message, p0, p1, p2, p3, p4, p5, p6);
         }
     }
 
     @Override
-    public void logIfEnabled(String fqcn, Level level, Marker marker, Message message, Throwable throwable) {
-        if (isEnabled(level, marker)) {
-            logMessage(fqcn, level, marker, message, throwable);
+    public void debug(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.DEBUG, null, message, p0, p1, p2, p3, p4, p5, p6, p7);
         }
     }
 
     @Override
-    public void logIfEnabled(String fqcn, Level level, Marker marker, CharSequence message, Throwable throwable) {
-        if (isEnabled(level, marker)) {
-            logMessage(fqcn, level, marker, messageFactory.newMessage(message.toString()), throwable);
+    public void debug(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.DEBUG, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
         }
     }
 
     @Override
-    public void logIfEnabled(String fqcn, Level level, Marker marker, Object message, Throwable throwable) {
-        if (isEnabled(level, marker)) {
-            logMessage(fqcn, level, marker, messageFactory.newMessage(message), throwable);
+    public void debug(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.DEBUG, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+
+    // INFO
+    @Override
+    public void info(String message, Object p0, Object p1, Object p2) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.INFO, null, message, p0, p1, p2);
+        }
+    }
+
+    @Override
+    public void info(String message, Object p0, Object p1, Object p2, Object p3) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.INFO, null, message, p0, p1, p2, p3);
+        }
+    }
+
+    @Override
+    public void info(String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.INFO, null, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    @Override
+    public void info(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.INFO, null, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    @Override
+    public void info(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.INFO, null, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    @Override
+    public void info(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.INFO, null, message, p0, p1, p2, p3, p4, p5, p6, p7);
         }
     }
+
+    @Override
+    public void info(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.INFO, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    @Override
+    public void info(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.INFO, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+
+    // WARN
+    @Override
+    public void warn(String message, Object p0, Object p1, Object p2) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.WARN, null, message, p0, p1, p2);
+        }
+    }
+
+    @Override
+    public void warn(String message, Object p0, Object p1, Object p2, Object p3) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.WARN, null, message, p0, p1, p2, p3);
+        }
+    }
+
+    @Override
+    public void warn(String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.WARN, null, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    @Override
+    public void warn(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.WARN, null, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    @Override
+    public void warn(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.WARN, null, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    @Override
+    public void warn(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.WARN, null, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    @Override
+    public void warn(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.WARN, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    @Override
+    public void warn(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.WARN, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+
+    // ERROR
+    @Override
+    public void error(String message, Object p0, Object p1, Object p2) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.ERROR, null, message, p0, p1, p2);
+        }
+    }
+
+    @Override
+    public void error(String message, Object p0, Object p1, Object p2, Object p3) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.ERROR, null, message, p0, p1, p2, p3);
+        }
+    }
+
+    @Override
+    public void error(String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.ERROR, null, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    @Override
+    public void error(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.ERROR, null, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    @Override
+    public void error(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.ERROR, null, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    @Override
+    public void error(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.ERROR, null, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    @Override
+    public void error(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.ERROR, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    @Override
+    public void error(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.ERROR, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+
+    // FATAL
+    @Override
+    public void fatal(String message, Object p0, Object p1, Object p2) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.FATAL, null, message, p0, p1, p2);
+        }
+    }
+
+    @Override
+    public void fatal(String message, Object p0, Object p1, Object p2, Object p3) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.FATAL, null, message, p0, p1, p2, p3);
+        }
+    }
+
+    @Override
+    public void fatal(String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.FATAL, null, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    @Override
+    public void fatal(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.FATAL, null, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    @Override
+    public void fatal(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.FATAL, null, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    @Override
+    public void fatal(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.FATAL, null, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    @Override
+    public void fatal(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.FATAL, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    @Override
+    public void fatal(String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.FATAL, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+    // Marker variants
+
+    // TRACE
+    @Override
+    public void trace(Marker marker, String message, Object p0, Object p1, Object p2) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.TRACE, marker, message, p0, p1, p2);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String message, Object p0, Object p1, Object p2, Object p3) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.TRACE, marker, message, p0, p1, p2, p3);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.TRACE, marker, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.TRACE, marker, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.TRACE, marker, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.TRACE, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.TRACE, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.TRACE, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+
+    // DEBUG
+    @Override
+    public void debug(Marker marker, String message, Object p0, Object p1, Object p2) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.DEBUG, marker, message, p0, p1, p2);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String message, Object p0, Object p1, Object p2, Object p3) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.DEBUG, marker, message, p0, p1, p2, p3);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.DEBUG, marker, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.DEBUG, marker, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.DEBUG, marker, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.DEBUG, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.DEBUG, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.DEBUG, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+
+    // INFO
+    @Override
+    public void info(Marker marker, String message, Object p0, Object p1, Object p2) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.INFO, marker, message, p0, p1, p2);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String message, Object p0, Object p1, Object p2, Object p3) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.INFO, marker, message, p0, p1, p2, p3);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.INFO, marker, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.INFO, marker, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.INFO, marker, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.INFO, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.INFO, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.INFO, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+
+    // WARN
+    @Override
+    public void warn(Marker marker, String message, Object p0, Object p1, Object p2) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.WARN, marker, message, p0, p1, p2);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String message, Object p0, Object p1, Object p2, Object p3) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.WARN, marker, message, p0, p1, p2, p3);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.WARN, marker, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.WARN, marker, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.WARN, marker, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.WARN, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.WARN, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.WARN, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+
+    // ERROR
+    @Override
+    public void error(Marker marker, String message, Object p0, Object p1, Object p2) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.ERROR, marker, message, p0, p1, p2);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String message, Object p0, Object p1, Object p2, Object p3) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.ERROR, marker, message, p0, p1, p2, p3);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.ERROR, marker, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.ERROR, marker, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.ERROR, marker, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.ERROR, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.ERROR, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.ERROR, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+
+    // FATAL
+    @Override
+    public void fatal(Marker marker, String message, Object p0, Object p1, Object p2) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.FATAL, marker, message, p0, p1, p2);
+        }
+    }
+
+    @Override
+    public void fatal(Marker marker, String message, Object p0, Object p1, Object p2, Object p3) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.FATAL, marker, message, p0, p1, p2, p3);
+        }
+    }
+
+    @Override
+    public void fatal(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.FATAL, marker, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    @Override
+    public void fatal(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.FATAL, marker, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    @Override
+    public void fatal(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.FATAL, marker, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    @Override
+    public void fatal(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.FATAL, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    @Override
+    public void fatal(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.FATAL, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    @Override
+    public void fatal(Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.FATAL, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+    // ========== Parameter suppliers ==========
+    // Suppliers are evaluated after the level and marker checks, then take
+    // the same engine paths as the equivalent Object parameters.
+
+    @Override
+    public void log(Level level, Marker marker, String message, Supplier<?>... paramSuppliers) {
+        if (LoggingEngine.isEnabled(levelCache, level, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, level, marker, message, null, LambdaUtil.getAll(paramSuppliers));
+        }
+    }
+
+    // TRACE
+    @Override
+    public void trace(String message, Supplier<?>... paramSuppliers) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, null, message, null, LambdaUtil.getAll(paramSuppliers));
+        }
+    }
+
+    @Override
+    public void trace(String message, Supplier<?> p0) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logSingleParam(log4RichLogger, Level.TRACE, message, LambdaUtil.get(p0));
+        }
+    }
+
+    @Override
+    public void trace(String message, Supplier<?> p0, Supplier<?> p1) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logTwoParams(log4RichLogger, Level.TRACE, message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String message, Supplier<?>... paramSuppliers) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.TRACE, marker, message, null, LambdaUtil.getAll(paramSuppliers));
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String message, Supplier<?> p0) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.TRACE, marker, message, LambdaUtil.get(p0));
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String message, Supplier<?> p0, Supplier<?> p1) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.TRACE, marker, message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    // DEBUG
+    @Override
+    public void debug(String message, Supplier<?>... paramSuppliers) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, null, message, null, LambdaUtil.getAll(paramSuppliers));
+        }
+    }
+
+    @Override
+    public void debug(String message, Supplier<?> p0) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logSingleParam(log4RichLogger, Level.DEBUG, message, LambdaUtil.get(p0));
+        }
+    }
+
+    @Override
+    public void debug(String message, Supplier<?> p0, Supplier<?> p1) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logTwoParams(log4RichLogger, Level.DEBUG, message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String message, Supplier<?>... paramSuppliers) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.DEBUG, marker, message, null, LambdaUtil.getAll(paramSuppliers));
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String message, Supplier<?> p0) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.DEBUG, marker, message, LambdaUtil.get(p0));
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String message, Supplier<?> p0, Supplier<?> p1) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.DEBUG, marker, message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    // INFO
+    @Override
+    public void info(String message, Supplier<?>... paramSuppliers) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, null, message, null, LambdaUtil.getAll(paramSuppliers));
+        }
+    }
+
+    @Override
+    public void info(String message, Supplier<?> p0) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logSingleParam(log4RichLogger, Level.INFO, message, LambdaUtil.get(p0));
+        }
+    }
+
+    @Override
+    public void info(String message, Supplier<?> p0, Supplier<?> p1) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logTwoParams(log4RichLogger, Level.INFO, message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String message, Supplier<?>... paramSuppliers) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.INFO, marker, message, null, LambdaUtil.getAll(paramSuppliers));
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String message, Supplier<?> p0) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.INFO, marker, message, LambdaUtil.get(p0));
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String message, Supplier<?> p0, Supplier<?> p1) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.INFO, marker, message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    // WARN
+    @Override
+    public void warn(String message, Supplier<?>... paramSuppliers) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, null, message, null, LambdaUtil.getAll(paramSuppliers));
+        }
+    }
+
+    @Override
+    public void warn(String message, Supplier<?> p0) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logSingleParam(log4RichLogger, Level.WARN, message, LambdaUtil.get(p0));
+        }
+    }
+
+    @Override
+    public void warn(String message, Supplier<?> p0, Supplier<?> p1) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logTwoParams(log4RichLogger, Level.WARN, message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String message, Supplier<?>... paramSuppliers) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.WARN, marker, message, null, LambdaUtil.getAll(paramSuppliers));
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String message, Supplier<?> p0) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.WARN, marker, message, LambdaUtil.get(p0));
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String message, Supplier<?> p0, Supplier<?> p1) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.WARN, marker, message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    // ERROR
+    @Override
+    public void error(String message, Supplier<?>... paramSuppliers) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, null, message, null, LambdaUtil.getAll(paramSuppliers));
+        }
+    }
+
+    @Override
+    public void error(String message, Supplier<?> p0) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logSingleParam(log4RichLogger, Level.ERROR, message, LambdaUtil.get(p0));
+        }
+    }
+
+    @Override
+    public void error(String message, Supplier<?> p0, Supplier<?> p1) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logTwoParams(log4RichLogger, Level.ERROR, message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String message, Supplier<?>... paramSuppliers) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.ERROR, marker, message, null, LambdaUtil.getAll(paramSuppliers));
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String message, Supplier<?> p0) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.ERROR, marker, message, LambdaUtil.get(p0));
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String message, Supplier<?> p0, Supplier<?> p1) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.ERROR, marker, message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    // FATAL
+    @Override
+    public void fatal(String message, Supplier<?>... paramSuppliers) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, null, message, null, LambdaUtil.getAll(paramSuppliers));
+        }
+    }
+
+    @Override
+    public void fatal(String message, Supplier<?> p0) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logSingleParam(log4RichLogger, Level.FATAL, message, LambdaUtil.get(p0));
+        }
+    }
+
+    @Override
+    public void fatal(String message, Supplier<?> p0, Supplier<?> p1) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logTwoParams(log4RichLogger, Level.FATAL, message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    @Override
+    public void fatal(Marker marker, String message, Supplier<?>... paramSuppliers) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logEnabled(log4RichLogger, Level.FATAL, marker, message, null, LambdaUtil.getAll(paramSuppliers));
+        }
+    }
+
+    @Override
+    public void fatal(Marker marker, String message, Supplier<?> p0) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.FATAL, marker, message, LambdaUtil.get(p0));
+        }
+    }
+
+    @Override
+    public void fatal(Marker marker, String message, Supplier<?> p0, Supplier<?> p1) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logParams(FQCN, log4RichLogger, Level.FATAL, marker, message, LambdaUtil.get(p0), LambdaUtil.get(p1));
+        }
+    }
+
+    // ========== Message templates ==========
+    // Formatted from the template's precomputed segments; the one- and
+    // two-parameter forms borrow the engine's per-thread parameter array.
+
+    @Override
+    public void log(Level level, Marker marker, MessageTemplate template, Object... params) {
+        if (LoggingEngine.isEnabled(levelCache, level, marker)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, level, marker, template, params);
+        }
+    }
+
+    @Override
+    public void log(Level level, Marker marker, MessageTemplate template, Throwable throwable) {
+        if (LoggingEngine.isEnabled(levelCache, level, marker)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, level, marker, template, throwable);
+        }
+    }
+
+    // TRACE
+    @Override
+    public void trace(MessageTemplate template, Object... params) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.TRACE, null, template, params);
+        }
+    }
+
+    @Override
+    public void trace(MessageTemplate template, Object p0) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.TRACE, null, template, p0);
+        }
+    }
+
+    @Override
+    public void trace(MessageTemplate template, Object p0, Object p1) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.TRACE, null, template, p0, p1);
+        }
+    }
+
+    @Override
+    public void trace(MessageTemplate template, Throwable throwable) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.TRACE, null, template, throwable);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, MessageTemplate template, Object... params) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.TRACE, marker, template, params);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, MessageTemplate template, Throwable throwable) {
+        if (LoggingEngine.isEnabled(levelCache, Level.TRACE, marker)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.TRACE, marker, template, throwable);
+        }
+    }
+
+    // DEBUG
+    @Override
+    public void debug(MessageTemplate template, Object... params) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.DEBUG, null, template, params);
+        }
+    }
+
+    @Override
+    public void debug(MessageTemplate template, Object p0) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.DEBUG, null, template, p0);
+        }
+    }
+
+    @Override
+    public void debug(MessageTemplate template, Object p0, Object p1) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.DEBUG, null, template, p0, p1);
+        }
+    }
+
+    @Override
+    public void debug(MessageTemplate template, Throwable throwable) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.DEBUG, null, template, throwable);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, MessageTemplate template, Object... params) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.DEBUG, marker, template, params);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, MessageTemplate template, Throwable throwable) {
+        if (LoggingEngine.isEnabled(levelCache, Level.DEBUG, marker)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.DEBUG, marker, template, throwable);
+        }
+    }
+
+    // INFO
+    @Override
+    public void info(MessageTemplate template, Object... params) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.INFO, null, template, params);
+        }
+    }
+
+    @Override
+    public void info(MessageTemplate template, Object p0) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.INFO, null, template, p0);
+        }
+    }
+
+    @Override
+    public void info(MessageTemplate template, Object p0, Object p1) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.INFO, null, template, p0, p1);
+        }
+    }
+
+    @Override
+    public void info(MessageTemplate template, Throwable throwable) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.INFO, null, template, throwable);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, MessageTemplate template, Object... params) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.INFO, marker, template, params);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, MessageTemplate template, Throwable throwable) {
+        if (LoggingEngine.isEnabled(levelCache, Level.INFO, marker)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.INFO, marker, template, throwable);
+        }
+    }
+
+    // WARN
+    @Override
+    public void warn(MessageTemplate template, Object... params) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.WARN, null, template, params);
+        }
+    }
+
+    @Override
+    public void warn(MessageTemplate template, Object p0) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.WARN, null, template, p0);
+        }
+    }
+
+    @Override
+    public void warn(MessageTemplate template, Object p0, Object p1) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.WARN, null, template, p0, p1);
+        }
+    }
+
+    @Override
+    public void warn(MessageTemplate template, Throwable throwable) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.WARN, null, template, throwable);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, MessageTemplate template, Object... params) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.WARN, marker, template, params);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, MessageTemplate template, Throwable throwable) {
+        if (LoggingEngine.isEnabled(levelCache, Level.WARN, marker)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.WARN, marker, template, throwable);
+        }
+    }
+
+    // ERROR
+    @Override
+    public void error(MessageTemplate template, Object... params) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.ERROR, null, template, params);
+        }
+    }
+
+    @Override
+    public void error(MessageTemplate template, Object p0) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.ERROR, null, template, p0);
+        }
+    }
+
+    @Override
+    public void error(MessageTemplate template, Object p0, Object p1) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.ERROR, null, template, p0, p1);
+        }
+    }
+
+    @Override
+    public void error(MessageTemplate template, Throwable throwable) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.ERROR, null, template, throwable);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, MessageTemplate template, Object... params) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.ERROR, marker, template, params);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, MessageTemplate template, Throwable throwable) {
+        if (LoggingEngine.isEnabled(levelCache, Level.ERROR, marker)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.ERROR, marker, template, throwable);
+        }
+    }
+
+    // FATAL
+    @Override
+    public void fatal(MessageTemplate template, Object... params) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.FATAL, null, template, params);
+        }
+    }
+
+    @Override
+    public void fatal(MessageTemplate template, Object p0) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.FATAL, null, template, p0);
+        }
+    }
+
+    @Override
+    public void fatal(MessageTemplate template, Object p0, Object p1) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.FATAL, null, template, p0, p1);
+        }
+    }
+
+    @Override
+    public void fatal(MessageTemplate template, Throwable throwable) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.FATAL, null, template, throwable);
+        }
+    }
+
+    @Override
+    public void fatal(Marker marker, MessageTemplate template, Object... params) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.FATAL, marker, template, params);
+        }
+    }
+
+    @Override
+    public void fatal(Marker marker, MessageTemplate template, Throwable throwable) {
+        if (LoggingEngine.isEnabled(levelCache, Level.FATAL, marker)) {
+            LoggingEngine.logTemplate(FQCN, log4RichLogger, Level.FATAL, marker, template, throwable);
+        }
+    }
+
+    // ========== logIfEnabled implementations ==========
+
+    @Override
+    public void logIfEnabled(String fqcn, Level level, Marker marker, String message) {
+        if (isEnabled(level, marker)) {
+            logMessage(fqcn, level, marker, messageFactory.newMessage(message), null);
+        }
+    }
+
+    @Override
+    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object... params) {
+        if (isEnabled(level, marker)) {
+            logMessage(fqcn, level, marker, messageFactory.newMessage(message, params), null);
+        }
+    }
+
+    @Override
+    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0) {
+        if (isEnabled(level, marker)) {
+            logMessage(fqcn, level, marker, messageFactory.newMessage(message, p0), null);
+        }
+    }
+
+    @Override
+    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1) {
+        if (isEnabled(level, marker)) {
+            logMessage(fqcn, level, marker, messageFactory.newMessage(message, p0, p1), null);
+        }
+    }
+
+    @Override
+    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2) {
+        if (isEnabled(level, marker)) {
+            if (isFixedArity(p2)) {
+                LoggingEngine.logParams(fqcn, log4RichLogger, level, marker, message, p0, p1, p2);
+            } else {
+                logMessage(fqcn, level, marker, messageFactory.newMessage(message, p0, p1, p2), null);
+            }
+        }
+    }
+
+    @Override
+    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3) {
+        if (isEnabled(level, marker)) {
+            if (isFixedArity(p3)) {
+                LoggingEngine.logParams(fqcn, log4RichLogger, level, marker, message, p0, p1, p2, p3);
+            } else {
+                logMessage(fqcn, level, marker, messageFactory.newMessage(message, p0, p1, p2, p3), null);
+            }
+        }
+    }
+
+    @Override
+    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
+        if (isEnabled(level, marker)) {
+            if (isFixedArity(p4)) {
+                LoggingEngine.logParams(fqcn, log4RichLogger, level, marker, message, p0, p1, p2, p3, p4);
+            } else {
+                logMessage(fqcn, level, marker, messageFactory.newMessage(message, p0, p1, p2, p3, p4), null);
+            }
+        }
+    }
+
+    @Override
+    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (isEnabled(level, marker)) {
+            if (isFixedArity(p5)) {
+                LoggingEngine.logParams(fqcn, log4RichLogger, level, marker, message, p0, p1, p2, p3, p4, p5);
+            } else {
+                logMessage(fqcn, level, marker, messageFactory.newMessage(message, p0, p1, p2, p3, p4, p5), null);
+            }
+        }
+    }
+
+    @Override
+    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (isEnabled(level, marker)) {
+            if (isFixedArity(p6)) {
+                LoggingEngine.logParams(fqcn, log4RichLogger, level, marker, message, p0, p1, p2, p3, p4, p5, p6);
+            } else {
+                logMessage(fqcn, level, marker, messageFactory.newMessage(message, p0, p1, p2, p3, p4, p5, p6), null);
+            }
+        }
+    }
+
+    @Override
+    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        if (isEnabled(level, marker)) {
+            if (isFixedArity(p7)) {
+                LoggingEngine.logParams(fqcn, log4RichLogger, level, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+            } else {
+                logMessage(fqcn, level, marker, messageFactory.newMessage(message, p0, p1, p2, p3, p4, p5, p6, p7), null);
+            }
+        }
+    }
+
+    @Override
+    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        if (isEnabled(level, marker)) {
+            if (isFixedArity(p8)) {
+                LoggingEngine.logParams(fqcn, log4RichLogger, level, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+            } else {
+                logMessage(fqcn, level, marker, messageFactory.newMessage(message, p0, p1, p2, p3, p4, p5, p6, p7, p8), null);
+            }
+        }
+    }
+
+    @Override
+    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        if (isEnabled(level, marker)) {
+            if (isFixedArity(p9)) {
+                LoggingEngine.logParams(fqcn, log4RichLogger, level, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+            } else {
+                logMessage(fqcn, level, marker, messageFactory.newMessage(message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9), null);
+            }
+        }
+    }
+
+    @Override
+    public void logIfEnabled(String fqcn, Level level, Marker marker, String message, Throwable throwable) {
+        if (isEnabled(level, marker)) {
+            logMessage(fqcn, level, marker, messageFactory.newMessage(message), throwable);
+        }
+    }
+
+    @Override
+    public void logIfEnabled(String fqcn, Level level, Marker marker, Message message, Throwable throwable) {
+        if (isEnabled(level, marker)) {
+            logMessage(fqcn, level, marker, message, throwable);
+        }
+    }
+
+    @Override
+    public void logIfEnabled(String fqcn, Level level, Marker marker, CharSequence message, Throwable throwable) {
+        if (isEnabled(level, marker)) {
+            if (hasBuiltInFactory()) {
+                // The engine appends the CharSequence, copying it only for async publish
+                LoggingEngine.logEnabled(fqcn, log4RichLogger, level, marker, message, throwable);
+            } else if (messageFactory instanceof MessageFactory2) {
+                logMessage(fqcn, level, marker, ((MessageFactory2) messageFactory).newMessage(message), throwable);
+            } else {
+                logMessage(fqcn, level, marker, messageFactory.newMessage(message != null ? message.toString() : null), throwable);
+            }
+        }
+    }
+
+    @Override
+    public void logIfEnabled(String fqcn, Level level, Marker marker, Object message, Throwable throwable) {
+        if (isEnabled(level, marker)) {
+            logMessage(fqcn, level, marker, messageFactory.newMessage(message), throwable);
+        }
+    }
+
+    /**
+     * Whether logIfEnabled can skip the message factory and hand its
+     * parameters to the engine: only for the built-in factories, and not when
+     * the last parameter is a Throwable, which ParameterizedMessage treats
+     * as the event's throwable rather than a format argument.
+     */
+    private boolean isFixedArity(Object lastParam) {
+        return hasBuiltInFactory() && !(lastParam instanceof Throwable);
+    }
+
+    /**
+     * Whether messages would be built by one of the bridge's own factories,
+     * whose messages the engine renders identically from the raw arguments.
+     */
+    private boolean hasBuiltInFactory() {
+        return messageFactory == DefaultMessageFactory.INSTANCE || messageFactory == ReusableMessageFactory.INSTANCE;
+    }
 }
@@ -1,5 +1,6 @@
 package org.apache.logging.log4j.spi;
 
+import com.log4rich.log4j2.bridge.LevelCache;
 import org.apache.logging.log4j.message.MessageFactory;
 
 import java.util.concurrent.ConcurrentHashMap;
@@ -155,4 +156,14 @@ public class Log4RichLoggerContext implements LoggerContext {
         }
         return contextObjects.remove(key, value);
     }
+
+    /**
+     * Makes every bridge logger re-read its effective level from log4Rich,
+     * as log4j-core's {@code LoggerContext.updateLoggers()} does. Call after
+     * changing log4Rich levels or reloading its configuration directly; the
+     * bridge cannot see such changes on its own.
+     */
+    public void updateLoggers() {
+        LevelCache.invalidateAll();
+    }
 }
@@ -56,7 +56,8 @@ public class Log4RichLoggerContextFactory implements LoggerContextFactory {
      *
      * <p>This implementation ignores the configLocation and name parameters, as
      * log4Rich configuration is managed through its own configuration system.
-     * The method always returns the same singleton context.</p>
+     * The method always returns the same singleton context. Frameworks call it
+     * when (re)initialising logging, so bridge loggers re-read their levels.</p>
      *
      * @param fqcn the fully qualified class name of the caller (ignored)
      * @param loader the class loader to use (ignored)
@@ -70,6 +71,7 @@ public class Log4RichLoggerContextFactory implements LoggerContextFactory {
     public LoggerContext getContext(String fqcn, ClassLoader loader, Object externalContext,
                                     boolean currentContext, URI configLocation, String name) {
         // Delegate to the simpler method
+        context.updateLoggers();
         return getContext(fqcn, loader, externalContext, currentContext);
     }
 
@@ -91,16 +93,26 @@ public class Log4RichLoggerContextFactory implements LoggerContextFactory {
     /**
      * Removes a LoggerContext.
      *
-     * <p>This implementation is a no-op, as log4Rich uses a singleton context
-     * that cannot be removed. The context remains available for the lifetime
-     * of the application.</p>
+     * <p>log4Rich uses a singleton context that cannot be removed, so the
+     * context remains available for the lifetime of the application. Bridge
+     * loggers re-read their levels, as the caller is usually reconfiguring.</p>
      *
      * @param context the context to remove (ignored)
      */
     @Override
     public void removeContext(LoggerContext context) {
-        // No-op: log4Rich uses a singleton context that cannot be removed
-        // The context remains for the lifetime of the application
+        this.context.updateLoggers();
+    }
+
+    /**
+     * Shuts down the logging system for a framework such as Spring Boot.
+     *
+     * <p>The singleton context stays usable; bridge loggers re-read their
+     * levels, since a framework shuts down before reconfiguring.</p>
+     */
+    @Override
+    public void shutdown(String fqcn, ClassLoader loader, boolean currentContext, boolean allContexts) {
+        context.updateLoggers();
     }
 
     /**
@@ -1,6 +1,7 @@
 package org.apache.logging.log4j.spi;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * Read-only view of the thread context map.
@@ -38,4 +39,15 @@ public interface ReadOnlyThreadContextMap {
      * Returns true if the map is empty.
      */
     boolean isEmpty();
+
+    /**
+     * Performs the action for each key-value pair in the map.
+     * Implementations backed by an immutable snapshot iterate it directly.
+     */
+    default void forEach(BiConsumer<String, String> action) {
+        Map<String, String> map = getImmutableMapOrNull();
+        if (map != null) {
+            map.forEach(action);
+        }
+    }
 }
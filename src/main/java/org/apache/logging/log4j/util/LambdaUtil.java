@@ -0,0 +1,48 @@
+package org.apache.logging.log4j.util;
+
+import java.util.function.Supplier;
+
+/**
+ * Utility methods for evaluating lazily supplied log parameters.
+ */
+public final class LambdaUtil {
+
+    private LambdaUtil() {
+    }
+
+    /**
+     * Evaluates a parameter supplier. A supplier that throws yields a
+     * description of the failure instead, as for whole-message suppliers,
+     * so a broken diagnostic parameter never fails the logging call.
+     *
+     * @param supplier the supplier, may be null
+     * @return the supplied value, or null for a null supplier
+     */
+    public static Object get(Supplier<?> supplier) {
+        if (supplier == null) {
+            return null;
+        }
+        try {
+            return supplier.get();
+        } catch (Exception e) {
+            return "Supplier threw exception: " + e.getMessage();
+        }
+    }
+
+    /**
+     * Evaluates each supplier in order; see {@link #get(Supplier)}.
+     *
+     * @param suppliers the suppliers, may be null
+     * @return the supplied values, or null for a null array
+     */
+    public static Object[] getAll(Supplier<?>... suppliers) {
+        if (suppliers == null) {
+            return null;
+        }
+        Object[] values = new Object[suppliers.length];
+        for (int i = 0; i < suppliers.length; i++) {
+            values[i] = get(suppliers[i]);
+        }
+        return values;
+    }
+}
@@ -8,15 +8,24 @@ import java.util.function.Predicate;
  * Utility for locating classes in the call stack.
  * Used by LogManager and AbstractLoggerAdapter to determine calling class.
  *
- * <p>This implementation uses Java 9+ StackWalker for efficient stack walking.
- * All method signatures match the real log4j-api to ensure compatibility with
- * libraries like commons-logging 1.3.x, Spring Boot, and SLF4J bindings.</p>
+ * <p>This is the Java 8 implementation of the multi-release JAR; Java 9+
+ * loads the StackWalker version from {@code META-INF/versions/9}. Class
+ * lookups read the class context of a private {@link SecurityManager}
+ * subclass (never installed), which returns the stack as {@code Class}
+ * objects without building StackTraceElements. Location lookups fall back
+ * to a Throwable stack trace. All method signatures match the real
+ * log4j-api to ensure compatibility with libraries like commons-logging
+ * 1.3.x, Spring Boot, and SLF4J bindings.</p>
  *
  * @since 1.0.0
  */
 public final class StackLocatorUtil {
 
-    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final PrivateSecurityManager SECURITY_MANAGER = createSecurityManager();
+
+    // Leading class context entries that belong to the lookup itself:
+    // [0] PrivateSecurityManager.getClasses, [1] classContext(), [2] its StackLocatorUtil caller
+    private static final int CONTEXT_OFFSET = 3;
 
     private StackLocatorUtil() {
     }
@@ -28,11 +37,14 @@ public final class StackLocatorUtil {
      * @return The class at the specified depth, or null if not found.
      */
     public static Class<?> getCallerClass(int depth) {
-        return WALKER.walk(frames -> frames
-                .skip(depth + 1)
-                .findFirst()
-                .map(StackWalker.StackFrame::getDeclaringClass)
-                .orElse(null));
+        Class<?>[] classes = classContext();
+        if (classes != null) {
+            int index = depth + CONTEXT_OFFSET;
+            return index >= 0 && index < classes.length ? classes[index] : null;
+        }
+        StackTraceElement[] elements = new Throwable().getStackTrace();
+        int index = depth + 1;
+        return index >= 0 && index < elements.length ? loadClass(elements[index].getClassName()) : null;
     }
 
     /**
@@ -42,14 +54,7 @@ public final class StackLocatorUtil {
      * @return The caller's class.
      */
     public static Class<?> getCallerClass(String fqcn) {
-        return WALKER.walk(frames -> frames
-                .filter(f -> !f.getClassName().equals(fqcn))
-                .filter(f -> !f.getClassName().startsWith("org.apache.logging.log4j"))
-                .filter(f -> !f.getClassName().startsWith("org.slf4j"))
-                .filter(f -> !f.getClassName().startsWith("com.log4rich"))
-                .findFirst()
-                .map(StackWalker.StackFrame::getDeclaringClass)
-                .orElse(null));
+        return getCallerClass(fqcn, null);
     }
 
     /**
@@ -60,15 +65,17 @@ public final class StackLocatorUtil {
      * @return The caller's class.
      */
     public static Class<?> getCallerClass(String fqcn, String pkg) {
-        return WALKER.walk(frames -> frames
-                .filter(f -> !f.getClassName().equals(fqcn))
-                .filter(f -> pkg == null || !f.getClassName().startsWith(pkg))
-                .filter(f -> !f.getClassName().startsWith("org.apache.logging.log4j"))
-                .filter(f -> !f.getClassName().startsWith("org.slf4j"))
-                .filter(f -> !f.getClassName().startsWith("com.log4rich"))
-                .findFirst()
-                .map(StackWalker.StackFrame::getDeclaringClass)
-                .orElse(null));
+        for (Class<?> clazz : currentClasses()) {
+            String name = clazz.getName();
+            if (!name.equals(fqcn)
+                    && (pkg == null || !name.startsWith(pkg))
+                    && !name.startsWith("org.apache.logging.log4j")
+                    && !name.startsWith("org.slf4j")
+                    && !name.startsWith("com.log4rich")) {
+                return clazz;
+            }
+        }
+        return null;
     }
 
     /**
@@ -84,15 +91,7 @@ public final class StackLocatorUtil {
      * @return The first caller class after the sentinel, or null if not found.
      */
     public static Class<?> getCallerClass(Class<?> sentinelClass) {
-        if (sentinelClass == null) {
-            return null;
-        }
-        return WALKER.walk(frames -> frames
-                .dropWhile(f -> !f.getDeclaringClass().equals(sentinelClass))
-                .dropWhile(f -> f.getDeclaringClass().equals(sentinelClass))
-                .findFirst()
-                .map(StackWalker.StackFrame::getDeclaringClass)
-                .orElse(null));
+        return getCallerClass(sentinelClass, null);
     }
 
     /**
@@ -106,13 +105,20 @@ public final class StackLocatorUtil {
         if (sentinelClass == null) {
             return null;
         }
-        return WALKER.walk(frames -> frames
-                .dropWhile(f -> !f.getDeclaringClass().equals(sentinelClass))
-                .dropWhile(f -> f.getDeclaringClass().equals(sentinelClass))
-                .map(StackWalker.StackFrame::getDeclaringClass)
-                .filter(callerPredicate != null ? callerPredicate : c -> true)
-                .findFirst()
-                .orElse(null));
+        Class<?>[] classes = currentClasses();
+        int index = 0;
+        while (index < classes.length && !classes[index].equals(sentinelClass)) {
+            index++;
+        }
+        while (index < classes.length && classes[index].equals(sentinelClass)) {
+            index++;
+        }
+        for (; index < classes.length; index++) {
+            if (callerPredicate == null || callerPredicate.test(classes[index])) {
+                return classes[index];
+            }
+        }
+        return null;
     }
 
     /**
@@ -125,12 +131,14 @@ public final class StackLocatorUtil {
      */
     public static Class<?> getCallerClass(Class<?> anchor, int skip) {
         String anchorName = anchor.getName();
-        return WALKER.walk(frames -> frames
-                .dropWhile(f -> !f.getClassName().equals(anchorName))
-                .skip(skip + 1)
-                .findFirst()
-                .map(StackWalker.StackFrame::getDeclaringClass)
-                .orElse(null));
+        Class<?>[] classes = currentClasses();
+        for (int i = 0; i < classes.length; i++) {
+            if (classes[i].getName().equals(anchorName)) {
+                int index = i + skip + 1;
+                return index < classes.length ? classes[index] : null;
+            }
+        }
+        return null;
     }
 
     /**
@@ -151,11 +159,9 @@ public final class StackLocatorUtil {
      * @return The StackTraceElement, or null if not found.
      */
     public static StackTraceElement getStackTraceElement(int depth) {
-        return WALKER.walk(frames -> frames
-                .skip(depth + 1)
-                .findFirst()
-                .map(StackWalker.StackFrame::toStackTraceElement)
-                .orElse(null));
+        StackTraceElement[] elements = new Throwable().getStackTrace();
+        int index = depth + 1;
+        return index >= 0 && index < elements.length ? elements[index] : null;
     }
 
     /**
@@ -164,11 +170,11 @@ public final class StackLocatorUtil {
      * @return A Deque of classes in the current call stack.
      */
     public static Deque<Class<?>> getCurrentStackTrace() {
-        return WALKER.walk(frames -> {
-            Deque<Class<?>> deque = new ArrayDeque<>();
-            frames.forEach(f -> deque.addLast(f.getDeclaringClass()));
-            return deque;
-        });
+        Deque<Class<?>> deque = new ArrayDeque<>();
+        for (Class<?> clazz : currentClasses()) {
+            deque.addLast(clazz);
+        }
+        return deque;
     }
 
     /**
@@ -182,11 +188,75 @@ public final class StackLocatorUtil {
         if (fqcnOfLogger == null) {
             return null;
         }
-        return WALKER.walk(frames -> frames
-                .dropWhile(f -> !f.getClassName().equals(fqcnOfLogger))
-                .dropWhile(f -> f.getClassName().equals(fqcnOfLogger))
-                .findFirst()
-                .map(StackWalker.StackFrame::toStackTraceElement)
-                .orElse(null));
+        StackTraceElement[] elements = new Throwable().getStackTrace();
+        int index = 0;
+        while (index < elements.length && !elements[index].getClassName().equals(fqcnOfLogger)) {
+            index++;
+        }
+        while (index < elements.length && elements[index].getClassName().equals(fqcnOfLogger)) {
+            index++;
+        }
+        return index < elements.length ? elements[index] : null;
+    }
+
+    // ========== Stack access ==========
+
+    /**
+     * Classes on the stack starting with the StackLocatorUtil method that
+     * called this helper's caller, matching the first frame StackWalker sees.
+     */
+    private static Class<?>[] currentClasses() {
+        Class<?>[] classes = classContext();
+        if (classes != null) {
+            // Drop the lookup frames, keeping the public StackLocatorUtil method
+            int from = Math.min(CONTEXT_OFFSET, classes.length);
+            Class<?>[] result = new Class<?>[classes.length - from];
+            System.arraycopy(classes, from, result, 0, result.length);
+            return result;
+        }
+        StackTraceElement[] elements = new Throwable().getStackTrace();
+        Class<?>[] result = new Class<?>[Math.max(0, elements.length - 1)];
+        int count = 0;
+        for (int i = 1; i < elements.length; i++) {
+            Class<?> clazz = loadClass(elements[i].getClassName());
+            if (clazz != null) {
+                result[count++] = clazz;
+            }
+        }
+        if (count < result.length) {
+            Class<?>[] trimmed = new Class<?>[count];
+            System.arraycopy(result, 0, trimmed, 0, count);
+            return trimmed;
+        }
+        return result;
+    }
+
+    private static Class<?>[] classContext() {
+        return SECURITY_MANAGER != null ? SECURITY_MANAGER.getClasses() : null;
+    }
+
+    private static Class<?> loadClass(String className) {
+        try {
+            return Class.forName(className, false, StackLocatorUtil.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static PrivateSecurityManager createSecurityManager() {
+        try {
+            return new PrivateSecurityManager();
+        } catch (SecurityException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Exposes the protected class context; never installed as the JVM's security manager.
+     */
+    private static final class PrivateSecurityManager extends SecurityManager {
+        Class<?>[] getClasses() {
+            return getClassContext();
+        }
     }
 }
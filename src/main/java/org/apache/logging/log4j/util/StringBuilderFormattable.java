@@ -0,0 +1,17 @@
+package org.apache.logging.log4j.util;
+
+/**
+ * Objects that can write their text straight into a caller's buffer.
+ * The bridge renders such messages into its recycled per-thread buffer,
+ * instead of first materializing {@code getFormattedMessage()} and then
+ * copying it next to the marker and location prefixes.
+ */
+public interface StringBuilderFormattable {
+
+    /**
+     * Appends this object's text to the buffer.
+     *
+     * @param buffer the buffer to append to
+     */
+    void formatTo(StringBuilder buffer);
+}
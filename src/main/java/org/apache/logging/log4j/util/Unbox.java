@@ -0,0 +1,131 @@
+package org.apache.logging.log4j.util;
+
+/**
+ * Passes primitive parameter values without autoboxing, as in log4j2:
+ * {@code logger.info("took {} ms", box(elapsedMillis))}.
+ *
+ * <p>Each {@code box} call writes the value into one of a small ring of
+ * {@code StringBuilder}s recycled per thread, which the bridge appends
+ * straight into its format buffer. A boxed value is only valid until the
+ * ring wraps, so it must be used in the logging call it is made for. The
+ * ring holds {@code log4j.unbox.ringbuffer.size} builders (default 32,
+ * rounded up to a power of two); one call can use at most that many.</p>
+ *
+ * <p>Unlike primitive overloads of the level methods, {@code box} cannot
+ * make a call ambiguous or change how a {@code char} or {@code float} is
+ * rendered, since it returns an {@code Object} parameter.</p>
+ */
+public final class Unbox {
+
+    private static final int DEFAULT_RING_SIZE = 32;
+
+    private static final int INITIAL_CAPACITY = 21;
+
+    // Boxed values longer than this are not kept in the ring
+    private static final int MAX_CAPACITY = 64;
+
+    private static final int RING_SIZE = ringSize(Integer.getInteger("log4j.unbox.ringbuffer.size", DEFAULT_RING_SIZE));
+
+    private static final ThreadLocal<Ring> RING = ThreadLocal.withInitial(Ring::new);
+
+    private Unbox() {
+    }
+
+    /**
+     * Returns a {@code StringBuilder} holding the value, recycled per thread.
+     */
+    public static StringBuilder box(long value) {
+        return next().append(value);
+    }
+
+    /**
+     * Returns a {@code StringBuilder} holding the value, recycled per thread.
+     */
+    public static StringBuilder box(int value) {
+        return next().append(value);
+    }
+
+    /**
+     * Returns a {@code StringBuilder} holding the value, recycled per thread.
+     */
+    public static StringBuilder box(short value) {
+        return next().append(value);
+    }
+
+    /**
+     * Returns a {@code StringBuilder} holding the value, recycled per thread.
+     */
+    public static StringBuilder box(byte value) {
+        return next().append(value);
+    }
+
+    /**
+     * Returns a {@code StringBuilder} holding the value, recycled per thread.
+     */
+    public static StringBuilder box(double value) {
+        return next().append(value);
+    }
+
+    /**
+     * Returns a {@code StringBuilder} holding the value, recycled per thread.
+     */
+    public static StringBuilder box(float value) {
+        return next().append(value);
+    }
+
+    /**
+     * Returns a {@code StringBuilder} holding the value, recycled per thread.
+     */
+    public static StringBuilder box(char value) {
+        return next().append(value);
+    }
+
+    /**
+     * Returns a {@code StringBuilder} holding the value, recycled per thread.
+     */
+    public static StringBuilder box(boolean value) {
+        return next().append(value);
+    }
+
+    /**
+     * Number of boxed values each thread can hold at once.
+     */
+    public static int getRingbufferSize() {
+        return RING_SIZE;
+    }
+
+    private static StringBuilder next() {
+        return RING.get().next();
+    }
+
+    private static int ringSize(int requested) {
+        int size = Integer.highestOneBit(Math.max(1, Math.min(requested, 1 << 16)));
+        return size < requested ? size << 1 : size;
+    }
+
+    /**
+     * A thread's builders and the index of the next one to hand out.
+     */
+    private static final class Ring {
+        final StringBuilder[] builders = new StringBuilder[RING_SIZE];
+        int index;
+
+        Ring() {
+            for (int i = 0; i < builders.length; i++) {
+                builders[i] = new StringBuilder(INITIAL_CAPACITY);
+            }
+        }
+
+        StringBuilder next() {
+            int slot = index++ & (RING_SIZE - 1);
+            StringBuilder builder = builders[slot];
+            if (builder.capacity() > MAX_CAPACITY) {
+                // A caller appended to a boxed value; don't keep the grown array
+                builder = new StringBuilder(INITIAL_CAPACITY);
+                builders[slot] = builder;
+            }
+            builder.setLength(0);
+            return builder;
+        }
+    }
+}
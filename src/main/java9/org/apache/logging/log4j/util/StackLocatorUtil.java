@@ -0,0 +1,286 @@
+package org.apache.logging.log4j.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Utility for locating classes in the call stack.
+ * Used by LogManager and AbstractLoggerAdapter to determine calling class.
+ *
+ * <p>This implementation uses Java 9+ StackWalker for efficient stack walking.
+ * It is packaged under {@code META-INF/versions/9} of the multi-release JAR;
+ * Java 8 loads the fallback in {@code src/main/java}. All method signatures
+ * match the real log4j-api to ensure compatibility with libraries like
+ * commons-logging 1.3.x, Spring Boot, and SLF4J bindings.</p>
+ *
+ * @since 1.0.0
+ */
+public final class StackLocatorUtil {
+
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    // Upper bound on call sites whose resolved location is cached, per class
+    private static final int MAX_CACHED_LOCATIONS = 1024;
+
+    // StackFrame.getDescriptor(), Java 10+; without it overloads cannot be told apart
+    private static final MethodHandle DESCRIPTOR = descriptorHandle();
+
+    // Held by each Class rather than by this class, so plugin ClassLoaders can be unloaded
+    private static final ClassValue<Map<CallSite, StackTraceElement>> LOCATIONS =
+        new ClassValue<Map<CallSite, StackTraceElement>>() {
+            @Override
+            protected Map<CallSite, StackTraceElement> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    private StackLocatorUtil() {
+    }
+
+    /**
+     * Gets the calling class at the specified depth.
+     *
+     * @param depth The number of stack frames to skip.
+     * @return The class at the specified depth, or null if not found.
+     */
+    public static Class<?> getCallerClass(int depth) {
+        return WALKER.walk(frames -> frames
+                .skip(depth + 1)
+                .findFirst()
+                .map(StackWalker.StackFrame::getDeclaringClass)
+                .orElse(null));
+    }
+
+    /**
+     * Gets the calling class, skipping this utility and common framework classes.
+     *
+     * @param fqcn Fully qualified class name of the calling logger class to skip.
+     * @return The caller's class.
+     */
+    public static Class<?> getCallerClass(String fqcn) {
+        return WALKER.walk(frames -> frames
+                .filter(f -> !f.getClassName().equals(fqcn))
+                .filter(f -> !f.getClassName().startsWith("org.apache.logging.log4j"))
+                .filter(f -> !f.getClassName().startsWith("org.slf4j"))
+                .filter(f -> !f.getClassName().startsWith("com.log4rich"))
+                .findFirst()
+                .map(StackWalker.StackFrame::getDeclaringClass)
+                .orElse(null));
+    }
+
+    /**
+     * Gets the calling class, skipping the FQCN class and any classes in the specified package.
+     *
+     * @param fqcn Fully qualified class name to skip.
+     * @param pkg Package name to skip.
+     * @return The caller's class.
+     */
+    public static Class<?> getCallerClass(String fqcn, String pkg) {
+        return WALKER.walk(frames -> frames
+                .filter(f -> !f.getClassName().equals(fqcn))
+                .filter(f -> pkg == null || !f.getClassName().startsWith(pkg))
+                .filter(f -> !f.getClassName().startsWith("org.apache.logging.log4j"))
+                .filter(f -> !f.getClassName().startsWith("org.slf4j"))
+                .filter(f -> !f.getClassName().startsWith("com.log4rich"))
+                .findFirst()
+                .map(StackWalker.StackFrame::getDeclaringClass)
+                .orElse(null));
+    }
+
+    /**
+     * Gets the first caller class after the sentinel class in the stack.
+     * Walks the stack, drops frames until it finds the sentinel class,
+     * then drops all frames belonging to the sentinel class, and returns
+     * the first frame after that.
+     *
+     * <p>This is the critical overload used by commons-logging 1.3.x's
+     * {@code Log4jApiLogFactory} to resolve the caller's LoggerContext.</p>
+     *
+     * @param sentinelClass The class to use as a sentinel/anchor point.
+     * @return The first caller class after the sentinel, or null if not found.
+     */
+    public static Class<?> getCallerClass(Class<?> sentinelClass) {
+        if (sentinelClass == null) {
+            return null;
+        }
+        return WALKER.walk(frames -> frames
+                .dropWhile(f -> !f.getDeclaringClass().equals(sentinelClass))
+                .dropWhile(f -> f.getDeclaringClass().equals(sentinelClass))
+                .findFirst()
+                .map(StackWalker.StackFrame::getDeclaringClass)
+                .orElse(null));
+    }
+
+    /**
+     * Gets the first caller class after the sentinel class that matches the predicate.
+     *
+     * @param sentinelClass The class to use as a sentinel/anchor point.
+     * @param callerPredicate Predicate to filter candidate caller classes.
+     * @return The first matching caller class after the sentinel, or null if not found.
+     */
+    public static Class<?> getCallerClass(Class<?> sentinelClass, Predicate<Class<?>> callerPredicate) {
+        if (sentinelClass == null) {
+            return null;
+        }
+        return WALKER.walk(frames -> frames
+                .dropWhile(f -> !f.getDeclaringClass().equals(sentinelClass))
+                .dropWhile(f -> f.getDeclaringClass().equals(sentinelClass))
+                .map(StackWalker.StackFrame::getDeclaringClass)
+                .filter(callerPredicate != null ? callerPredicate : c -> true)
+                .findFirst()
+                .orElse(null));
+    }
+
+    /**
+     * Gets the caller class, skipping past the anchor class and then the specified number
+     * of additional frames.
+     *
+     * @param anchor The anchor class to find in the stack.
+     * @param skip Number of additional frames to skip after finding the anchor.
+     * @return The caller class, or null if not found.
+     */
+    public static Class<?> getCallerClass(Class<?> anchor, int skip) {
+        String anchorName = anchor.getName();
+        return WALKER.walk(frames -> frames
+                .dropWhile(f -> !f.getClassName().equals(anchorName))
+                .skip(skip + 1)
+                .findFirst()
+                .map(StackWalker.StackFrame::getDeclaringClass)
+                .orElse(null));
+    }
+
+    /**
+     * Gets the ClassLoader for the caller at the specified stack depth.
+     *
+     * @param depth The depth in the call stack.
+     * @return The ClassLoader, or null if not found.
+     */
+    public static ClassLoader getCallerClassLoader(int depth) {
+        Class<?> callerClass = getCallerClass(depth + 1);
+        return callerClass != null ? callerClass.getClassLoader() : null;
+    }
+
+    /**
+     * Gets the StackTraceElement at the specified depth.
+     *
+     * @param depth The depth in the call stack.
+     * @return The StackTraceElement, or null if not found.
+     */
+    public static StackTraceElement getStackTraceElement(int depth) {
+        return WALKER.walk(frames -> frames
+                .skip(depth + 1)
+                .findFirst()
+                .map(StackWalker.StackFrame::toStackTraceElement)
+                .orElse(null));
+    }
+
+    /**
+     * Returns the current stack trace as a Deque of classes.
+     *
+     * @return A Deque of classes in the current call stack.
+     */
+    public static Deque<Class<?>> getCurrentStackTrace() {
+        return WALKER.walk(frames -> {
+            Deque<Class<?>> deque = new ArrayDeque<>();
+            frames.forEach(f -> deque.addLast(f.getDeclaringClass()));
+            return deque;
+        });
+    }
+
+    /**
+     * Calculates the location (StackTraceElement) of the caller of the logger.
+     * Walks past the specified logger FQCN to find the actual application caller.
+     *
+     * @param fqcnOfLogger The fully qualified class name of the logger implementation.
+     * @return The StackTraceElement of the caller, or null if not found.
+     */
+    public static StackTraceElement calcLocation(String fqcnOfLogger) {
+        if (fqcnOfLogger == null) {
+            return null;
+        }
+        StackWalker.StackFrame frame = WALKER.walk(frames -> frames
+                .dropWhile(f -> !f.getClassName().equals(fqcnOfLogger))
+                .dropWhile(f -> f.getClassName().equals(fqcnOfLogger))
+                .findFirst()
+                .orElse(null));
+        if (frame == null) {
+            return null;
+        }
+
+        String descriptor = descriptorOf(frame);
+        if (descriptor == null) {
+            return frame.toStackTraceElement();
+        }
+
+        // Building a StackTraceElement resolves file and line; reuse it per call site
+        Map<CallSite, StackTraceElement> locations = LOCATIONS.get(frame.getDeclaringClass());
+        CallSite site = new CallSite(frame.getMethodName(), descriptor, frame.getByteCodeIndex());
+        StackTraceElement location = locations.get(site);
+        if (location == null) {
+            location = frame.toStackTraceElement();
+            if (locations.size() >= MAX_CACHED_LOCATIONS) {
+                locations.clear();
+            }
+            locations.put(site, location);
+        }
+        return location;
+    }
+
+    private static String descriptorOf(StackWalker.StackFrame frame) {
+        if (DESCRIPTOR == null) {
+            return null;
+        }
+        try {
+            return (String) DESCRIPTOR.invokeExact(frame);
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    private static MethodHandle descriptorHandle() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(StackWalker.StackFrame.class, "getDescriptor",
+                MethodType.methodType(String.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            // Java 9: locations are resolved per call
+            return null;
+        }
+    }
+
+    /**
+     * Identifies a call site within its declaring class by method name,
+     * descriptor and bytecode index.
+     */
+    private static final class CallSite {
+        private final String methodName;
+        private final String descriptor;
+        private final int byteCodeIndex;
+
+        CallSite(String methodName, String descriptor, int byteCodeIndex) {
+            this.methodName = methodName;
+            this.descriptor = descriptor;
+            this.byteCodeIndex = byteCodeIndex;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof CallSite)) return false;
+            CallSite other = (CallSite) obj;
+            return byteCodeIndex == other.byteCodeIndex
+                    && methodName.equals(other.methodName)
+                    && descriptor.equals(other.descriptor);
+        }
+
+        @Override
+        public int hashCode() {
+            return (methodName.hashCode() * 31 + descriptor.hashCode()) * 31 + byteCodeIndex;
+        }
+    }
+}
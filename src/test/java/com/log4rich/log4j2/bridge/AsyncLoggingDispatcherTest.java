@@ -0,0 +1,183 @@
+package com.log4rich.log4j2.bridge;
+
+import org.apache.logging.log4j.Level;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link AsyncLoggingDispatcher} - ring buffer lifecycle and context capture.
+ */
+class AsyncLoggingDispatcherTest {
+
+    private final com.log4rich.core.Logger log4RichLogger =
+        com.log4rich.Log4Rich.getLogger("test.AsyncLoggingDispatcherTest");
+
+    @AfterEach
+    void tearDown() {
+        AsyncLoggingDispatcher.stop(1000);
+        ContextBridge.clearAll();
+    }
+
+    @Test
+    void startAndStopToggleRunning() {
+        AsyncLoggingDispatcher.start(16);
+        assertTrue(AsyncLoggingDispatcher.isRunning());
+        assertNotNull(AsyncLoggingDispatcher.active());
+
+        AsyncLoggingDispatcher.stop(1000);
+        assertFalse(AsyncLoggingDispatcher.isRunning());
+        assertNull(AsyncLoggingDispatcher.active());
+    }
+
+    @Test
+    void stopDrainsPublishedEvents() {
+        AsyncLoggingDispatcher.start(4);
+        for (int i = 0; i < 100; i++) {
+            // More events than slots: overflow falls back to synchronous logging
+            LoggingEngine.logSingleParam(log4RichLogger, Level.ERROR, "event {}", i);
+            LoggingEngine.log(log4RichLogger, Level.ERROR, null, "event {} {} {}", null, i, i, i);
+        }
+        AsyncLoggingDispatcher.stop(5000);
+        assertEquals(0, AsyncLoggingDispatcher.pendingEvents());
+    }
+
+    @Test
+    void stopWhileProducersLogLosesNoEvents() throws Exception {
+        int producers = 16;
+        int perProducer = 200;
+        for (int round = 0; round < 300; round++) {
+            CapturedEvents.start();
+            AsyncLoggingDispatcher.start(4096);
+            AsyncLoggingDispatcher dispatcher = AsyncLoggingDispatcher.active();
+            CountDownLatch started = new CountDownLatch(producers);
+            Thread[] threads = new Thread[producers];
+            for (int t = 0; t < producers; t++) {
+                threads[t] = new Thread(() -> {
+                    started.countDown();
+                    for (int i = 0; i < perProducer; i++) {
+                        // A producer that read the dispatcher before stop() keeps publishing to it
+                        if (!dispatcher.publishMessage(log4RichLogger, com.log4rich.core.LogLevel.ERROR, "stop race", null)) {
+                            LoggingEngine.emit(log4RichLogger, com.log4rich.core.LogLevel.ERROR, "stop race", null);
+                        }
+                    }
+                });
+                threads[t].start();
+            }
+            started.await();
+            AsyncLoggingDispatcher.stop(5000);
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertEquals(producers * perProducer, CapturedEvents.count("ERROR stop race"), "round " + round);
+        }
+    }
+
+    @Test
+    void publishCapturesCallerContext() throws Exception {
+        AsyncLoggingDispatcher.start(16);
+        AsyncLoggingDispatcher dispatcher = AsyncLoggingDispatcher.active();
+
+        // Block the consumer on a parameter's toString() so the captured event can be inspected
+        CountDownLatch rendering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<AsyncLoggingDispatcher.AsyncLogEvent> seen = new AtomicReference<>();
+        Object probe = new Object() {
+            @Override
+            public String toString() {
+                seen.set(AsyncLoggingDispatcher.renderingEvent());
+                rendering.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "probe";
+            }
+        };
+        ContextBridge.INSTANCE.put("requestId", "r-2");
+        ContextBridge.push("outer");
+        assertTrue(dispatcher.publishParams(log4RichLogger, com.log4rich.core.LogLevel.ERROR, "{}", probe));
+        ContextBridge.clearAll();
+
+        rendering.await();
+        assertEquals("r-2", seen.get().contextMap.get("requestId"));
+        assertEquals("outer", seen.get().contextStack.get(0));
+        assertNull(AsyncLoggingDispatcher.renderingEvent(), "Only the consumer thread sees the rendering event");
+        release.countDown();
+    }
+
+    @Test
+    void stopKeepsCapturedContextWhileDraining() throws Exception {
+        AsyncLoggingDispatcher.start(16);
+        AsyncLoggingDispatcher dispatcher = AsyncLoggingDispatcher.active();
+
+        // Hold the consumer on the first event so the second is still queued when stop() begins
+        CountDownLatch rendering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Object blocker = new Object() {
+            @Override
+            public String toString() {
+                rendering.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "blocker";
+            }
+        };
+        AtomicReference<String> requestId = new AtomicReference<>();
+        AtomicReference<String> outer = new AtomicReference<>();
+        Object probe = new Object() {
+            @Override
+            public String toString() {
+                requestId.set(ThreadContextProvider.INSTANCE.getMDC().get("requestId"));
+                outer.set(ThreadContextProvider.INSTANCE.getNDC().get(0));
+                return "probe";
+            }
+        };
+        ContextBridge.INSTANCE.put("requestId", "r-3");
+        ContextBridge.push("outer");
+        assertTrue(dispatcher.publishParams(log4RichLogger, com.log4rich.core.LogLevel.ERROR, "{}", blocker));
+        assertTrue(dispatcher.publishParams(log4RichLogger, com.log4rich.core.LogLevel.ERROR, "{}", probe));
+        ContextBridge.clearAll();
+        rendering.await();
+
+        Thread stopper = new Thread(() -> AsyncLoggingDispatcher.stop(5000));
+        stopper.start();
+        while (AsyncLoggingDispatcher.isRunning()) {
+            Thread.yield();
+        }
+        release.countDown();
+        stopper.join();
+
+        assertEquals("r-3", requestId.get());
+        assertEquals("outer", outer.get());
+    }
+
+    @Test
+    void fixedArityParamsFormatOnConsumer() {
+        CapturedEvents.start();
+        AsyncLoggingDispatcher.start(16);
+        AtomicReference<String> formattedOn = new AtomicReference<>();
+        Object probe = new Object() {
+            @Override
+            public String toString() {
+                formattedOn.set(Thread.currentThread().getName());
+                return "probe";
+            }
+        };
+
+        LoggingEngine.logParams(getClass().getName(), log4RichLogger, Level.ERROR, null,
+            "fixed {} {} {}", "a", probe, "c");
+        AsyncLoggingDispatcher.stop(5000);
+
+        assertEquals("log4rich-bridge-async", formattedOn.get());
+        assertTrue(CapturedEvents.contains("ERROR fixed a probe c"));
+    }
+}
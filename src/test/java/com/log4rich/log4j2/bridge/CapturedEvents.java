@@ -0,0 +1,95 @@
+package com.log4rich.log4j2.bridge;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Test fixture that reads back what log4Rich wrote. The test
+ * {@code log4Rich.config} sends every event, unbuffered, to a file appender
+ * with the pattern {@code "%level %message%n"}; {@link #start()} marks the
+ * current end of that file and {@link #events()} returns the lines written
+ * since. A logged throwable's stack trace follows its event line.
+ */
+public final class CapturedEvents {
+
+    private static final Path LOG_FILE = Paths.get(logFilePath());
+
+    private static long mark;
+
+    private CapturedEvents() {
+    }
+
+    /**
+     * Forgets the events logged so far; later calls see only newer lines.
+     */
+    public static synchronized void start() {
+        try {
+            mark = Files.exists(LOG_FILE) ? Files.size(LOG_FILE) : 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The lines written since {@link #start()}, in order.
+     */
+    public static synchronized List<String> events() {
+        List<String> lines = new ArrayList<>();
+        if (!Files.exists(LOG_FILE)) {
+            return lines;
+        }
+        try (RandomAccessFile file = new RandomAccessFile(LOG_FILE.toFile(), "r")) {
+            long length = file.length();
+            byte[] bytes = new byte[(int) Math.max(0, length - mark)];
+            file.seek(Math.min(mark, length));
+            file.readFully(bytes);
+            for (String line : new String(bytes, StandardCharsets.UTF_8).split("\r?\n")) {
+                if (!line.isEmpty()) {
+                    lines.add(line);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return lines;
+    }
+
+    public static boolean contains(String event) {
+        return events().contains(event);
+    }
+
+    /**
+     * How many lines written since {@link #start()} equal {@code event}.
+     */
+    public static int count(String event) {
+        int count = 0;
+        for (String line : events()) {
+            if (line.equals(event)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static String logFilePath() {
+        Properties config = new Properties();
+        try (InputStream in = CapturedEvents.class.getClassLoader().getResourceAsStream("log4Rich.config")) {
+            if (in == null) {
+                throw new IllegalStateException("log4Rich.config is missing from the test classpath");
+            }
+            config.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return config.getProperty("log4rich.file.path");
+    }
+}
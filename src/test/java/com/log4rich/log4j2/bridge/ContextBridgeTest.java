@@ -197,4 +197,46 @@ class ContextBridgeTest {
         assertTrue(ContextBridge.INSTANCE.isEmpty());
         assertEquals(0, ContextBridge.getDepth());
     }
+
+    // ========== Snapshots ==========
+
+    @Test
+    void immutableStackSharedUntilChanged() {
+        ContextBridge.push("a");
+        java.util.List<String> first = ContextBridge.getImmutableStack();
+        assertSame(first, ContextBridge.getImmutableStack());
+
+        ContextBridge.push("b");
+        java.util.List<String> second = ContextBridge.getImmutableStack();
+        assertNotSame(first, second);
+        assertEquals(java.util.Arrays.asList("b", "a"), second);
+        assertEquals(java.util.Collections.singletonList("a"), first);
+    }
+
+    @Test
+    void immutableContextSharedUntilChanged() {
+        ContextBridge.INSTANCE.put("key", "value");
+        Map<String, String> first = ContextBridge.getImmutableContext();
+        assertSame(first, ContextBridge.getImmutableContext());
+
+        ContextBridge.INSTANCE.put("key", "changed");
+        assertEquals("value", first.get("key"));
+        assertEquals("changed", ContextBridge.getImmutableContext().get("key"));
+    }
+
+    @Test
+    void hasContextIncludesStack() {
+        assertFalse(ContextBridge.hasContext());
+        ContextBridge.push("msg");
+        assertTrue(ContextBridge.hasContext());
+    }
+
+    @Test
+    void forEachVisitsEntriesInKeyOrder() {
+        ContextBridge.INSTANCE.put("b", "2");
+        ContextBridge.INSTANCE.put("a", "1");
+        StringBuilder visited = new StringBuilder();
+        ContextBridge.INSTANCE.forEach((key, value) -> visited.append(key).append('=').append(value).append(';'));
+        assertEquals("a=1;b=2;", visited.toString());
+    }
 }
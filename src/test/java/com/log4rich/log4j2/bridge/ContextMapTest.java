@@ -0,0 +1,89 @@
+package com.log4rich.log4j2.bridge;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ContextMap} - the copy-on-write MDC storage.
+ */
+class ContextMapTest {
+
+    @Test
+    void withAddsKeysInSortedOrder() {
+        ContextMap map = ContextMap.EMPTY.with("b", "2").with("c", "3").with("a", "1");
+        assertEquals(3, map.size());
+        assertEquals("1", map.get("a"));
+        assertEquals("2", map.get("b"));
+        assertEquals("3", map.get("c"));
+
+        List<String> keys = new ArrayList<>();
+        map.forEach((key, value) -> keys.add(key));
+        assertEquals(Arrays.asList("a", "b", "c"), keys);
+    }
+
+    @Test
+    void writesLeaveEarlierSnapshotsUnchanged() {
+        ContextMap first = ContextMap.EMPTY.with("user", "alice");
+        ContextMap second = first.with("user", "bob").with("request", "r-1");
+        ContextMap third = second.without("user");
+
+        assertEquals("alice", first.get("user"));
+        assertEquals(1, first.size());
+        assertEquals("bob", second.get("user"));
+        assertFalse(third.containsKey("user"));
+        assertEquals("r-1", third.get("request"));
+    }
+
+    @Test
+    void unchangedWritesReturnSameInstance() {
+        ContextMap map = ContextMap.EMPTY.with("key", "value");
+        assertSame(map, map.with("key", "value"));
+        assertSame(map, map.without("missing"));
+        assertSame(ContextMap.EMPTY, map.without("key"));
+    }
+
+    @Test
+    void withAllAppliesPutsAndRemovals() {
+        ContextMap map = ContextMap.EMPTY.with("keep", "1").with("drop", "2");
+        Map<String, String> changes = new HashMap<>();
+        changes.put("drop", null);
+        changes.put("add", "3");
+
+        ContextMap result = map.withAll(changes);
+        assertEquals(2, result.size());
+        assertEquals("1", result.get("keep"));
+        assertEquals("3", result.get("add"));
+        assertNull(result.get("drop"));
+    }
+
+    @Test
+    void equalsRegularMap() {
+        Map<String, String> expected = new HashMap<>();
+        expected.put("x", "1");
+        expected.put("y", "2");
+        ContextMap map = ContextMap.of(expected);
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    @Test
+    void isImmutable() {
+        ContextMap map = ContextMap.EMPTY.with("key", "value");
+        assertThrows(UnsupportedOperationException.class, () -> map.put("other", "value"));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove("key"));
+    }
+
+    @Test
+    void lookupOfNonStringKeyReturnsNull() {
+        ContextMap map = ContextMap.EMPTY.with("1", "one");
+        assertNull(map.get(1));
+        assertFalse(map.containsKey(null));
+    }
+}
@@ -0,0 +1,83 @@
+package com.log4rich.log4j2.bridge;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.spi.Log4RichLogger;
+import org.apache.logging.log4j.spi.Log4RichLoggerContext;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link LevelCache} - cached effective level checks.
+ */
+class LevelCacheTest {
+
+    private final com.log4rich.core.Logger log4RichLogger =
+        com.log4rich.Log4Rich.getLogger("test.LevelCacheTest");
+
+    @Test
+    void agreesWithLog4RichForStandardLevels() {
+        LevelCache cache = new LevelCache(log4RichLogger);
+        for (Level level : new Level[] {
+                Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR, Level.FATAL}) {
+            assertEquals(log4RichLogger.isLevelEnabled(LevelTranslator.translate(level)),
+                cache.isEnabled(level), "Mismatch for " + level);
+        }
+    }
+
+    @Test
+    void nullLevelTreatedAsInfo() {
+        LevelCache cache = new LevelCache(log4RichLogger);
+        assertEquals(cache.isEnabled(Level.INFO), cache.isEnabled(null));
+    }
+
+    @Test
+    void seesLevelChangedAtRuntimeAfterInvalidation() {
+        com.log4rich.core.Logger runtime = com.log4rich.Log4Rich.getLogger("test.LevelCacheTest.runtime");
+        com.log4rich.core.LogLevel original = runtime.getLevel();
+        Log4RichLogger logger = new Log4RichLogger("test.LevelCacheTest.runtime");
+        try {
+            runtime.setLevel(com.log4rich.core.LogLevel.INFO);
+            LevelCache.invalidateAll();
+            assertFalse(logger.isDebugEnabled());
+
+            // A direct log4Rich change is seen once the bridge is told about it
+            runtime.setLevel(com.log4rich.core.LogLevel.DEBUG);
+            assertFalse(logger.isDebugEnabled());
+            LevelCache.invalidateAll();
+            assertTrue(logger.isDebugEnabled());
+
+            runtime.setLevel(com.log4rich.core.LogLevel.WARN);
+            Log4RichLoggerContext.INSTANCE.updateLoggers();
+            assertFalse(logger.isInfoEnabled());
+        } finally {
+            runtime.setLevel(original);
+            LevelCache.invalidateAll();
+        }
+    }
+
+    @Test
+    void thresholdOrdersLevels() {
+        LevelCache cache = new LevelCache(log4RichLogger);
+        if (cache.isEnabled(Level.DEBUG)) {
+            assertTrue(cache.isEnabled(Level.INFO));
+        }
+        assertEquals(cache.getThreshold() >= Level.WARN.intLevel(), cache.isEnabled(Level.WARN));
+    }
+
+    @Test
+    void contextReconfigurationInvalidates() {
+        com.log4rich.core.Logger reloaded = com.log4rich.Log4Rich.getLogger("test.LevelCacheTest.reloaded");
+        com.log4rich.core.LogLevel original = reloaded.getLevel();
+        LevelCache cache = new LevelCache(reloaded);
+        try {
+            reloaded.setLevel(com.log4rich.core.LogLevel.ERROR);
+            org.apache.logging.log4j.LogManager.getContext(null, null, null, true, null, null);
+            assertFalse(cache.isEnabled(Level.WARN));
+            assertEquals(Level.ERROR.intLevel(), cache.getThreshold());
+        } finally {
+            reloaded.setLevel(original);
+            LevelCache.invalidateAll();
+        }
+    }
+}
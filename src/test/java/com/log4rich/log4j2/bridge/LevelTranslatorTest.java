@@ -0,0 +1,44 @@
+package com.log4rich.log4j2.bridge;
+
+import org.apache.logging.log4j.Level;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link LevelTranslator} - forward and reverse level mapping.
+ */
+class LevelTranslatorTest {
+
+    @Test
+    void standardLevelsRoundTrip() {
+        for (Level level : new Level[] {
+                Level.OFF, Level.FATAL, Level.ERROR, Level.WARN,
+                Level.INFO, Level.DEBUG, Level.TRACE, Level.ALL}) {
+            assertSame(level, LevelTranslator.translateReverse(LevelTranslator.translate(level)));
+        }
+    }
+
+    @Test
+    void nullFallsBackToInfo() {
+        assertEquals(com.log4rich.core.LogLevel.INFO, LevelTranslator.translate(null));
+        assertSame(Level.INFO, LevelTranslator.translateReverse(null));
+    }
+
+    @Test
+    void customLevelMapsToNextMoreVerboseStandardLevel() {
+        assertEquals(com.log4rich.core.LogLevel.DEBUG,
+            LevelTranslator.translate(Level.forName("TEST_NOTICE", 450)));
+        assertEquals(com.log4rich.core.LogLevel.ERROR,
+            LevelTranslator.translate(Level.forName("TEST_SEVERE", 150)));
+        assertEquals(com.log4rich.core.LogLevel.TRACE,
+            LevelTranslator.translate(Level.forName("TEST_FINEST", 700)));
+    }
+
+    @Test
+    void everyLog4RichLevelHasReverseMapping() {
+        for (com.log4rich.core.LogLevel richLevel : com.log4rich.core.LogLevel.values()) {
+            assertNotNull(LevelTranslator.fromLog4Rich(richLevel));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.log4rich.log4j2.bridge;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link LocationCapture} - fqcn-based caller location.
+ */
+class LocationCaptureTest {
+
+    @AfterEach
+    void tearDown() {
+        LocationCapture.setEnabled(false);
+    }
+
+    @Test
+    void disabledByDefault() {
+        assertFalse(LocationCapture.isEnabled());
+    }
+
+    @Test
+    void locateWalksPastWrapperFqcn() {
+        StackTraceElement location = Wrapper.info();
+        assertNotNull(location);
+        assertEquals(LocationCaptureTest.class.getName(), location.getClassName());
+        assertEquals("locateWalksPastWrapperFqcn", location.getMethodName());
+    }
+
+    @Test
+    void sameCallSiteResolvesConsistently() {
+        StackTraceElement first = null;
+        for (int i = 0; i < 3; i++) {
+            StackTraceElement location = Wrapper.info();
+            if (first == null) {
+                first = location;
+            }
+            assertEquals(first, location);
+        }
+    }
+
+    @Test
+    void unknownFqcnYieldsNull() {
+        assertNull(LocationCapture.locate("com.example.NotOnTheStack"));
+    }
+
+    @Test
+    void locationRenderedBeforeMarker() {
+        StackTraceElement location = new StackTraceElement("com.example.Service", "handle", "Service.java", 42);
+        assertEquals("[com.example.Service.handle(Service.java:42)] done",
+            LoggingEngine.formatMessage(location, null, "done", null));
+    }
+
+    /** Stands in for a logger wrapper that passes its own FQCN. */
+    private static final class Wrapper {
+        static StackTraceElement info() {
+            return LocationCapture.locate(Wrapper.class.getName());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.log4rich.log4j2.bridge;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link MarkerFilter} - compiled marker accept/deny rules.
+ */
+class MarkerFilterTest {
+
+    private final Marker sql = MarkerManager.getMarker("MarkerFilterTest.SQL");
+    private final Marker other = MarkerManager.getMarker("MarkerFilterTest.OTHER");
+
+    @AfterEach
+    void tearDown() {
+        MarkerFilter.reset();
+    }
+
+    @Test
+    void noRulesPassEverything() {
+        assertTrue(MarkerFilter.isEnabled(null, Level.TRACE));
+        assertTrue(MarkerFilter.isEnabled(sql, Level.TRACE));
+        assertTrue(MarkerHandler.shouldLog(other, Level.ALL));
+    }
+
+    @Test
+    void acceptedMarkerPassesBelowDefaultLevel() {
+        MarkerFilter.configure("MarkerFilterTest.SQL:DEBUG", null, Level.INFO);
+
+        assertTrue(MarkerFilter.isEnabled(sql, Level.DEBUG));
+        assertFalse(MarkerFilter.isEnabled(sql, Level.TRACE));
+        assertFalse(MarkerFilter.isEnabled(other, Level.DEBUG));
+        assertTrue(MarkerFilter.isEnabled(other, Level.INFO));
+        assertFalse(MarkerFilter.isEnabled(null, Level.DEBUG));
+        assertTrue(MarkerFilter.isEnabled(null, Level.WARN));
+    }
+
+    @Test
+    void denyDropsLevelAndMoreVerbose() {
+        MarkerFilter.configure(null, "MarkerFilterTest.SQL:INFO", null);
+
+        assertTrue(MarkerFilter.isEnabled(sql, Level.WARN));
+        assertFalse(MarkerFilter.isEnabled(sql, Level.INFO));
+        assertFalse(MarkerFilter.isEnabled(sql, Level.DEBUG));
+        assertTrue(MarkerFilter.isEnabled(other, Level.TRACE));
+    }
+
+    @Test
+    void bareDenyBlocksAllLevelsAndWinsOverAccept() {
+        MarkerFilter.configure("MarkerFilterTest.SQL", "MarkerFilterTest.SQL", null);
+        assertFalse(MarkerFilter.isEnabled(sql, Level.FATAL));
+    }
+
+    @Test
+    void rulesMatchAncestors() {
+        Marker child = MarkerManager.getMarker("MarkerFilterTest.CHILD");
+        MarkerFilter.configure("MarkerFilterTest.SQL:DEBUG", null, Level.INFO);
+        assertFalse(MarkerFilter.isEnabled(child, Level.DEBUG));
+
+        child.setParents(sql);
+        try {
+            assertTrue(MarkerFilter.isEnabled(child, Level.DEBUG), "Hierarchy change must recompile");
+        } finally {
+            child.setParents();
+        }
+        assertFalse(MarkerFilter.isEnabled(child, Level.DEBUG));
+    }
+
+    @Test
+    void unknownLevelRuleIgnored() {
+        MarkerFilter.configure(null, "MarkerFilterTest.SQL:NOPE", null);
+        assertTrue(MarkerFilter.isEnabled(sql, Level.TRACE));
+    }
+}
@@ -0,0 +1,48 @@
+package com.log4rich.log4j2.bridge;
+
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link MarkerHandler} - marker prefix rendering and caching.
+ */
+class MarkerHandlerTest {
+
+    @Test
+    void formatsNameAndParents() {
+        Marker parent = MarkerManager.getMarker("MarkerHandlerTest.PARENT");
+        Marker marker = MarkerManager.getMarker("MarkerHandlerTest.CHILD").setParents(parent);
+        assertEquals("[MarkerHandlerTest.CHILD [MarkerHandlerTest.PARENT]] ", MarkerHandler.formatMarker(marker));
+        assertNull(MarkerHandler.formatMarker(null));
+    }
+
+    @Test
+    void prefixIsCachedUntilParentsChange() {
+        Marker marker = MarkerManager.getMarker("MarkerHandlerTest.CACHED");
+        String first = MarkerHandler.formatMarker(marker);
+        assertSame(first, MarkerHandler.formatMarker(marker));
+
+        marker.setParents(MarkerManager.getMarker("MarkerHandlerTest.ADDED"));
+        assertEquals("[MarkerHandlerTest.CACHED [MarkerHandlerTest.ADDED]] ", MarkerHandler.formatMarker(marker));
+    }
+
+    @Test
+    void otherMarkersParentChangesKeepThePrefix() {
+        Marker marker = MarkerManager.getMarker("MarkerHandlerTest.STABLE");
+        String first = MarkerHandler.formatMarker(marker);
+
+        MarkerManager.getMarker("MarkerHandlerTest.UNRELATED").addParents(MarkerManager.getMarker("MarkerHandlerTest.ROOT"));
+        assertSame(first, MarkerHandler.formatMarker(marker));
+    }
+
+    @Test
+    void formatMessageWritesPrefixAndMessageTogether() {
+        Marker marker = MarkerManager.getMarker("MarkerHandlerTest.AUDIT");
+        assertEquals("[MarkerHandlerTest.AUDIT] user alice logged in",
+            LoggingEngine.formatMessage(null, marker, "user {} logged in", new Object[] {"alice"}));
+        assertEquals("plain", LoggingEngine.formatMessage(null, null, "plain", null));
+    }
+}
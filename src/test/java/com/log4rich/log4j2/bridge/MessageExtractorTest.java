@@ -0,0 +1,159 @@
+package com.log4rich.log4j2.bridge;
+
+import org.apache.logging.log4j.util.Unbox;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for {@link MessageExtractor} parameter formatting.
+ */
+class MessageExtractorTest {
+
+    @Test
+    void formatsAllPlaceholders() {
+        assertEquals("User john has 5 items",
+            MessageExtractor.extractMessage("User {} has {} items", "john", 5));
+    }
+
+    @Test
+    void keepsUnmatchedPlaceholders() {
+        assertEquals("a=1 b={}", MessageExtractor.extractMessage("a={} b={}", 1));
+    }
+
+    @Test
+    void ignoresExtraParameters() {
+        assertEquals("only 1", MessageExtractor.extractMessage("only {}", 1, 2, 3));
+    }
+
+    @Test
+    void noParametersReturnsPatternUnchanged() {
+        String pattern = "no placeholders {}";
+        assertSame(pattern, MessageExtractor.extractMessage(pattern));
+    }
+
+    @Test
+    void singleParameterReplacesOnlyFirstPlaceholder() {
+        assertEquals("x=1 y={}", MessageExtractor.formatSingleParameter("x={} y={}", 1));
+    }
+
+    @Test
+    void singleParameterNull() {
+        assertEquals("value null", MessageExtractor.formatSingleParameter("value {}", null));
+    }
+
+    @Test
+    void twoParameters() {
+        assertEquals("1 + 2 = {}", MessageExtractor.formatTwoParameters("{} + {} = {}", 1, 2));
+        assertEquals("only 1", MessageExtractor.formatTwoParameters("only {}", 1, 2));
+        assertEquals("none", MessageExtractor.formatTwoParameters("none", 1, 2));
+    }
+
+    @Test
+    void loneBracesAreNotPlaceholders() {
+        assertEquals("{ 1 } {", MessageExtractor.formatSingleParameter("{ {} } {", 1));
+    }
+
+    @Test
+    void arrayParameters() {
+        Object[] array = {"a", null, 3};
+        assertEquals("values [a, null, 3]",
+            MessageExtractor.formatSingleParameter("values {}", array));
+    }
+
+    @Test
+    void reentrantFormattingDoesNotCorruptOuterMessage() {
+        Object nested = new Object() {
+            @Override
+            public String toString() {
+                return MessageExtractor.formatTwoParameters("inner {} {}", "a", "b");
+            }
+        };
+        assertEquals("outer [inner a b] done",
+            MessageExtractor.formatTwoParameters("outer [{}] {}", nested, "done"));
+        assertEquals("next 1", MessageExtractor.formatSingleParameter("next {}", 1));
+    }
+
+    @Test
+    void numberParametersMatchToString() {
+        assertEquals("took 42 ms", MessageExtractor.formatSingleParameter("took {} ms", 42L));
+        assertEquals("rate 0.25", MessageExtractor.formatSingleParameter("rate {}", 0.25d));
+        assertEquals("3 of 7", MessageExtractor.formatTwoParameters("{} of {}", 3L, 7L));
+        assertEquals("3 at 1.5", MessageExtractor.formatTwoParameters("{} at {}", 3L, 1.5d));
+        assertEquals("1.5 x 3", MessageExtractor.formatTwoParameters("{} x {}", 1.5d, 3L));
+        assertEquals("NaN Infinity", MessageExtractor.formatTwoParameters("{} {}", Double.NaN, Double.POSITIVE_INFINITY));
+        assertEquals("min " + Long.MIN_VALUE, MessageExtractor.formatSingleParameter("min {}", Long.MIN_VALUE));
+        assertEquals("x 0.1", MessageExtractor.formatTwoParameters("{} {}", 'x', 0.1f));
+    }
+
+    @Test
+    void numberParametersKeepUnmatchedPlaceholders() {
+        assertEquals("only 1", MessageExtractor.formatTwoParameters("only {}", 1L, 2L));
+        assertEquals("1 {} {}", MessageExtractor.formatSingleParameter("{} {} {}", 1L));
+        assertEquals("none", MessageExtractor.formatSingleParameter("none", 1.0d));
+        assertEquals("null", MessageExtractor.formatTwoParameters(null, 1.0d, 2.0d));
+    }
+
+    @Test
+    void fixedArityParamsAreRecycledAndCleared() {
+        Object[] params = MessageExtractor.acquireParams();
+        Object[] nested = MessageExtractor.acquireParams();
+        assertNotSame(params, nested);
+        MessageExtractor.releaseParams(nested, 0);
+
+        params[0] = "a";
+        params[1] = "b";
+        params[2] = "c";
+        StringBuilder buffer = new StringBuilder();
+        MessageExtractor.appendFormatted(buffer, "{}-{}-{} {}", params, 3);
+        assertEquals("a-b-c {}", buffer.toString());
+
+        MessageExtractor.releaseParams(params, 3);
+        assertNull(params[0]);
+        assertNull(params[2]);
+        assertSame(params, MessageExtractor.acquireParams());
+        MessageExtractor.releaseParams(params, 0);
+    }
+
+    @Test
+    void formattableAndCharSequenceMessagesAreAppended() {
+        StringBuilder buffer = new StringBuilder("[M] ");
+        MessageExtractor.appendMessage(buffer, new org.apache.logging.log4j.message.ParameterizedMessage("{}+{}", 1, 2), null);
+        MessageExtractor.appendMessage(buffer, new StringBuilder(" chars"), null);
+        assertEquals("[M] 1+2 chars", buffer.toString());
+        assertEquals("x=1", MessageExtractor.extractMessage(
+            new org.apache.logging.log4j.message.ParameterizedMessage("x={}", 1)));
+    }
+
+    @Test
+    void unboxedParametersFormatWithoutAllocating() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        long thread = Thread.currentThread().getId();
+        StringBuilder buffer = new StringBuilder(128);
+        Object[] params = new Object[3];
+        String pattern = "latency {} ns, count {}, ratio {}";
+
+        int calls = 10_000;
+        for (int round = 0; round < 2; round++) {
+            // The first round warms up the per-thread ring and the pattern cache
+            long before = threads.getThreadAllocatedBytes(thread);
+            for (int i = 0; i < calls; i++) {
+                params[0] = Unbox.box(1_000_000L + i);
+                params[1] = Unbox.box(i);
+                params[2] = Unbox.box(0.25);
+                buffer.setLength(0);
+                MessageExtractor.appendFormatted(buffer, pattern, params, params.length);
+            }
+            long allocated = threads.getThreadAllocatedBytes(thread) - before;
+            if (round == 1) {
+                assertTrue(allocated < calls, allocated + " bytes allocated for " + calls + " calls");
+            }
+        }
+        assertEquals("latency 1009999 ns, count 9999, ratio 0.25", buffer.toString());
+    }
+}
@@ -0,0 +1,68 @@
+package com.log4rich.log4j2.bridge;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ParsedPattern} - placeholder parsing and the identity cache.
+ */
+class ParsedPatternTest {
+
+    @Test
+    void findsNonOverlappingPlaceholders() {
+        ParsedPattern parsed = ParsedPattern.parse("a {} b {{}} c {}");
+        assertEquals(3, parsed.placeholderCount());
+        assertEquals(2, parsed.placeholderAt(0));
+        assertEquals(8, parsed.placeholderAt(1));
+        assertEquals(14, parsed.placeholderAt(2));
+        assertEquals(0, ParsedPattern.parse("{ } no placeholders {").placeholderCount());
+    }
+
+    @Test
+    void sameInstanceIsServedFromCache() {
+        String pattern = "cached {} pattern";
+        // Admitted on its second miss
+        ParsedPattern.of(pattern);
+        assertSame(ParsedPattern.of(pattern), ParsedPattern.of(pattern));
+    }
+
+    @Test
+    void oneOffPatternsDoNotDisplaceCachedOnes() {
+        String constant = "constant {} pattern";
+        ParsedPattern.of(constant);
+        ParsedPattern cached = ParsedPattern.of(constant);
+        for (int i = 0; i < 100_000; i++) {
+            ParsedPattern.of("dynamic " + i + " {}");
+        }
+        assertSame(cached, ParsedPattern.of(constant));
+    }
+
+    @Test
+    void parseGrowsPastInitialCapacity() {
+        ParsedPattern parsed = ParsedPattern.parse("{}{}{}{}{}{}{}{}{}");
+        assertEquals(9, parsed.placeholderCount());
+        assertEquals(16, parsed.placeholderAt(8));
+    }
+
+    @Test
+    void equalButDistinctStringIsParsedSeparately() {
+        String constant = "identity {} keyed";
+        String copy = new String(constant);
+        ParsedPattern first = ParsedPattern.of(constant);
+        ParsedPattern second = ParsedPattern.of(copy);
+        assertNotSame(first, second);
+        assertEquals(first.placeholderAt(0), second.placeholderAt(0));
+    }
+
+    @Test
+    void formattersAgreeOnCachedPattern() {
+        String pattern = "{} -> {} ({})";
+        for (int i = 0; i < 3; i++) {
+            assertEquals("a -> b ({})", MessageExtractor.formatTwoParameters(pattern, "a", "b"));
+            assertEquals("a -> b (c)", MessageExtractor.extractMessage(pattern, "a", "b", "c"));
+            assertEquals("a -> b (c)",
+                new org.apache.logging.log4j.message.ParameterizedMessage(pattern, "a", "b", "c").getFormattedMessage());
+        }
+    }
+}
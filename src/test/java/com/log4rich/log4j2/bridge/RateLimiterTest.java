@@ -0,0 +1,107 @@
+package com.log4rich.log4j2.bridge;
+
+import com.log4rich.Log4Rich;
+import com.log4rich.core.LogLevel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link RateLimiter} - token buckets, keys and suppression summaries.
+ */
+class RateLimiterTest {
+
+    private final com.log4rich.core.Logger logger = Log4Rich.getLogger("RateLimiterTest");
+
+    @AfterEach
+    void disable() {
+        RateLimiter.configure(0, 0, false, 0);
+    }
+
+    @Test
+    void disabledByDefault() {
+        assertFalse(RateLimiter.isEnabled());
+        assertNull(RateLimiter.active());
+        assertEquals(0, RateLimiter.getSuppressedCount());
+    }
+
+    @Test
+    void burstThenDrop() {
+        RateLimiter.configure(1, 3, false, 0);
+        RateLimiter limiter = RateLimiter.active();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.acquire(logger, LogLevel.ERROR, "Connection failed {}"));
+        }
+        assertEquals(-1, limiter.acquire(logger, LogLevel.ERROR, "Connection failed {}"));
+        assertEquals(-1, limiter.acquire(logger, LogLevel.ERROR, "other {}"));
+        assertEquals(2, RateLimiter.getSuppressedCount());
+
+        // Each level has its own bucket
+        assertEquals(0, limiter.acquire(logger, LogLevel.WARN, "Connection failed {}"));
+    }
+
+    @Test
+    void byPatternKeysEachCallSite() {
+        RateLimiter.configure(1, 1, true, 0);
+        RateLimiter limiter = RateLimiter.active();
+        assertEquals(0, limiter.acquire(logger, LogLevel.ERROR, "Connection failed {}"));
+        assertEquals(-1, limiter.acquire(logger, LogLevel.ERROR, "Connection failed {}"));
+        assertEquals(0, limiter.acquire(logger, LogLevel.ERROR, "Request served in {} ms"));
+    }
+
+    @Test
+    void summaryReportedOnceRefilled() throws InterruptedException {
+        RateLimiter.configure(1000, 1, false, 0);
+        RateLimiter limiter = RateLimiter.active();
+        assertEquals(0, limiter.acquire(logger, LogLevel.ERROR, null));
+        assertEquals(-1, limiter.acquire(logger, LogLevel.ERROR, null));
+        assertEquals(-1, limiter.acquire(logger, LogLevel.ERROR, null));
+
+        Thread.sleep(20);
+        assertEquals(2, limiter.acquire(logger, LogLevel.ERROR, null));
+        Thread.sleep(20);
+        assertEquals(0, limiter.acquire(logger, LogLevel.ERROR, null));
+    }
+
+    @Test
+    void flushReportsCountsOfQuietKeys() {
+        CapturedEvents.start();
+        RateLimiter.configure(1, 1, false, 60_000);
+        RateLimiter limiter = RateLimiter.active();
+        assertEquals(0, limiter.acquire(logger, LogLevel.ERROR, null));
+        assertEquals(-1, limiter.acquire(logger, LogLevel.ERROR, null));
+        assertEquals(-1, limiter.acquire(logger, LogLevel.ERROR, null));
+
+        // The first summary is due at once, so the timer's pass reports it
+        limiter.report(System.nanoTime(), false);
+        assertTrue(CapturedEvents.contains("ERROR Rate limit: suppressed 2 events"));
+
+        // A later count is held back by the interval, but shutdown logs it
+        assertEquals(-1, limiter.acquire(logger, LogLevel.ERROR, null));
+        limiter.report(System.nanoTime(), false);
+        assertFalse(CapturedEvents.contains("ERROR Rate limit: suppressed 1 events"));
+        RateLimiter.flush();
+        assertTrue(CapturedEvents.contains("ERROR Rate limit: suppressed 1 events"));
+    }
+
+    @Test
+    void plainTextSharesTheLoggerBucket() {
+        CapturedEvents.start();
+        RateLimiter.configure(1, 1, true, 0);
+        org.apache.logging.log4j.Level level = org.apache.logging.log4j.Level.ERROR;
+        com.log4rich.core.Logger plain = Log4Rich.getLogger("RateLimiterTest.plain");
+        LoggingEngine.logSimple(plain, level, "user 1 logged in");
+        LoggingEngine.logSimple(plain, level, "user 2 logged in");
+        LoggingEngine.logSingleParam(plain, level, "user {} logged out", 3);
+        assertTrue(CapturedEvents.contains("ERROR user 1 logged in"));
+        assertFalse(CapturedEvents.contains("ERROR user 2 logged in"));
+        assertTrue(CapturedEvents.contains("ERROR user 3 logged out"));
+    }
+
+    @Test
+    void summaryText() {
+        assertEquals("Rate limit: suppressed 5 events", RateLimiter.summary(5, null));
+        assertEquals("Rate limit: suppressed 1 events for \"failed {}\"", RateLimiter.summary(1, "failed {}"));
+    }
+}
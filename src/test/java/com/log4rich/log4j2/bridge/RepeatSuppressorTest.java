@@ -0,0 +1,119 @@
+package com.log4rich.log4j2.bridge;
+
+import com.log4rich.Log4Rich;
+import com.log4rich.core.LogLevel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link RepeatSuppressor} - run detection per logger.
+ */
+class RepeatSuppressorTest {
+
+    private final com.log4rich.core.Logger logger = Log4Rich.getLogger("RepeatSuppressorTest");
+    private final com.log4rich.core.Logger other = Log4Rich.getLogger("RepeatSuppressorTest.other");
+
+    @AfterEach
+    void reset() {
+        RepeatSuppressor.flush();
+    }
+
+    @Test
+    void consecutiveIdenticalEventsAreCounted() {
+        assertFalse(RepeatSuppressor.isRepeat(logger, LogLevel.WARN, "retrying connection", null));
+        assertTrue(RepeatSuppressor.isRepeat(logger, LogLevel.WARN, "retrying connection", null));
+        assertTrue(RepeatSuppressor.isRepeat(logger, LogLevel.WARN, "retrying connection", null));
+
+        // A different message or level ends the run
+        assertFalse(RepeatSuppressor.isRepeat(logger, LogLevel.WARN, "retrying connection (2)", null));
+        assertFalse(RepeatSuppressor.isRepeat(logger, LogLevel.ERROR, "retrying connection (2)", null));
+    }
+
+    @Test
+    void runsAreTrackedPerLogger() {
+        assertFalse(RepeatSuppressor.isRepeat(logger, LogLevel.INFO, "tick", null));
+        assertFalse(RepeatSuppressor.isRepeat(other, LogLevel.INFO, "tick", null));
+        assertTrue(RepeatSuppressor.isRepeat(logger, LogLevel.INFO, "tick", null));
+        assertTrue(RepeatSuppressor.isRepeat(other, LogLevel.INFO, "tick", null));
+    }
+
+    @Test
+    void eventsWithThrowableAreNeverCollapsed() {
+        RuntimeException failure = new RuntimeException("boom");
+        assertFalse(RepeatSuppressor.isRepeat(logger, LogLevel.ERROR, "failed", failure));
+        assertFalse(RepeatSuppressor.isRepeat(logger, LogLevel.ERROR, "failed", failure));
+        assertFalse(RepeatSuppressor.isRepeat(logger, LogLevel.ERROR, "failed", null));
+        assertTrue(RepeatSuppressor.isRepeat(logger, LogLevel.ERROR, "failed", null));
+    }
+
+    @Test
+    void flushForgetsLastEvent() {
+        assertFalse(RepeatSuppressor.isRepeat(logger, LogLevel.INFO, "same", null));
+        RepeatSuppressor.flush();
+        assertFalse(RepeatSuppressor.isRepeat(logger, LogLevel.INFO, "same", null));
+    }
+
+    @Test
+    void idleRunsAreReportedAfterTimeout() {
+        CapturedEvents.start();
+        assertFalse(RepeatSuppressor.isRepeat(logger, LogLevel.WARN, "disk almost full", null));
+        assertTrue(RepeatSuppressor.isRepeat(logger, LogLevel.WARN, "disk almost full", null));
+        assertTrue(RepeatSuppressor.isRepeat(logger, LogLevel.WARN, "disk almost full", null));
+
+        // Not yet idle for the timeout
+        RepeatSuppressor.flushIdle(System.nanoTime());
+        assertFalse(CapturedEvents.contains("WARN Last message repeated 2 times"));
+
+        RepeatSuppressor.flushIdle(System.nanoTime() + RepeatSuppressor.TIMEOUT_NANOS);
+        assertEquals(1, CapturedEvents.events().size());
+        assertEquals("WARN Last message repeated 2 times", CapturedEvents.events().get(0));
+
+        // The run stays open: a further repeat is counted afresh and reported when the run ends
+        assertTrue(RepeatSuppressor.isRepeat(logger, LogLevel.WARN, "disk almost full", null));
+        RepeatSuppressor.flushIdle(System.nanoTime() + RepeatSuppressor.TIMEOUT_NANOS);
+        assertEquals("WARN Last message repeated 1 time", CapturedEvents.events().get(1));
+        assertTrue(RepeatSuppressor.isRepeat(logger, LogLevel.WARN, "disk almost full", null));
+        assertFalse(RepeatSuppressor.isRepeat(logger, LogLevel.WARN, "disk is full", null));
+        assertEquals("WARN Last message repeated 1 time", CapturedEvents.events().get(2));
+        assertEquals(3, CapturedEvents.events().size());
+    }
+
+    @Test
+    void concurrentRepeatsAreEachLoggedOrCounted() throws InterruptedException {
+        CapturedEvents.start();
+        int threads = 4;
+        int perThread = 2_000;
+        Thread[] workers = new Thread[threads];
+        java.util.concurrent.atomic.AtomicLong logged = new java.util.concurrent.atomic.AtomicLong();
+        for (int t = 0; t < threads; t++) {
+            String message = t % 2 == 0 ? "even" : "odd";
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    if (!RepeatSuppressor.isRepeat(logger, LogLevel.INFO, message, null)) {
+                        logged.incrementAndGet();
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        RepeatSuppressor.flush();
+
+        long counted = 0;
+        for (String event : CapturedEvents.events()) {
+            String count = event.replace("INFO Last message repeated ", "").replace(" times", "").replace(" time", "");
+            counted += Long.parseLong(count);
+        }
+        assertEquals((long) threads * perThread, logged.get() + counted);
+    }
+
+    @Test
+    void summaryText() {
+        assertEquals("Last message repeated 1 time", RepeatSuppressor.summary(1));
+        assertEquals("Last message repeated 42 times", RepeatSuppressor.summary(42));
+    }
+}
@@ -0,0 +1,74 @@
+package com.log4rich.log4j2.bridge;
+
+import com.log4rich.Log4Rich;
+import com.log4rich.core.LogLevel;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link Sampler} policies.
+ */
+class SamplerTest {
+
+    private final com.log4rich.core.Logger logger = Log4Rich.getLogger("SamplerTest");
+
+    @AfterEach
+    void reset() {
+        Sampler.disable();
+        ThreadContext.clearMap();
+    }
+
+    @Test
+    void everyNKeepsFirstOfEachGroupPerLevel() {
+        Sampler.configureEveryN(Level.INFO, 3);
+        Sampler sampler = Sampler.active();
+        int kept = 0;
+        for (int i = 0; i < 9; i++) {
+            if (sampler.sample(logger, LogLevel.INFO, Level.INFO)) {
+                kept++;
+            }
+        }
+        assertEquals(3, kept);
+        assertTrue(sampler.sample(logger, LogLevel.DEBUG, Level.DEBUG));
+    }
+
+    @Test
+    void moreSevereLevelsAreAlwaysKept() {
+        Sampler.configureRandom(Level.INFO, 0.0);
+        Sampler sampler = Sampler.active();
+        assertFalse(sampler.sample(logger, LogLevel.INFO, Level.INFO));
+        assertFalse(sampler.sample(logger, LogLevel.DEBUG, Level.DEBUG));
+        assertTrue(sampler.sample(logger, LogLevel.WARN, Level.WARN));
+        assertTrue(sampler.sample(logger, LogLevel.ERROR, Level.ERROR));
+    }
+
+    @Test
+    void consistentDecisionFollowsMdcValue() {
+        Sampler.configureConsistent(Level.INFO, 0.5, "traceId");
+        Sampler sampler = Sampler.active();
+        int kept = 0;
+        for (int i = 0; i < 1000; i++) {
+            ThreadContext.put("traceId", "trace-" + i);
+            boolean first = sampler.sample(logger, LogLevel.INFO, Level.INFO);
+            for (int j = 0; j < 3; j++) {
+                assertEquals(first, sampler.sample(logger, LogLevel.DEBUG, Level.DEBUG));
+            }
+            if (first) {
+                kept++;
+            }
+        }
+        assertTrue(kept > 400 && kept < 600, "kept " + kept);
+    }
+
+    @Test
+    void consistentRateBounds() {
+        Sampler.configureConsistent(Level.INFO, 1.0, "traceId");
+        assertTrue(Sampler.active().keeps("any"));
+        Sampler.configureConsistent(Level.INFO, 0.0, "traceId");
+        assertFalse(Sampler.active().keeps("any"));
+    }
+}
@@ -0,0 +1,97 @@
+package com.log4rich.log4j2.bridge;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ThrowableFingerprints} - fingerprints, windows and references.
+ */
+class ThrowableFingerprintsTest {
+
+    @AfterEach
+    void reset() {
+        ThrowableFingerprints.setWindow(60, TimeUnit.SECONDS);
+        ThrowableFingerprints.clear();
+    }
+
+    private static RuntimeException failure(String message) {
+        return failure(message, null);
+    }
+
+    private static RuntimeException failure(String message, Throwable cause) {
+        return new RuntimeException(message, cause);
+    }
+
+    @Test
+    void sameThrowSiteSharesFingerprint() {
+        long[] fingerprints = new long[2];
+        for (int i = 0; i < 2; i++) {
+            fingerprints[i] = ThrowableFingerprints.fingerprint(failure("attempt " + i));
+        }
+        assertEquals(fingerprints[0], fingerprints[1]);
+        assertNotEquals(fingerprints[0], ThrowableFingerprints.fingerprint(failure("elsewhere")));
+        assertNotEquals(fingerprints[0],
+            ThrowableFingerprints.fingerprint(new IllegalStateException("attempt")));
+    }
+
+    @Test
+    void causeIsPartOfFingerprint() {
+        Throwable[] causes = {null, new java.io.IOException("io")};
+        long[] fingerprints = new long[2];
+        for (int i = 0; i < 2; i++) {
+            fingerprints[i] = ThrowableFingerprints.fingerprint(failure("x", causes[i]));
+        }
+        assertNotEquals(fingerprints[0], fingerprints[1]);
+    }
+
+    @Test
+    void repeatsCountedWithinWindow() {
+        long fingerprint = 42L;
+        assertEquals(1, ThrowableFingerprints.record(fingerprint, 0));
+        assertEquals(2, ThrowableFingerprints.record(fingerprint, 1));
+        assertEquals(3, ThrowableFingerprints.record(fingerprint, 2));
+
+        ThrowableFingerprints.setWindow(10, TimeUnit.NANOSECONDS);
+        assertEquals(1, ThrowableFingerprints.record(fingerprint, 20));
+    }
+
+    @Test
+    void concurrentRepeatsGetDistinctCounts() throws InterruptedException {
+        long fingerprint = ThrowableFingerprints.fingerprint(failure("shared"));
+        int threads = 4;
+        int perThread = 1_000;
+        java.util.Set<Long> counts = java.util.concurrent.ConcurrentHashMap.newKeySet();
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    counts.add(ThrowableFingerprints.record(fingerprint, 0));
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(threads * perThread, counts.size());
+        assertTrue(counts.contains(1L));
+        assertTrue(counts.contains((long) threads * perThread));
+    }
+
+    @Test
+    void referenceSuffixes() {
+        RuntimeException failure = new RuntimeException("Connection refused");
+        StringBuilder first = new StringBuilder("failed");
+        ThrowableFingerprints.appendReference(first, failure, 0x1234L, 1);
+        assertEquals("failed [stack trace #00001234]", first.toString());
+
+        StringBuilder repeat = new StringBuilder("failed");
+        ThrowableFingerprints.appendReference(repeat, failure, 0x1234L, 7);
+        assertEquals("failed [java.lang.RuntimeException: Connection refused; stack trace #00001234, seen 7 times]",
+            repeat.toString());
+    }
+}
@@ -0,0 +1,108 @@
+package com.log4rich.log4j2.bridge;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ThrowableRenderer} - filtering, collapsing and depth limits.
+ */
+class ThrowableRendererTest {
+
+    private static final String NL = System.lineSeparator();
+
+    @AfterEach
+    void reset() {
+        ThrowableRenderer.configure(null, 0, false);
+    }
+
+    private static StackTraceElement frame(String className, String method) {
+        return new StackTraceElement(className, method, "Source.java", 1);
+    }
+
+    private static String render(Throwable throwable) {
+        StringBuilder buffer = new StringBuilder("msg");
+        ThrowableRenderer.active().render(buffer, throwable);
+        return buffer.toString();
+    }
+
+    @Test
+    void disabledWithoutOptions() {
+        assertFalse(ThrowableRenderer.isEnabled());
+        ThrowableRenderer.configure(Collections.<String>emptyList(), 0, false);
+        assertNull(ThrowableRenderer.active());
+    }
+
+    @Test
+    void filteredFramesAreCounted() {
+        ThrowableRenderer.configure(Arrays.asList("java.lang.reflect.", "com.sun.proxy."), 0, false);
+        RuntimeException failure = new RuntimeException("boom");
+        failure.setStackTrace(new StackTraceElement[] {
+            frame("app.Service", "call"),
+            frame("java.lang.reflect.Method", "invoke"),
+            frame("com.sun.proxy.$Proxy1", "call"),
+            frame("app.Controller", "handle")
+        });
+
+        assertEquals("msg" + NL + "java.lang.RuntimeException: boom"
+            + NL + "\tat app.Service.call(Source.java:1)"
+            + NL + "\t... 2 filtered"
+            + NL + "\tat app.Controller.handle(Source.java:1)", render(failure));
+    }
+
+    @Test
+    void commonCauseFramesCollapseAndDepthIsCapped() {
+        ThrowableRenderer.configure(null, 2, false);
+        StackTraceElement main = frame("app.Main", "main");
+        StackTraceElement run = frame("app.Main", "run");
+        java.io.IOException cause = new java.io.IOException("io");
+        cause.setStackTrace(new StackTraceElement[] {
+            frame("app.Dao", "read"), frame("app.Dao", "open"), frame("app.Dao", "connect"), run, main
+        });
+        RuntimeException failure = new RuntimeException("wrapped", cause);
+        failure.setStackTrace(new StackTraceElement[] {
+            frame("app.Service", "a"), frame("app.Service", "b"), frame("app.Service", "c"), run, main
+        });
+
+        // Frames cut by the depth limit and frames shared with the enclosing trace are reported apart
+        assertEquals("msg" + NL + "java.lang.RuntimeException: wrapped"
+            + NL + "\tat app.Service.a(Source.java:1)"
+            + NL + "\tat app.Service.b(Source.java:1)"
+            + NL + "\t... 3 truncated"
+            + NL + "Caused by: java.io.IOException: io"
+            + NL + "\tat app.Dao.read(Source.java:1)"
+            + NL + "\tat app.Dao.open(Source.java:1)"
+            + NL + "\t... 1 truncated"
+            + NL + "\t... 2 more", render(failure));
+    }
+
+    @Test
+    void packagingResolvedAndCached() {
+        ThrowableRenderer.configure(null, 0, true);
+        ThrowableRenderer renderer = ThrowableRenderer.active();
+        ClassLoader loader = getClass().getClassLoader();
+        String jdk = renderer.packagingOf("java.lang.String", loader);
+        assertTrue(jdk.startsWith("[jdk:"), jdk);
+        assertSame(jdk, renderer.packagingOf("java.lang.String", loader));
+        assertEquals("[?:?]", renderer.packagingOf("no.such.Type", loader));
+    }
+
+    @Test
+    void packagingIsCachedPerLoaderButFailuresAreNot() {
+        ThrowableRenderer.configure(null, 0, true);
+        ThrowableRenderer renderer = ThrowableRenderer.active();
+        ClassLoader loader = getClass().getClassLoader();
+        ClassLoader other = new ClassLoader(loader) { };
+
+        String jdk = renderer.packagingOf("java.lang.String", loader);
+        assertSame(jdk, renderer.cachedPackaging("java.lang.String", loader));
+        assertNull(renderer.cachedPackaging("java.lang.String", other));
+
+        assertEquals("[?:?]", renderer.packagingOf("no.such.Type", loader));
+        assertNull(renderer.cachedPackaging("no.such.Type", loader));
+    }
+}
@@ -1,11 +1,17 @@
 package org.apache.logging.log4j;
 
+import com.log4rich.log4j2.bridge.CapturedEvents;
 import org.apache.logging.log4j.message.DefaultMessageFactory;
 import org.apache.logging.log4j.message.MessageFactory;
+import org.apache.logging.log4j.message.MessageTemplate;
 import org.apache.logging.log4j.spi.ExtendedLogger;
+import org.apache.logging.log4j.spi.Log4RichLogger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -25,6 +31,15 @@ class LoggerTest {
         assertEquals("test.LoggerTest", logger.getName());
     }
 
+    @Test
+    void bridgeLoggerAcceptsMixedPrimitiveAndBoxedArguments() {
+        // Compiles only while Log4RichLogger adds no primitive overloads of the level methods
+        Log4RichLogger bridge = assertInstanceOf(Log4RichLogger.class, logger);
+        Integer boxed = 2;
+        assertDoesNotThrow(() -> bridge.info("a {} b {}", 1, boxed));
+        assertDoesNotThrow(() -> bridge.info("char {} float {}", 'x', 0.1f));
+    }
+
     @Test
     void loggerHasMessageFactory() {
         MessageFactory mf = logger.getMessageFactory();
@@ -153,6 +168,106 @@ class LoggerTest {
         assertDoesNotThrow(() -> logger.debug(() -> "lazy debug", new RuntimeException()));
     }
 
+    // ========== Fixed-arity Overloads ==========
+
+    @Test
+    void infoWithThreeToTenParams() {
+        assertDoesNotThrow(() -> logger.info("{} {} {}", "a", "b", "c"));
+        assertDoesNotThrow(() -> logger.error("{}{}{}{}{}{}{}{}{}{}", 0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+    }
+
+    @Test
+    void markerWithOneToTenParams() {
+        Marker marker = MarkerManager.getMarker("LoggerTest.FIXED");
+        CapturedEvents.start();
+        logger.error(marker, "fixed {}", "one");
+        logger.error(marker, "fixed {} {}", "one", "two");
+        logger.error(marker, "fixed {} {} {}", "a", "b", "c");
+        logger.error(marker, "fixed {}{}{}{}{}{}{}{}{}{}", 0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        String events = String.join("\n", CapturedEvents.events());
+        assertTrue(events.contains("[LoggerTest.FIXED] fixed one\n"), events);
+        assertTrue(events.contains("[LoggerTest.FIXED] fixed one two"), events);
+        assertTrue(events.contains("fixed a b c"), events);
+        assertTrue(events.contains("fixed 0123456789"), events);
+    }
+
+    @Test
+    void charSequenceMessagesAreNotCopiedWithToString() {
+        CharSequence message = new CharSequence() {
+            private final String text = "char sequence body";
+            @Override public int length() { return text.length(); }
+            @Override public char charAt(int index) { return text.charAt(index); }
+            @Override public CharSequence subSequence(int start, int end) { return text.subSequence(start, end); }
+            @Override public String toString() { throw new AssertionError("toString() copies the message"); }
+        };
+        CapturedEvents.start();
+        logger.error(message);
+        logger.log(Level.ERROR, message, new IllegalStateException("cs"));
+        ((ExtendedLogger) logger).logIfEnabled("test.FQCN", Level.ERROR, null, message, null);
+        String events = String.join("\n", CapturedEvents.events());
+        assertTrue(events.contains("ERROR char sequence body"), events);
+        assertTrue(events.contains("java.lang.IllegalStateException: cs"), events);
+    }
+
+    @Test
+    void logIfEnabledWithFixedArityParams() {
+        ExtendedLogger ext = (ExtendedLogger) logger;
+        assertDoesNotThrow(() ->
+            ext.logIfEnabled("test.FQCN", Level.WARN, null, "{} {} {} {}", "a", "b", "c", "d"));
+        assertDoesNotThrow(() ->
+            ext.logIfEnabled("test.FQCN", Level.WARN, null, "{} {} failed", "a", "b", new RuntimeException()));
+    }
+
+    // ========== Parameter Suppliers ==========
+
+    @Test
+    void parameterSuppliersEvaluatedOnlyWhenEnabled() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Object> counted = calls::incrementAndGet;
+        Marker marker = MarkerManager.getMarker("TEST");
+
+        logger.trace("trace {}", counted);
+        logger.trace(marker, "trace {} {}", counted, counted);
+        assertEquals(logger.isTraceEnabled(marker) ? 3 : 0, calls.get());
+
+        calls.set(0);
+        logger.info("info {} {} {}", () -> calls.incrementAndGet(), () -> calls.incrementAndGet(),
+            () -> calls.incrementAndGet());
+        assertEquals(logger.isInfoEnabled() ? 3 : 0, calls.get());
+    }
+
+    @Test
+    void markerParameterSuppliersAreFormatted() {
+        Marker marker = MarkerManager.getMarker("LoggerTest.SUPPLIED");
+        Supplier<Object> one = () -> "one";
+        Supplier<Object> two = () -> "two";
+        CapturedEvents.start();
+        logger.error(marker, "supplied {}", one);
+        logger.error(marker, "supplied {} {}", one, two);
+        String events = String.join("\n", CapturedEvents.events());
+        assertTrue(events.contains("[LoggerTest.SUPPLIED] supplied one\n"), events);
+        assertTrue(events.contains("[LoggerTest.SUPPLIED] supplied one two"), events);
+    }
+
+    @Test
+    void failingParameterSupplierDoesNotThrow() {
+        assertDoesNotThrow(() -> logger.error("body {}", () -> {
+            throw new IllegalStateException("serialisation failed");
+        }));
+    }
+
+    // ========== Message Templates ==========
+
+    @Test
+    void infoWithTemplate() {
+        MessageTemplate template = MessageTemplate.compile("user {} did {}");
+        assertDoesNotThrow(() -> logger.info(template, "alice"));
+        assertDoesNotThrow(() -> logger.info(template, "alice", "login"));
+        assertDoesNotThrow(() -> logger.warn(template, "alice", "login", new RuntimeException()));
+        assertDoesNotThrow(() -> logger.error(template, new RuntimeException()));
+        assertDoesNotThrow(() -> logger.info(MarkerManager.getMarker("TEST"), template, "a", "b", "c"));
+    }
+
     // ========== Marker Overloads ==========
 
     @Test
@@ -51,4 +51,33 @@ class MarkerManagerTest {
         Marker child = MarkerManager.getMarker("HAS_CHILD").addParents(parent);
         assertTrue(child.hasParents());
     }
+
+    @Test
+    void grandparentChangeSeenByDescendants() {
+        Marker root = MarkerManager.getMarker("ANCESTRY_ROOT");
+        Marker middle = MarkerManager.getMarker("ANCESTRY_MIDDLE");
+        Marker leaf = MarkerManager.getMarker("ANCESTRY_LEAF").setParents(middle);
+        assertFalse(leaf.isInstanceOf(root));
+
+        middle.setParents(root);
+        assertTrue(leaf.isInstanceOf(root));
+        assertTrue(leaf.isInstanceOf("ANCESTRY_ROOT"));
+
+        middle.removeParent(root);
+        assertFalse(leaf.isInstanceOf(root));
+    }
+
+    @Test
+    void cyclicHierarchyDoesNotRecurseForever() {
+        Marker a = MarkerManager.getMarker("CYCLE_A");
+        Marker b = MarkerManager.getMarker("CYCLE_B").setParents(a);
+        a.setParents(b);
+        try {
+            assertTrue(a.isInstanceOf(b));
+            assertTrue(b.isInstanceOf(a));
+            assertFalse(a.isInstanceOf("CYCLE_UNKNOWN"));
+        } finally {
+            a.setParents();
+        }
+    }
 }
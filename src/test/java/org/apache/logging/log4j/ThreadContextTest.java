@@ -1,5 +1,6 @@
 package org.apache.logging.log4j;
 
+import org.apache.logging.log4j.spi.ReadOnlyThreadContextMap;
 import org.apache.logging.log4j.spi.ThreadContextMap;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -205,4 +206,13 @@ class ThreadContextTest {
         map.put("spi-key", "spi-value");
         assertEquals("spi-value", map.get("spi-key"));
     }
+
+    @Test
+    void getThreadContextMap2ReflectsContext() {
+        ReadOnlyThreadContextMap map = ThreadContext.getThreadContextMap2();
+        assertNotNull(map);
+        ThreadContext.put("ro-key", "ro-value");
+        assertEquals("ro-value", map.get("ro-key"));
+        assertEquals("ro-value", map.getImmutableMapOrNull().get("ro-key"));
+    }
 }
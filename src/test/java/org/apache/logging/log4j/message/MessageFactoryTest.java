@@ -67,6 +67,23 @@ class MessageFactoryTest {
         assertNotNull(msg);
     }
 
+    @Test
+    void newMessageWithTenParamsFormatsAll() {
+        MessageFactory2 mf2 = factory;
+        Message msg = mf2.newMessage("{}{}{}{}{}{}{}{}{}{}", 0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertEquals("0123456789", msg.getFormattedMessage());
+        assertEquals(10, msg.getParameters().length);
+    }
+
+    @Test
+    void fixedArityTrailingThrowableIsExtracted() {
+        MessageFactory2 mf2 = factory;
+        RuntimeException failure = new RuntimeException("boom");
+        Message msg = mf2.newMessage("{} {} failed", "a", "b", failure);
+        assertSame(failure, msg.getThrowable());
+        assertEquals("a b failed", msg.getFormattedMessage());
+    }
+
     // ========== Message interface ==========
 
     @Test
@@ -89,4 +106,21 @@ class MessageFactoryTest {
         // Just verify it doesn't throw
         msg.getThrowable();
     }
+
+    @Test
+    void formatToMatchesFormattedMessage() {
+        Message[] messages = {
+            new SimpleMessage("plain"),
+            new ParameterizedMessage("{} and {}", "a", 1),
+            new ObjectMessage(new StringBuilder("chars")),
+            new ObjectMessage(null),
+            new EntryMessage(new ParameterizedMessage("m({})", "x")),
+            new EntryMessage(null)
+        };
+        for (Message message : messages) {
+            StringBuilder buffer = new StringBuilder("> ");
+            ((org.apache.logging.log4j.util.StringBuilderFormattable) message).formatTo(buffer);
+            assertEquals("> " + message.getFormattedMessage(), buffer.toString());
+        }
+    }
 }
@@ -0,0 +1,57 @@
+package org.apache.logging.log4j.message;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link MessageTemplate} - segment layout and template IDs.
+ */
+class MessageTemplateTest {
+
+    @Test
+    void formatsFromSegments() {
+        MessageTemplate template = MessageTemplate.compile("{} -> {} ({})");
+        assertEquals(3, template.getPlaceholderCount());
+        assertEquals("a -> b (c)", template.format("a", "b", "c"));
+        assertEquals("a -> b ({})", template.format("a", "b"));
+        assertEquals("[x, null] -> 1 (c)", template.format(new Object[] {"x", null}, 1, "c", "extra"));
+    }
+
+    @Test
+    void matchesParameterizedMessage() {
+        String pattern = "start {} middle {{}} end {}";
+        assertEquals(new ParameterizedMessage(pattern, "a", "b").getFormattedMessage(),
+            MessageTemplate.compile(pattern).format("a", "b"));
+    }
+
+    @Test
+    void trailingThrowableBeyondPlaceholders() {
+        MessageTemplate template = MessageTemplate.compile("failed {}");
+        RuntimeException failure = new RuntimeException("boom");
+        Object[] extra = {"job", failure};
+        Object[] consumed = {failure};
+        assertSame(failure, template.getThrowable(extra, 2));
+        assertNull(template.getThrowable(consumed, 1));
+    }
+
+    @Test
+    void idIsStableOrExplicit() {
+        MessageTemplate first = MessageTemplate.compile("same {}");
+        MessageTemplate second = MessageTemplate.compile(new String("same {}"));
+        assertEquals(first.getId(), second.getId());
+        assertEquals(16, first.getId().length());
+        assertNotEquals(first.getId(), MessageTemplate.compile("other {}").getId());
+        assertEquals("orders.created", MessageTemplate.compile("orders.created", "order {}").getId());
+    }
+
+    @Test
+    void parametersRenderAsInOtherMessages() {
+        String pattern = "{} took {} ms over {}";
+        MessageTemplate template = MessageTemplate.compile(pattern);
+        Object[] params = {new Object[] {1, new Object[] {2.5, null}}, org.apache.logging.log4j.util.Unbox.box(42L), 7L};
+        assertEquals(com.log4rich.log4j2.bridge.MessageExtractor.extractMessage(pattern, params.clone()),
+            template.format(params));
+        assertEquals("[1, [2.5, null]] took 42 ms over 7", template.format(params));
+    }
+}
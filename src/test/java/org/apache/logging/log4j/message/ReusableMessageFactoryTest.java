@@ -0,0 +1,92 @@
+package org.apache.logging.log4j.message;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ReusableMessageFactory} and its per-thread messages.
+ */
+class ReusableMessageFactoryTest {
+
+    private final ReusableMessageFactory factory = ReusableMessageFactory.INSTANCE;
+
+    @Test
+    void releasedMessageIsReused() {
+        Message first = factory.newMessage("a {}", "b");
+        assertEquals("a b", first.getFormattedMessage());
+        ReusableMessageFactory.release(first);
+
+        Message second = factory.newMessage("c {} {}", "d", "e");
+        assertSame(first, second);
+        assertEquals("c d e", second.getFormattedMessage());
+        ReusableMessageFactory.release(second);
+    }
+
+    @Test
+    void bridgeLogMessageReleasesForWrappers() {
+        // A wrapper (e.g. an SLF4J binding) builds the message and calls logMessage itself
+        org.apache.logging.log4j.spi.ExtendedLogger logger =
+            (org.apache.logging.log4j.spi.ExtendedLogger) org.apache.logging.log4j.LogManager.getLogger("test.ReusableMessageFactoryTest");
+        Message first = factory.newMessage("wrapped {}", "a");
+        logger.logMessage("com.example.Wrapper", org.apache.logging.log4j.Level.ERROR, null, first, null);
+
+        Message second = factory.newMessage("wrapped {}", "b");
+        assertSame(first, second);
+        ReusableMessageFactory.release(second);
+    }
+
+    @Test
+    void reservedMessageIsNotHandedOutTwice() {
+        Message outer = factory.newMessage("outer {}", "x");
+        Message inner = factory.newMessage("inner {}", "y");
+        assertNotSame(outer, inner);
+        assertEquals("inner y", inner.getFormattedMessage());
+        assertEquals("outer x", outer.getFormattedMessage());
+        ReusableMessageFactory.release(inner);
+        ReusableMessageFactory.release(outer);
+    }
+
+    @Test
+    void simpleMessagesAreReused() {
+        Message first = factory.newMessage("plain");
+        assertInstanceOf(ReusableSimpleMessage.class, first);
+        ReusableMessageFactory.release(first);
+        Message second = factory.newMessage((Object) "again");
+        assertSame(first, second);
+        assertEquals("again", second.getFormattedMessage());
+        ReusableMessageFactory.release(second);
+    }
+
+    @Test
+    void matchesParameterizedMessageSemantics() {
+        RuntimeException failure = new RuntimeException("boom");
+        Message reusable = factory.newMessage("{} and {} {}", "a", null, failure);
+        Message immutable = new ParameterizedMessage("{} and {} {}", "a", null, failure);
+        assertEquals(immutable.getFormattedMessage(), reusable.getFormattedMessage());
+        assertSame(failure, reusable.getThrowable());
+        assertArrayEquals(immutable.getParameters(), reusable.getParameters());
+        ReusableMessageFactory.release(reusable);
+    }
+
+    @Test
+    void tenParamsAndLongerVarargs() {
+        Message ten = factory.newMessage("{}{}{}{}{}{}{}{}{}{}", 0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertEquals("0123456789", ten.getFormattedMessage());
+        ReusableMessageFactory.release(ten);
+
+        Object[] eleven = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        Message varargs = factory.newMessage("{}-{}", eleven);
+        assertEquals("0-1", varargs.getFormattedMessage());
+        assertEquals(11, varargs.getParameters().length);
+        ReusableMessageFactory.release(varargs);
+    }
+
+    @Test
+    void releaseDropsParameterReferences() {
+        Message message = factory.newMessage("{}", new Object());
+        ReusableMessageFactory.release(message);
+        assertEquals(0, message.getParameters().length);
+        assertEquals("", message.getFormat());
+    }
+}
@@ -0,0 +1,215 @@
+package org.apache.logging.log4j.spi;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.MessageFactory;
+import org.apache.logging.log4j.message.ReusableMessageFactory;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the fluent {@link LogBuilder} API and {@link DefaultLogBuilder}.
+ */
+class DefaultLogBuilderTest {
+
+    @Test
+    void disabledLevelReturnsSharedNoop() {
+        RecordingLogger logger = new RecordingLogger(Level.INFO);
+        assertSame(LogBuilder.NOOP, logger.atDebug());
+        assertSame(LogBuilder.NOOP, logger.atTrace());
+        logger.atDebug().withThrowable(new RuntimeException()).log("dropped {}", 1);
+        assertTrue(logger.events.isEmpty());
+    }
+
+    @Test
+    void enabledLevelRecyclesBuilder() {
+        RecordingLogger logger = new RecordingLogger(Level.INFO);
+        LogBuilder first = logger.atInfo();
+        first.log("one");
+        LogBuilder second = logger.atWarn();
+        second.log("two");
+        assertSame(first, second);
+    }
+
+    @Test
+    void builderCarriesMarkerThrowableAndParams() {
+        RecordingLogger logger = new RecordingLogger(Level.INFO);
+        Marker marker = MarkerManager.getMarker("DefaultLogBuilderTest.AUDIT");
+        RuntimeException failure = new RuntimeException("boom");
+
+        logger.atError().withMarker(marker).withThrowable(failure).log("user {} failed", "alice");
+
+        assertEquals(1, logger.events.size());
+        Event event = logger.events.get(0);
+        assertEquals(Level.ERROR, event.level);
+        assertSame(marker, event.marker);
+        assertSame(failure, event.throwable);
+        assertEquals("user alice failed", event.message.getFormattedMessage());
+    }
+
+    @Test
+    void charSequenceIsPassedToTheFactoryUncopied() {
+        RecordingLogger logger = new RecordingLogger(Level.INFO, ReusableMessageFactory.INSTANCE);
+        CharSequence message = new CharSequence() {
+            private final String text = "fluent body";
+            @Override public int length() { return text.length(); }
+            @Override public char charAt(int index) { return text.charAt(index); }
+            @Override public CharSequence subSequence(int start, int end) { return text.subSequence(start, end); }
+            @Override public String toString() { throw new AssertionError("toString() copies the message"); }
+        };
+
+        logger.atInfo().log(message);
+
+        assertEquals(1, logger.events.size());
+        assertEquals("fluent body", logger.events.get(0).text);
+    }
+
+    @Test
+    void fixedArityParamsFormatWithReusableFactory() {
+        RecordingLogger logger = new RecordingLogger(Level.INFO, ReusableMessageFactory.INSTANCE);
+
+        logger.atInfo().log("{} {} {}", "a", "b", "c");
+        logger.atWarn().log("{}{}{}{}{}{}{}{}{}{}", 0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        assertEquals(2, logger.events.size());
+        assertEquals("a b c", logger.events.get(0).text);
+        assertEquals("0123456789", logger.events.get(1).text);
+    }
+
+    @Test
+    void recycledBuilderDoesNotLeakPreviousState() {
+        RecordingLogger logger = new RecordingLogger(Level.INFO);
+        logger.atWarn().withMarker(MarkerManager.getMarker("DefaultLogBuilderTest.OLD"))
+              .withThrowable(new RuntimeException()).log("first");
+        logger.atInfo().log("second");
+
+        Event second = logger.events.get(1);
+        assertNull(second.marker);
+        assertNull(second.throwable);
+        assertNull(second.location);
+    }
+
+    @Test
+    void nestedBuilderWhileOuterInUseIsDistinct() {
+        RecordingLogger logger = new RecordingLogger(Level.INFO);
+        LogBuilder outer = logger.atInfo();
+        LogBuilder inner = logger.atWarn();
+        assertNotSame(outer, inner);
+        inner.log("inner");
+        outer.log("outer");
+        assertEquals(Level.WARN, logger.events.get(0).level);
+        assertEquals(Level.INFO, logger.events.get(1).level);
+    }
+
+    @Test
+    void danglingBuilderDoesNotDisableRecycling() {
+        RecordingLogger logger = new RecordingLogger(Level.INFO);
+        LogBuilder dangling = logger.atWarn().withThrowable(new RuntimeException("never logged"));
+
+        LogBuilder first = logger.atInfo();
+        first.log("one");
+        LogBuilder second = logger.atInfo();
+        second.log("two");
+
+        assertNotSame(dangling, first);
+        assertSame(first, second);
+        assertEquals(2, logger.events.size());
+    }
+
+    @Test
+    void withLocationCapturesCaller() {
+        RecordingLogger logger = new RecordingLogger(Level.INFO);
+        logger.atInfo().withLocation().log("here");
+
+        StackTraceElement location = logger.events.get(0).location;
+        assertNotNull(location);
+        assertEquals(DefaultLogBuilderTest.class.getName(), location.getClassName());
+        assertEquals("withLocationCapturesCaller", location.getMethodName());
+    }
+
+    @Test
+    void suppliersResolvedOnlyWhenEnabled() {
+        RecordingLogger logger = new RecordingLogger(Level.INFO);
+        logger.atDebug().log("value {}", () -> fail("supplier evaluated for disabled level"));
+        logger.atInfo().log("value {}", () -> 42);
+        assertEquals("value 42", logger.events.get(0).message.getFormattedMessage());
+    }
+
+    @Test
+    void bridgeLoggerSupportsFluentApi() {
+        org.apache.logging.log4j.Logger logger = LogManager.getLogger("test.DefaultLogBuilderTest");
+        assertDoesNotThrow(() -> logger.atInfo().withLocation().log("fluent {}", "info"));
+        assertDoesNotThrow(() -> logger.atLevel(Level.ERROR).withThrowable(new RuntimeException()).log());
+    }
+
+    private static final class Event {
+        final Level level;
+        final Marker marker;
+        final StackTraceElement location;
+        final Message message;
+        final Throwable throwable;
+        // Rendered while logging, before a reusable message is released
+        final String text;
+
+        Event(Level level, Marker marker, StackTraceElement location, Message message, Throwable throwable) {
+            this.level = level;
+            this.marker = marker;
+            this.location = location;
+            this.message = message;
+            this.throwable = throwable;
+            StringBuilder buffer = new StringBuilder();
+            if (message instanceof StringBuilderFormattable) {
+                ((StringBuilderFormattable) message).formatTo(buffer);
+            } else if (message != null) {
+                buffer.append(message.getFormattedMessage());
+            }
+            this.text = buffer.toString();
+        }
+    }
+
+    /** Records events at or above a fixed level. */
+    private static final class RecordingLogger extends AbstractLogger {
+        final List<Event> events = new ArrayList<>();
+        final Level threshold;
+
+        RecordingLogger(Level threshold) {
+            super("test.RecordingLogger");
+            this.threshold = threshold;
+        }
+
+        RecordingLogger(Level threshold, MessageFactory messageFactory) {
+            super("test.RecordingLogger", messageFactory);
+            this.threshold = threshold;
+        }
+
+        @Override
+        public Level getLevel() {
+            return threshold;
+        }
+
+        @Override
+        public boolean isEnabled(Level level, Marker marker, Message message, Throwable throwable) {
+            return level.isMoreSpecificThan(threshold);
+        }
+
+        @Override
+        public void logMessage(String fqcn, Level level, Marker marker, Message message, Throwable throwable) {
+            events.add(new Event(level, marker, null, message, throwable));
+        }
+
+        @Override
+        public void logMessage(Level level, Marker marker, String fqcn, StackTraceElement location,
+                               Message message, Throwable throwable) {
+            events.add(new Event(level, marker, location, message, throwable));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.apache.logging.log4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for {@link StackLocatorUtil} - caller lookups used by LogManager.
+ */
+class StackLocatorUtilTest {
+
+    @Test
+    void callerClassAtDepthZeroIsImmediateCaller() {
+        assertEquals(StackLocatorUtilTest.class, StackLocatorUtil.getCallerClass(0));
+    }
+
+    @Test
+    void callerClassAtDepthOneIsCallersCaller() {
+        assertEquals(StackLocatorUtilTest.class, Helper.callerOfHelper());
+    }
+
+    @Test
+    void callerClassLoaderMatchesCaller() {
+        assertEquals(StackLocatorUtilTest.class.getClassLoader(), StackLocatorUtil.getCallerClassLoader(0));
+    }
+
+    @Test
+    void stackTraceElementAtDepthZeroIsThisMethod() {
+        StackTraceElement element = StackLocatorUtil.getStackTraceElement(0);
+        assertEquals(StackLocatorUtilTest.class.getName(), element.getClassName());
+        assertEquals("stackTraceElementAtDepthZeroIsThisMethod", element.getMethodName());
+    }
+
+    @Test
+    void calcLocationSkipsLoggerFrames() {
+        StackTraceElement location = Helper.locate();
+        assertEquals(StackLocatorUtilTest.class.getName(), location.getClassName());
+        assertEquals("calcLocationSkipsLoggerFrames", location.getMethodName());
+    }
+
+    @Test
+    void calcLocationKeepsOverloadsApart() {
+        // Both overloads call locate() at the same bytecode index, on different lines
+        StackTraceElement first = locateFrom(0);
+        StackTraceElement second = locateFrom("0");
+        assertNotEquals(first.getLineNumber(), second.getLineNumber());
+        assertEquals(first, locateFrom(1));
+        assertEquals(second, locateFrom("1"));
+    }
+
+    private static StackTraceElement locateFrom(int ignored) {
+        return Helper.locate();
+    }
+
+    private static StackTraceElement locateFrom(String ignored) {
+        return Helper.locate();
+    }
+
+    @Test
+    void callerClassAfterSentinel() {
+        assertEquals(StackLocatorUtilTest.class, Helper.afterSentinel());
+    }
+
+    @Test
+    void currentStackTraceStartsWithLocator() {
+        assertEquals(StackLocatorUtil.class, StackLocatorUtil.getCurrentStackTrace().peekFirst());
+    }
+
+    @Test
+    void logManagerNamesLoggerAfterCaller() {
+        assertEquals(StackLocatorUtilTest.class.getName(),
+            org.apache.logging.log4j.LogManager.getLogger().getName());
+    }
+
+    @Test
+    void multiReleaseRunLoadsStackWalkerVariant() {
+        // Set by the test-java9 surefire execution only
+        assumeTrue(Boolean.getBoolean("log4rich.test.multiRelease"));
+        URL resource = StackLocatorUtil.class.getResource("StackLocatorUtil.class");
+        assertTrue(resource.toString().contains("META-INF/versions/9"), resource.toString());
+    }
+
+    private static final class Helper {
+        static Class<?> callerOfHelper() {
+            return StackLocatorUtil.getCallerClass(1);
+        }
+
+        static StackTraceElement locate() {
+            return StackLocatorUtil.calcLocation(Helper.class.getName());
+        }
+
+        static Class<?> afterSentinel() {
+            return StackLocatorUtil.getCallerClass(Helper.class);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.apache.logging.log4j.util;
+
+import com.log4rich.log4j2.bridge.CapturedEvents;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.logging.log4j.util.Unbox.box;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link Unbox} - rendering and per-thread recycling.
+ */
+class UnboxTest {
+
+    @Test
+    void rendersLikeToString() {
+        assertEquals("42", box(42).toString());
+        assertEquals(Long.toString(Long.MIN_VALUE), box(Long.MIN_VALUE).toString());
+        assertEquals("0.1", box(0.1).toString());
+        assertEquals("0.1", box(0.1f).toString());
+        assertEquals("x", box('x').toString());
+        assertEquals("true", box(true).toString());
+        assertEquals("-3", box((byte) -3).toString());
+        assertEquals("7", box((short) 7).toString());
+    }
+
+    @Test
+    void buildersAreRecycledAfterTheRingWraps() {
+        StringBuilder first = box(1L);
+        for (int i = 1; i < Unbox.getRingbufferSize(); i++) {
+            assertNotSame(first, box(i));
+        }
+        assertSame(first, box(2L));
+        assertEquals("2", first.toString());
+    }
+
+    @Test
+    void boxedValuesFormatAsParameters() {
+        Logger logger = LogManager.getLogger("test.UnboxTest");
+        CapturedEvents.start();
+        logger.error("took {} ms over {} calls", box(1500L), box(3));
+        assertTrue(CapturedEvents.contains("ERROR took 1500 ms over 3 calls"));
+    }
+}